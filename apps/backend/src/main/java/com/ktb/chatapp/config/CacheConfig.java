@@ -1,5 +1,6 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.dto.UserSummary;
 import java.time.Duration;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -9,6 +10,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -43,4 +45,27 @@ public class CacheConfig {
                 template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
                 return template;
         }
+
+        /**
+         * 사용자 캐시 전용 템플릿 (값은 {@link UserSummaryRedisSerializer} 바이너리 형식)
+         */
+        @Bean
+        public RedisTemplate<String, UserSummary> userSummaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+                RedisTemplate<String, UserSummary> template = new RedisTemplate<>();
+                template.setConnectionFactory(connectionFactory);
+                template.setKeySerializer(new StringRedisSerializer());
+                template.setValueSerializer(new UserSummaryRedisSerializer());
+                return template;
+        }
+
+        /**
+         * 노드 간 캐시 무효화 메시지 수신용 컨테이너
+         * 리스너는 각 캐시가 애플리케이션 기동 완료 후 등록한다.
+         */
+        @Bean
+        public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(connectionFactory);
+                return container;
+        }
 }
@@ -1,6 +1,9 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.security.CachingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.nio.charset.StandardCharsets;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -20,6 +23,9 @@ public class JwtConfig {
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
+    @Value("${app.jwt.cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+
     /**
      * JwtEncoder 빈 생성
      * JWT 토큰 생성을 위한 표준 인코더
@@ -36,9 +42,10 @@ public class JwtConfig {
     /**
      * NimbusJwtDecoder 빈 생성
      * Spring Security 6의 표준 JWT 디코더 사용
+     * 검증된 토큰은 만료 시각까지 캐시하여 REST 필터와 JwtService에서 재검증하지 않는다.
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
         SecretKeySpec secretKey = new SecretKeySpec(
             jwtSecret.getBytes(StandardCharsets.UTF_8),
             "HmacSHA256"
@@ -55,7 +62,9 @@ public class JwtConfig {
         // 기본 검증기와 커스텀 검증기를 조합
         decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(defaultValidators, validator));
 
-        return decoder;
+        CachingJwtDecoder cachingDecoder = new CachingJwtDecoder(decoder, jwtCacheMaxSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, cachingDecoder.getCache(), "jwt");
+        return cachingDecoder;
     }
 
     /**
@@ -10,6 +10,7 @@ import com.corundumstudio.socketio.store.RedissonStoreFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ktb.chatapp.websocket.socketio.ChatDataStore;
+import com.ktb.chatapp.websocket.socketio.HandshakeAdmissionController;
 import com.ktb.chatapp.websocket.socketio.RedisChatDataStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -36,6 +37,9 @@ public class SocketIOConfig {
     @Value("${socketio.server.port:5002}")
     private Integer port;
 
+    @Value("${socketio.server.worker-threads:0}")
+    private int workerThreads;
+
     @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
 
@@ -67,6 +71,8 @@ public class SocketIOConfig {
         com.corundumstudio.socketio.Configuration config = new com.corundumstudio.socketio.Configuration();
         config.setHostname(host);
         config.setPort(port);
+        // 핸드셰이크 입장 한도(HandshakeAdmissionController)도 같은 값으로 워커 수를 계산한다
+        config.setWorkerThreads(HandshakeAdmissionController.resolveWorkerThreads(workerThreads));
         
         var socketConfig = new SocketConfig();
         socketConfig.setReuseAddress(true);
@@ -0,0 +1,80 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.dto.UserSummary;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 사용자 캐시 값 직렬화
+ * JSON(클래스명, 필드명 포함) 대신 [버전 1바이트][null 아닌 필드 비트마스크 1바이트][필드별 UTF-8 문자열] 순서로 기록한다.
+ * 모든 필드가 null인 요약(없음 표시)은 2바이트가 된다.
+ * 형식을 바꾸면 VERSION을 올리고, 읽을 수 없는 버전은 예외를 던져 캐시 미스로 처리되게 한다.
+ */
+public class UserSummaryRedisSerializer implements RedisSerializer<UserSummary> {
+
+    static final byte VERSION = 1;
+
+    private static final int ID = 1;
+    private static final int NAME = 1 << 1;
+    private static final int EMAIL = 1 << 2;
+    private static final int PROFILE_IMAGE = 1 << 3;
+
+    @Override
+    public byte[] serialize(UserSummary user) throws SerializationException {
+        if (user == null) {
+            return null;
+        }
+        int flags = (user.id() != null ? ID : 0)
+                | (user.name() != null ? NAME : 0)
+                | (user.email() != null ? EMAIL : 0)
+                | (user.profileImage() != null ? PROFILE_IMAGE : 0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(flags);
+            writeIfPresent(out, user.id());
+            writeIfPresent(out, user.name());
+            writeIfPresent(out, user.email());
+            writeIfPresent(out, user.profileImage());
+        } catch (IOException e) {
+            throw new SerializationException("사용자 캐시 값을 직렬화할 수 없습니다.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public UserSummary deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new SerializationException("지원하지 않는 사용자 캐시 형식 버전: " + version);
+            }
+            int flags = in.readUnsignedByte();
+            return new UserSummary(
+                    readIfPresent(in, flags, ID),
+                    readIfPresent(in, flags, NAME),
+                    readIfPresent(in, flags, EMAIL),
+                    readIfPresent(in, flags, PROFILE_IMAGE));
+        } catch (IOException e) {
+            throw new SerializationException("사용자 캐시 값을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static void writeIfPresent(DataOutputStream out, String value) throws IOException {
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readIfPresent(DataInputStream in, int flags, int field) throws IOException {
+        return (flags & field) != 0 ? in.readUTF() : null;
+    }
+}
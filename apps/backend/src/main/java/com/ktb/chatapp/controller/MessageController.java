@@ -1,6 +1,15 @@
 package com.ktb.chatapp.controller;
 
+import com.ktb.chatapp.dto.ReactorsResponse;
+import com.ktb.chatapp.dto.ReadersResponse;
 import com.ktb.chatapp.dto.StandardResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.security.SessionAwareJwtAuthenticationConverter;
+import com.ktb.chatapp.service.UserCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,15 +21,26 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 메시지 시스템 REST API 컨트롤러
  *
  * - GET /api/message/rooms/:roomId/messages → 500 에러 (미구현)
- * - 모든 메시지 기능은 Socket.IO를 통해 제공됨
+ * - GET /api/message/rooms/:roomId/messages/:messageId/reactions → 리액션 사용자 목록 페이지
+ * - GET /api/message/rooms/:roomId/messages/:messageId/readers → 읽은 사용자 목록 페이지
+ * - 그 외 메시지 기능은 Socket.IO를 통해 제공됨
  */
 @Tag(name = "메시지 (Messages)", description = "메시지 관련 API (주의: 실제 메시지 기능은 Socket.IO를 통해 제공됩니다)")
 @Slf4j
@@ -29,6 +49,12 @@ import java.security.Principal;
 @RequestMapping("/api/message")
 public class MessageController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final MessageRepository messageRepository;
+    private final RoomRepository roomRepository;
+    private final UserCacheService userCacheService;
+
     /**
      * 채팅방 메시지 조회 - 미구현 (500 반환)
      * 실제 메시지 조회는 Socket.IO의 'fetchPreviousMessages' 이벤트를 사용하세요.
@@ -55,4 +81,129 @@ public class MessageController {
                 StandardResponse.error("미구현.")
         );
     }
+
+    /**
+     * 리액션 사용자 목록 페이지 조회
+     * 메시지 응답에는 리액션별 앞쪽 일부 사용자만 포함되므로 나머지는 이 API로 나눠 받는다.
+     */
+    @Operation(summary = "리액션 사용자 목록 조회", description = "메시지의 특정 리액션을 남긴 사용자를 offset부터 limit명씩 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = ReactorsResponse.class))),
+        @ApiResponse(responseCode = "400", description = "올바르지 않은 리액션",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "채팅방 참여자가 아님",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "메시지를 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @GetMapping("/rooms/{roomId}/messages/{messageId}/reactions")
+    public ResponseEntity<?> getReactors(
+            @Parameter(description = "채팅방 ID") @PathVariable String roomId,
+            @Parameter(description = "메시지 ID") @PathVariable String messageId,
+            @Parameter(description = "리액션 이모지") @RequestParam String reaction,
+            @Parameter(description = "시작 위치", example = "0") @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "조회할 사용자 수", example = "50") @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        if (!isParticipant(roomId, authentication)) {
+            return ResponseEntity.status(403).body(StandardResponse.error("채팅방 접근 권한이 없습니다."));
+        }
+        // 리액션은 프로젝션 경로(reactions.<emoji>)로 쓰이므로 소켓 핸들러와 같은 규칙으로 거른다
+        if (!Message.isValidReaction(reaction)) {
+            return ResponseEntity.status(400).body(StandardResponse.error("올바르지 않은 리액션입니다."));
+        }
+
+        int safeOffset = Math.max(0, offset);
+        int safeLimit = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        Optional<Message> messageOpt = messageRepository.findReactors(messageId, reaction, safeOffset, safeLimit)
+                .filter(message -> roomId.equals(message.getRoomId()));
+        if (messageOpt.isEmpty()) {
+            return ResponseEntity.status(404).body(StandardResponse.error("메시지를 찾을 수 없습니다."));
+        }
+
+        Message message = messageOpt.get();
+        Set<String> userIds = message.getReactions() != null
+                ? message.getReactions().getOrDefault(reaction, Set.of())
+                : Set.of();
+        Map<String, UserSummary> users = userCacheService.getUsers(new LinkedHashSet<>(userIds));
+        List<UserResponse> reactors = userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(UserResponse::from)
+                .toList();
+        int total = message.getReactionCount(reaction);
+
+        return ResponseEntity.ok(ReactorsResponse.builder()
+                .messageId(messageId)
+                .reaction(reaction)
+                .total(total)
+                .offset(safeOffset)
+                .hasMore(safeOffset + userIds.size() < total)
+                .users(reactors)
+                .build());
+    }
+
+    /**
+     * 읽은 사용자 목록 페이지 조회
+     * 메시지 응답에는 읽은 사용자 수와 본인 읽음 여부만 포함되므로 명단은 이 API로 나눠 받는다.
+     */
+    @Operation(summary = "읽은 사용자 목록 조회", description = "메시지를 읽은 사용자를 읽은 순서대로 offset부터 limit명씩 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = ReadersResponse.class))),
+        @ApiResponse(responseCode = "403", description = "채팅방 참여자가 아님",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "메시지를 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @GetMapping("/rooms/{roomId}/messages/{messageId}/readers")
+    public ResponseEntity<?> getReaders(
+            @Parameter(description = "채팅방 ID") @PathVariable String roomId,
+            @Parameter(description = "메시지 ID") @PathVariable String messageId,
+            @Parameter(description = "시작 위치", example = "0") @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "조회할 사용자 수", example = "50") @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        if (!isParticipant(roomId, authentication)) {
+            return ResponseEntity.status(403).body(StandardResponse.error("채팅방 접근 권한이 없습니다."));
+        }
+
+        int safeOffset = Math.max(0, offset);
+        int safeLimit = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        Optional<Message> messageOpt = messageRepository.findReaders(messageId, safeOffset, safeLimit)
+                .filter(message -> roomId.equals(message.getRoomId()));
+        if (messageOpt.isEmpty()) {
+            return ResponseEntity.status(404).body(StandardResponse.error("메시지를 찾을 수 없습니다."));
+        }
+
+        Message message = messageOpt.get();
+        List<Message.MessageReader> page = message.getReaders() != null ? message.getReaders() : List.of();
+        Set<String> userIds = page.stream()
+                .map(Message.MessageReader::getUserId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, UserSummary> users = userCacheService.getUsers(userIds);
+        List<ReadersResponse.Reader> readers = page.stream()
+                .filter(reader -> users.containsKey(reader.getUserId()))
+                .map(reader -> ReadersResponse.Reader.builder()
+                        .user(UserResponse.from(users.get(reader.getUserId())))
+                        .readAt(reader.getReadAt() != null
+                                ? reader.getReadAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                                : 0L)
+                        .build())
+                .toList();
+        int total = message.countReaders();
+
+        return ResponseEntity.ok(ReadersResponse.builder()
+                .messageId(messageId)
+                .total(total)
+                .offset(safeOffset)
+                .hasMore(safeOffset + page.size() < total)
+                .readers(readers)
+                .build());
+    }
+
+    // principal 이름은 이메일이므로 참여자 ID와 비교할 사용자 ID는 Details에서 꺼낸다
+    private boolean isParticipant(String roomId, Authentication authentication) {
+        String userId = SessionAwareJwtAuthenticationConverter.userId(authentication);
+        return userId != null && roomRepository.isParticipant(roomId, userId);
+    }
 }
@@ -3,10 +3,11 @@ package com.ktb.chatapp.controller;
 import com.ktb.chatapp.annotation.RateLimit;
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.security.SessionAwareJwtAuthenticationConverter;
+import com.ktb.chatapp.service.RoomActivityCounter;
 import com.ktb.chatapp.service.RoomService;
+import com.ktb.chatapp.service.UserCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,15 +21,19 @@ import jakarta.validation.Valid;
 import java.security.Principal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "채팅방 (Rooms)", description = "채팅방 생성 및 관리 API - 채팅방 목록 조회, 생성, 참여, 헬스체크")
@@ -38,9 +43,10 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/rooms")
 public class RoomController {
 
-    private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
+    private final UserCacheService userCacheService;
+    private final RoomActivityCounter roomActivityCounter;
     private final RoomService roomService;
+    private final RoomRepository roomRepository;
 
     @Value("${spring.profiles.active:production}")
     private String activeProfile;
@@ -86,6 +92,8 @@ public class RoomController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "채팅방 목록 조회 성공",
             content = @Content(schema = @Schema(implementation = RoomsResponse.class))),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "429", description = "요청 한도 초과",
@@ -102,6 +110,7 @@ public class RoomController {
             @Parameter(description = "정렬 필드", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sortField,
             @Parameter(description = "정렬 순서 (asc/desc)", example = "desc") @RequestParam(defaultValue = "desc") String sortOrder,
             @Parameter(description = "검색어 (채팅방 이름)", example = "프로젝트") @RequestParam(required = false) String search,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 metadata.nextCursor, 있으면 page 대신 사용)") @RequestParam(required = false) String cursor,
             Principal principal) {
 
         try {
@@ -112,6 +121,7 @@ public class RoomController {
             pageRequest.setSortField(sortField);
             pageRequest.setSortOrder(sortOrder);
             pageRequest.setSearch(search);
+            pageRequest.setCursor(cursor != null && !cursor.isBlank() ? cursor : null);
 
             // 서비스에서 페이지네이션 처리
             RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest, principal.getName());
@@ -122,6 +132,8 @@ public class RoomController {
                 .header("Last-Modified", java.time.Instant.now().toString())
                 .body(response);
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(StandardResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("방 목록 조회 에러", e);
 
@@ -229,6 +241,50 @@ public class RoomController {
         }
     }
 
+    /**
+     * 참여자 목록 페이지 조회
+     * 방 목록에는 참여자 수와 앞쪽 일부 참여자만 포함되므로 전체 명단은 이 API로 나눠 받는다.
+     */
+    @Operation(summary = "채팅방 참여자 목록 조회", description = "채팅방 참여자를 참여 순서대로 offset부터 limit명씩 조회합니다. 채팅방 참여자만 조회할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = ParticipantsResponse.class))),
+        @ApiResponse(responseCode = "401", description = "인증 실패",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "채팅방 참여자가 아님",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @GetMapping("/{roomId}/participants")
+    public ResponseEntity<?> getParticipants(
+            @Parameter(description = "채팅방 ID", example = "60d5ec49f1b2c8b9e8c4f2a1") @PathVariable String roomId,
+            @Parameter(description = "시작 위치", example = "0") @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "조회할 참여자 수", example = "50") @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        try {
+            // principal 이름은 이메일이므로 참여자 ID와 비교할 사용자 ID는 Details에서 꺼낸다
+            String userId = SessionAwareJwtAuthenticationConverter.userId(authentication);
+            if (userId == null || !roomRepository.isParticipant(roomId, userId)) {
+                return ResponseEntity.status(403).body(StandardResponse.error("채팅방 접근 권한이 없습니다."));
+            }
+            Optional<ParticipantsResponse> response = roomService.getParticipants(roomId, offset, limit);
+            if (response.isEmpty()) {
+                return ResponseEntity.status(404).body(
+                    StandardResponse.error("채팅방을 찾을 수 없습니다.")
+                );
+            }
+            return ResponseEntity.ok(response.get());
+        } catch (Exception e) {
+            log.error("채팅방 참여자 조회 에러", e);
+            return ResponseEntity.status(500).body(
+                StandardResponse.error("참여자 목록을 불러오는데 실패했습니다.")
+            );
+        }
+    }
+
     @Operation(summary = "채팅방 참여", description = "채팅방에 참여합니다. 비공개 방인 경우 비밀번호가 필요합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "채팅방 참여 성공",
@@ -282,28 +338,33 @@ public class RoomController {
     }
 
     private RoomResponse mapToRoomResponse(Room room, String name) {
-        User creator = userRepository.findById(room.getCreator()).orElse(null);
+        // 작성자와 참가자를 사용자 캐시에서 한 번에 조회
+        Set<String> userIds = new HashSet<>(room.getParticipantIds());
+        userIds.add(room.getCreator());
+        Map<String, UserSummary> users = userCacheService.getUsers(userIds);
+
+        UserSummary creator = users.get(room.getCreator());
         if (creator == null) {
             throw new RuntimeException("Creator not found for room " + room.getId());
         }
         UserResponse creatorSummary = UserResponse.from(creator);
         List<UserResponse> participantSummaries = room.getParticipantIds()
                 .stream()
-                .map(userRepository::findById).peek(optUser -> {
-                    if (optUser.isEmpty()) {
-                        log.warn("Participant not found: roomId={}, userId={}", room.getId(), optUser);
+                .map(id -> {
+                    UserSummary participant = users.get(id);
+                    if (participant == null) {
+                        log.warn("Participant not found: roomId={}, userId={}", room.getId(), id);
                     }
+                    return participant;
                 })
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+                .filter(Objects::nonNull)
                 .map(UserResponse::from)
                 .toList();
 
         boolean isCreator = room.getCreator().equals(name);
 
-        // 최근 10분간 메시지 수 조회
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-        long recentMessageCount = messageRepository.countRecentMessagesByRoomId(room.getId(), tenMinutesAgo);
+        // 최근 메시지 수 조회 (분 단위 활동 카운터)
+        long recentMessageCount = roomActivityCounter.recentCount(room.getId());
 
         return RoomResponse.builder()
                 .id(room.getId())
@@ -314,6 +375,8 @@ public class RoomController {
                 .createdAtDateTime(room.getCreatedAt() != null ? room.getCreatedAt() : LocalDateTime.now())
                 .isCreator(isCreator)
                 .recentMessageCount((int) recentMessageCount)
+                .lastMessageAtDateTime(room.getLastMessageAt())
+                .lastMessagePreview(room.getLastMessagePreview())
                 .build();
     }
 }
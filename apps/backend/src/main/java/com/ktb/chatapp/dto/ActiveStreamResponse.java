@@ -21,4 +21,6 @@ public class ActiveStreamResponse {
     private String content;
     private String timestamp;  // ISO_INSTANT 형식 문자열 예) 2025-11-07T13:45:30Z
     private boolean isStreaming;
+    private long seq;  // content에 반영된 마지막 청크 번호, 이보다 큰 seq의 aiMessageChunk부터 이어 붙인다
+    private boolean truncated;  // content가 앞부분만 담겼으면 true, 이어 붙이지 말고 다음 fullContent 프레임으로 교체한다
 }
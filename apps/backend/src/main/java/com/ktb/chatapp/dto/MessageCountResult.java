@@ -1,15 +0,0 @@
-package com.ktb.chatapp.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-public class MessageCountResult {
-    private String roomId;
-    private long count;
-}
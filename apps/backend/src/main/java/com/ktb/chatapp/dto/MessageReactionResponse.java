@@ -1,7 +1,6 @@
 package com.ktb.chatapp.dto;
 
 import java.util.Map;
-import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,5 +10,5 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class MessageReactionResponse {
     private String messageId;
-    private Map<String, Set<String>> reactions;
+    private Map<String, ReactionSummary> reactions;
 }
@@ -1,12 +1,9 @@
 package com.ktb.chatapp.dto;
 
 import com.ktb.chatapp.model.AiType;
-import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -39,9 +36,12 @@ public class MessageResponse {
     
     private long timestamp;
     
-    private Map<String, Set<String>> reactions;
+    private Map<String, ReactionSummary> reactions;
     
-    private List<Message.MessageReader> readers;
+    // 읽은 사용자 수와 조회한 사용자의 읽음 여부 (읽은 사용자 목록은 별도 API로 조회)
+    private int readCount;
+
+    private boolean readByMe;
     
     private Map<String, Object> metadata;
 }
@@ -11,10 +11,14 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PageMetadata {
     private long total;
+    // true이면 total/totalPages는 주기적으로 갱신되는 추정치
+    private boolean totalApproximate;
     private int page;
     private int pageSize;
     private long totalPages;
     private boolean hasMore;
+    // 다음 페이지 커서 (키셋 페이지네이션, 마지막 페이지이거나 검색/활동량 정렬이면 null)
+    private String nextCursor;
     private int currentCount;
     private SortInfo sort;
 
@@ -6,6 +6,9 @@ import lombok.Data;
 
 @Data
 public class PageRequest {
+    /** 최근 메시지 수(활동량) 정렬 필드 */
+    public static final String RECENT_MESSAGE_COUNT = "recentMessageCount";
+
     @Min(value = 0, message = "페이지는 0 이상이어야 합니다.")
     private int page = 0;
 
@@ -16,11 +19,15 @@ public class PageRequest {
     private String sortField = "createdAt";
     private String sortOrder = "desc";
     private String search;
+    // 이전 응답의 metadata.nextCursor (있으면 page 대신 사용)
+    private String cursor;
 
     public boolean isValidSortField() {
         return "createdAt".equals(sortField) ||
                "name".equals(sortField) ||
-               "participantsCount".equals(sortField);
+               "participantsCount".equals(sortField) ||
+               "lastMessageAt".equals(sortField) ||
+               RECENT_MESSAGE_COUNT.equals(sortField);
     }
 
     public boolean isValidSortOrder() {
@@ -0,0 +1,22 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 참여자 목록 페이지 응답 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantsResponse {
+    private String roomId;
+    private int total;
+    private int offset;
+    private boolean hasMore;
+    private List<UserResponse> participants;
+}
@@ -0,0 +1,57 @@
+package com.ktb.chatapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ktb.chatapp.model.Message;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리액션 요약 DTO.
+ * 사용자 ID 전체 대신 사용자 수와 앞쪽 일부 사용자만 보낸다.
+ * 전체 목록은 리액션 사용자 조회 API로 나눠 받는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReactionSummary {
+
+    public static final int PREVIEW_SIZE = 3;
+
+    private int count;
+    // 조회한 사용자가 리액션했는지 여부, 방 전체 방송에서는 null (클라이언트가 자기 상태를 유지)
+    private Boolean reacted;
+    private List<String> users;
+
+    /**
+     * 메시지의 리액션별 요약을 만든다.
+     *
+     * @param viewerId 조회한 사용자 ID, 방 전체 방송이면 null
+     */
+    public static Map<String, ReactionSummary> summarize(Message message, String viewerId) {
+        Map<String, Set<String>> reactions = message.getReactions();
+        if (reactions == null || reactions.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, ReactionSummary> summaries = new LinkedHashMap<>();
+        reactions.forEach((reaction, userIds) -> {
+            int count = message.getReactionCount(reaction);
+            if (count <= 0 || userIds == null) {
+                return;
+            }
+            summaries.put(reaction, ReactionSummary.builder()
+                    .count(count)
+                    .reacted(viewerId != null ? userIds.contains(viewerId) : null)
+                    .users(userIds.stream().limit(PREVIEW_SIZE).toList())
+                    .build());
+        });
+        return summaries;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리액션 사용자 목록 페이지 응답 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactorsResponse {
+    private String messageId;
+    private String reaction;
+    private int total;
+    private int offset;
+    private boolean hasMore;
+    private List<UserResponse> users;
+}
@@ -0,0 +1,31 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 읽은 사용자 목록 페이지 응답 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadersResponse {
+    private String messageId;
+    private int total;
+    private int offset;
+    private boolean hasMore;
+    private List<Reader> readers;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Reader {
+        private UserResponse user;
+        private long readAt;
+    }
+}
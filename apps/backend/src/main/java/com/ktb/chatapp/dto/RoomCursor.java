@@ -0,0 +1,80 @@
+package com.ktb.chatapp.dto;
+
+import com.ktb.chatapp.model.Room;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 방 목록 키셋 커서
+ * 마지막으로 받은 방의 정렬 필드 값과 ID를 담으며, 다음 페이지는 (정렬 필드, _id) 순서에서 그 뒤부터 읽는다.
+ * 클라이언트에는 내용을 해석할 필요 없는 base64url 문자열로 전달한다.
+ *
+ * @param sortField 요청 정렬 필드 (createdAt, name, participantsCount, lastMessageAt)
+ * @param value     마지막 방의 정렬 필드 값 (LocalDateTime, String, Integer 또는 null)
+ * @param id        마지막 방 ID
+ */
+public record RoomCursor(String sortField, String sortOrder, Object value, String id) {
+
+    private static final String SEPARATOR = "\u001f";
+
+    public static RoomCursor of(Room room, String sortField, String sortOrder) {
+        Object value = switch (sortField) {
+            case "name" -> room.getName();
+            case "participantsCount" -> room.getParticipantCount();
+            case "lastMessageAt" -> room.getLastMessageAt();
+            default -> room.getCreatedAt();
+        };
+        return new RoomCursor(sortField, sortOrder, value, room.getId());
+    }
+
+    public String encode() {
+        String typed = switch (value) {
+            case null -> "n:";
+            case LocalDateTime dateTime -> "d:" + dateTime;
+            case Integer number -> "i:" + number;
+            default -> "s:" + value;
+        };
+        String raw = String.join(SEPARATOR, sortField, sortOrder, typed, id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static RoomCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 값(방 이름)에 구분자가 있어도 되도록 앞 두 칸과 마지막 칸(ID)을 기준으로 나눈다
+            String[] head = raw.split(SEPARATOR, 3);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (head.length != 3 || last <= head[0].length() + head[1].length() + 1) {
+                throw new IllegalArgumentException("잘못된 커서 형식");
+            }
+            String[] parts = {head[0], head[1],
+                    raw.substring(head[0].length() + head[1].length() + 2, last), raw.substring(last + 1)};
+            if (parts[3].isEmpty() || parts[2].length() < 2 || parts[2].charAt(1) != ':') {
+                throw new IllegalArgumentException("잘못된 커서 형식");
+            }
+            String encodedValue = parts[2].substring(2);
+            Object value = switch (parts[2].charAt(0)) {
+                case 'n' -> null;
+                case 'd' -> LocalDateTime.parse(encodedValue);
+                case 'i' -> Integer.valueOf(encodedValue);
+                case 's' -> encodedValue;
+                default -> throw new IllegalArgumentException("알 수 없는 커서 값 형식");
+            };
+            return new RoomCursor(parts[0], parts[1], value, parts[3]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 같은 정렬 조건으로 만든 커서인지 확인한다.
+     */
+    public boolean matches(String sortField, String sortOrder) {
+        return this.sortField.equals(sortField) && this.sortOrder.equals(sortOrder);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+
+/**
+ * 방 목록 변경 프레임
+ * 일정 간격 동안 생긴 방 생성/변경을 한 번에 보낸다. version은 보낸 노드(node) 안에서 단조 증가하며,
+ * previousVersion은 같은 채널에 직전에 보낸 프레임의 version이다. 받은 마지막 version과 다르면 프레임을 놓친 것이다.
+ *
+ * @param previousVersion 이 채널에 처음 보내는 프레임이면 null
+ * @param truncated       생성된 방이 한 프레임 한도를 넘어 오래된 것이 빠졌음 (created가 목록의 새 앞부분 전체, 첫 페이지 채널만)
+ * @param resync          변경된 방이 한 프레임 한도를 넘어 빠졌거나 검색어에 맞는 방이 빠졌음 (이 프레임을 적용하지 말고 목록을 다시 읽음)
+ * @param created         새 방 (최신순)
+ * @param updated         정보가 바뀐 방 (isCreator는 수신자마다 다르므로 항상 false)
+ */
+public record RoomListDelta(
+        String node,
+        long version,
+        Long previousVersion,
+        boolean truncated,
+        boolean resync,
+        List<RoomResponse> created,
+        List<RoomResponse> updated) {
+}
@@ -0,0 +1,5 @@
+package com.ktb.chatapp.dto;
+
+// 방 목록 구독 범위: query가 비어 있으면 첫 페이지(최신순), 있으면 이름 검색 결과
+public record RoomListSubscription(String query) {
+}
@@ -14,7 +14,7 @@ import java.util.List;
 
 @Schema(description = "채팅방 응답 정보")
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RoomResponse {
@@ -31,9 +31,12 @@ public class RoomResponse {
     @Schema(description = "채팅방 생성자 정보")
     private UserResponse creator;
 
-    @Schema(description = "참여자 목록")
+    @Schema(description = "참여자 미리보기 (목록/방 이벤트에서는 앞쪽 일부만, 전체는 참여자 목록 API로 조회)")
     private List<UserResponse> participants;
 
+    @JsonIgnore
+    private Integer participantCount;
+
     @JsonIgnore
     private LocalDateTime createdAtDateTime;
 
@@ -43,9 +46,18 @@ public class RoomResponse {
     @Schema(description = "최근 10분간 메시지 수", example = "23")
     private Integer recentMessageCount;
 
+    @JsonIgnore
+    private LocalDateTime lastMessageAtDateTime;
+
+    @Schema(description = "마지막 메시지 미리보기 (시스템 메시지 제외)", example = "회의는 3시에 시작합니다")
+    private String lastMessagePreview;
+
     @Schema(description = "참여자 수", example = "5")
     @JsonGetter("participantsCount")
     public int getParticipantsCount() {
+        if (participantCount != null) {
+            return participantCount;
+        }
         return participants != null ? participants.size() : 0;
     }
 
@@ -57,4 +69,12 @@ public class RoomResponse {
                 .toInstant()
                 .toString();
     }
+
+    @Schema(description = "마지막 메시지 시간 (ISO 8601 형식, 메시지가 없으면 null)", example = "2025-11-18T12:40:00.000Z")
+    @JsonGetter("lastMessageAt")
+    public String getLastMessageAt() {
+        return lastMessageAtDateTime != null
+                ? lastMessageAtDateTime.atZone(java.time.ZoneId.systemDefault()).toInstant().toString()
+                : null;
+    }
 }
@@ -24,4 +24,13 @@ public class UserResponse {
                 .profileImage(user.getProfileImage() != null ? user.getProfileImage() : "")
                 .build();
     }
+
+    public static UserResponse from(UserSummary user) {
+        return UserResponse.builder()
+                .id(user.id())
+                .name(user.name())
+                .email(user.email())
+                .profileImage(user.profileImage() != null ? user.profileImage() : "")
+                .build();
+    }
 }
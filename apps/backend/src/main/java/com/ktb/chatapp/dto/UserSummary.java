@@ -0,0 +1,14 @@
+package com.ktb.chatapp.dto;
+
+import com.ktb.chatapp.model.User;
+
+/**
+ * 사용자 캐시와 핫패스(메시지 발신자, 방 참가자, 목록 작성자)에서 쓰는 사용자 요약
+ * users 문서에서 화면에 보이는 필드만 읽으며 password, encryptedEmail, 시각 필드는 담지 않는다.
+ */
+public record UserSummary(String id, String name, String email, String profileImage) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getEmail(), user.getProfileImage());
+    }
+}
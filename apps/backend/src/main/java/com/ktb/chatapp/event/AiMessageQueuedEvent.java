@@ -0,0 +1,24 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * AI 메시지 대기열 등록 이벤트
+ */
+@Getter
+public class AiMessageQueuedEvent extends ApplicationEvent {
+    
+    private final String roomId;
+    private final String messageId;
+    private final String aiType;
+    private final int position;
+    
+    public AiMessageQueuedEvent(Object source, String roomId, String messageId, String aiType, int position) {
+        super(source);
+        this.roomId = roomId;
+        this.messageId = messageId;
+        this.aiType = aiType;
+        this.position = position;
+    }
+}
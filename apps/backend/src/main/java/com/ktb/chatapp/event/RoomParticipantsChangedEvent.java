@@ -0,0 +1,21 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 소켓 입장/퇴장으로 방 참여자가 바뀌었을 때 발행 (REST 참여는 RoomUpdatedEvent)
+ */
+@Getter
+public class RoomParticipantsChangedEvent extends ApplicationEvent {
+    private final String roomId;
+    private final String userId;
+    private final boolean joined;
+
+    public RoomParticipantsChangedEvent(Object source, String roomId, String userId, boolean joined) {
+        super(source);
+        this.roomId = roomId;
+        this.userId = userId;
+        this.joined = joined;
+    }
+}
@@ -9,24 +9,29 @@ public enum AiType {
     WAYNE_AI("Wayne AI",
              "친절하고 도움이 되는 어시스턴트",
              "전문적이고 통찰력 있는 답변을 제공하며, 사용자의 질문을 깊이 이해하고 명확한 설명을 제공합니다.",
-             "전문적이면서도 친근한 톤"),
+             "전문적이면서도 친근한 톤",
+             1500),
     
     @JsonProperty("consultingAI")
     CONSULTING_AI("Consulting AI",
                   "비즈니스 컨설팅 전문가",
                   "비즈니스 전략, 시장 분석, 조직 관리에 대한 전문적인 조언을 제공합니다.",
-                  "전문적이고 분석적인 톤");
+                  "전문적이고 분석적인 톤",
+                  3000);
 
     private final String name;
     private final String role;
     private final String traits;
     private final String tone;
+    // 대화 맥락(요약 + 최근 메시지)에 쓸 수 있는 최대 토큰 수
+    private final int contextTokenBudget;
 
-    AiType(String name, String role, String traits, String tone) {
+    AiType(String name, String role, String traits, String tone, int contextTokenBudget) {
         this.name = name;
         this.role = role;
         this.traits = traits;
         this.tone = tone;
+        this.contextTokenBudget = contextTokenBudget;
     }
 
     public String getSystemPrompt() {
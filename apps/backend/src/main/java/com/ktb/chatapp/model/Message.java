@@ -35,6 +35,8 @@ import java.util.Set;
 })
 public class Message {
 
+    private static final int MAX_REACTION_LENGTH = 32;
+
     @Id
     private String id;
 
@@ -67,10 +69,17 @@ public class Message {
     @Builder.Default
     private Map<String, Set<String>> reactions = new HashMap<>();
 
+    // 리액션별 사용자 수 (reactions와 같은 갱신에서 함께 유지)
+    @Builder.Default
+    private Map<String, Integer> reactionCounts = new HashMap<>();
+
     // 메시지 읽음 상태 관리
     @Builder.Default
     private List<MessageReader> readers = new ArrayList<>();
 
+    // 읽은 사용자 수 (readers와 같은 갱신에서 함께 유지)
+    private Integer readCount;
+
     // 자유 형식 metadata 저장 필드
     @Builder.Default
     private Map<String, Object> metadata = new HashMap<>();
@@ -94,6 +103,39 @@ public class Message {
         return timestamp.atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
     
+    /**
+     * 읽은 사용자 수. 카운트가 없는 이전 문서는 readers 크기로 대신한다.
+     */
+    public int countReaders() {
+        if (readCount != null) {
+            return readCount;
+        }
+        return readers != null ? readers.size() : 0;
+    }
+
+    /**
+     * 리액션은 필드 경로(reactions.&lt;emoji&gt;)로 쓰이므로 경로 구분자와 연산자 접두어를 막는다.
+     */
+    public static boolean isValidReaction(String reaction) {
+        return reaction != null
+                && !reaction.isBlank()
+                && reaction.length() <= MAX_REACTION_LENGTH
+                && reaction.indexOf('.') < 0
+                && !reaction.startsWith("$");
+    }
+
+    /**
+     * 리액션 사용자 수. 카운트가 없는 이전 문서는 사용자 집합 크기로 대신한다.
+     */
+    public int getReactionCount(String reaction) {
+        Integer count = reactionCounts != null ? reactionCounts.get(reaction) : null;
+        if (count != null) {
+            return count;
+        }
+        Set<String> users = reactions != null ? reactions.get(reaction) : null;
+        return users != null ? users.size() : 0;
+    }
+
     /**
      * 메시지에 리액션을 추가한다.
      * Tell, Don't Ask 원칙을 준수하여 도메인 로직을 캡슐화한다.
@@ -108,9 +150,16 @@ public class Message {
         }
         Set<String> userReactions = this.reactions.computeIfAbsent(
             reaction,
-            key -> new java.util.HashSet<>()
+            key -> new java.util.LinkedHashSet<>()
         );
-        return userReactions.add(userId);
+        if (!userReactions.add(userId)) {
+            return false;
+        }
+        if (this.reactionCounts == null) {
+            this.reactionCounts = new HashMap<>();
+        }
+        this.reactionCounts.merge(reaction, 1, Integer::sum);
+        return true;
     }
     
     /**
@@ -129,6 +178,9 @@ public class Message {
             if (userReactions.isEmpty()) {
                 this.reactions.remove(reaction);
             }
+            if (this.reactionCounts != null) {
+                this.reactionCounts.computeIfPresent(reaction, (key, count) -> count > 1 ? count - 1 : null);
+            }
             return true;
         }
         return false;
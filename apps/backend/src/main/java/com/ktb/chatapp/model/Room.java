@@ -1,8 +1,9 @@
 package com.ktb.chatapp.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ktb.chatapp.util.NgramTokenizer;
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,10 +24,17 @@ import org.springframework.data.mongodb.core.mapping.Field;
 @AllArgsConstructor
 @Document(collection = "rooms")
 @CompoundIndexes({
-    @CompoundIndex(name = "name_createdAt_idx", def = "{'name': 1, 'createdAt': -1}")
+    @CompoundIndex(name = "name_createdAt_idx", def = "{'name': 1, 'createdAt': -1}"),
+    // 방 목록 키셋 페이지네이션용 (정렬 필드, _id)
+    @CompoundIndex(name = "createdAt_id_idx", def = "{'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "name_id_idx", def = "{'name': 1, '_id': 1}"),
+    @CompoundIndex(name = "participantCount_id_idx", def = "{'participantCount': -1, '_id': -1}"),
+    @CompoundIndex(name = "lastMessageAt_id_idx", def = "{'lastMessageAt': -1, '_id': -1}")
 })
 public class Room {
 
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
     private String id;
 
@@ -44,10 +52,59 @@ public class Room {
     @Indexed(direction = IndexDirection.DESCENDING)
     private LocalDateTime createdAt;
 
+    // 참가 순서를 유지한다 (참가자 페이지 조회 순서)
     @Field("participantIds")
     @Builder.Default
-    private Set<String> participantIds = new HashSet<>();
+    private Set<String> participantIds = new LinkedHashSet<>();
+
+    // 정렬용 파생 필드 (참가자 수는 참가/퇴장 갱신과 함께, 마지막 메시지는 메시지 저장 시 갱신)
+    private int participantCount;
+
+    private LocalDateTime lastMessageAt;
+
+    private String lastMessagePreview;
+
+    // 이름 검색용 필드 (저장 시 RoomDerivedFieldsCallback이 name에서 만든다)
+    @JsonIgnore
+    @Indexed
+    private Set<String> nameTokens;
+
+    @JsonIgnore
+    private String searchName;
+
+    @JsonIgnore
+    private String nameInitials;
     
+    /**
+     * name에서 검색용 필드를 다시 만든다.
+     */
+    public void refreshSearchFields() {
+        this.searchName = NgramTokenizer.normalize(name);
+        this.nameInitials = NgramTokenizer.initials(searchName);
+        this.nameTokens = NgramTokenizer.indexTokens(name);
+    }
+
+    /**
+     * 방 목록에 보여줄 마지막 메시지 미리보기 (PREVIEW_LENGTH 글자까지, 내용 없는 파일 메시지는 "파일")
+     */
+    public static String previewOf(Message message) {
+        String content = message.getContent() != null ? message.getContent().strip() : "";
+        if (content.isEmpty()) {
+            return message.getType() == MessageType.file ? "파일" : "";
+        }
+        if (content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH)) + "…";
+    }
+
+    /**
+     * participantIds에서 참가자 수를 다시 계산한다.
+     */
+    public void refreshParticipantCount() {
+        this.participantCount = this.participantIds != null ? this.participantIds.size() : 0;
+    }
+
     /**
      * 방에 참가자를 추가한다.
      *
@@ -55,9 +112,10 @@ public class Room {
      */
     public void addParticipant(String userId) {
         if (this.participantIds == null) {
-            this.participantIds = new HashSet<>();
+            this.participantIds = new LinkedHashSet<>();
         }
         this.participantIds.add(userId);
+        refreshParticipantCount();
     }
     
     /**
@@ -69,6 +127,7 @@ public class Room {
         if (this.participantIds != null) {
             this.participantIds.remove(userId);
         }
+        refreshParticipantCount();
     }
     
     /**
@@ -79,13 +138,4 @@ public class Room {
     public boolean isEmpty() {
         return this.participantIds == null || this.participantIds.isEmpty();
     }
-    
-    /**
-     * 방의 참가자 수를 반환한다.
-     *
-     * @return 참가자 수
-     */
-    public int getParticipantCount() {
-        return this.participantIds != null ? this.participantIds.size() : 0;
-    }
 }
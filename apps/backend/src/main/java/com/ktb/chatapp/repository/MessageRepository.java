@@ -1,38 +1,23 @@
 package com.ktb.chatapp.repository;
 
-import com.ktb.chatapp.dto.MessageCountResult;
 import com.ktb.chatapp.model.Message;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MessageRepository extends MongoRepository<Message, String> {
-    Page<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp,
-            Pageable pageable);
-
-    /**
-     * 특정 시간 이후의 메시지 수 카운트 (삭제되지 않은 메시지만)
-     * 최근 N분간 메시지 수를 조회할 때 사용
-     */
-    @Query(value = "{ 'room': ?0, 'isDeleted': false, 'timestamp': { $gte: ?1 } }", count = true)
-    long countRecentMessagesByRoomId(String roomId, LocalDateTime since);
-
+public interface MessageRepository extends MongoRepository<Message, String>, MessageRepositoryCustom {
     /**
-     * 여러 방의 최근 메시지 수 일괄 카운트 (Batch Aggregation)
+     * 방 메시지 페이지 조회
+     * 읽은 사용자 목록(readers)은 방 인원에 비례해 커지므로 제외하고 readCount만 읽는다.
      */
-    @Aggregation(pipeline = {
-            "{ $match: { 'room': { $in: ?0 }, 'isDeleted': false, 'timestamp': { $gte: ?1 } } }",
-            "{ $group: { '_id': '$room', 'count': { $sum: 1 } } }",
-            "{ $project: { 'roomId': '$_id', 'count': 1, '_id': 0 } }"
-    })
-    List<MessageCountResult> countRecentMessagesByRoomIds(List<String> roomIds, LocalDateTime since);
+    @Query(value = "{ 'room': ?0, 'isDeleted': ?1, 'timestamp': { $lt: ?2 } }", fields = "{ 'readers': 0 }")
+    Page<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp,
+            Pageable pageable);
 
     /**
      * fileId로 메시지 조회 (파일 권한 검증용)
@@ -0,0 +1,70 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Message;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 메시지 부분 갱신 (문서 전체를 읽고 쓰지 않는 원자적 연산)
+ */
+public interface MessageRepositoryCustom {
+
+    /**
+     * reactions.&lt;reaction&gt;에 사용자를 원자적으로 추가하고 reactionCounts를 함께 올린다.
+     * 이미 리액션한 사용자면 갱신 없이 현재 상태를 반환한다.
+     *
+     * @return room, reactions, reactionCounts만 채워진 갱신 후 메시지, 메시지가 없으면 empty
+     */
+    Optional<Message> addReaction(String messageId, String reaction, String userId);
+
+    /**
+     * reactions.&lt;reaction&gt;에서 사용자를 원자적으로 제거하고 reactionCounts를 함께 내린다.
+     * 비게 된 리액션 키는 삭제한다.
+     *
+     * @return room, reactions, reactionCounts만 채워진 갱신 후 메시지, 메시지가 없으면 empty
+     */
+    Optional<Message> removeReaction(String messageId, String reaction, String userId);
+
+    /**
+     * room, reactions, reactionCounts만 조회한다.
+     */
+    Optional<Message> findReactionsById(String messageId);
+
+    /**
+     * 리액션 사용자 목록의 일부(offset부터 limit명)와 사용자 수만 조회한다.
+     *
+     * @return room, reactions.&lt;reaction&gt;(잘린 목록), reactionCounts만 채워진 메시지
+     */
+    Optional<Message> findReactors(String messageId, String reaction, int offset, int limit);
+
+    /**
+     * 아직 읽지 않은 메시지에만 읽은 사용자를 추가하고 readCount를 올린다.
+     * 일괄 갱신 한 번으로 처리하며, 일부만 갱신됐을 때만 갱신된 메시지를 다시 조회한다.
+     *
+     * @return 이 호출에서 새로 읽음 처리된 메시지 ID
+     */
+    List<String> markAsRead(Collection<String> messageIds, String userId, LocalDateTime readAt);
+
+    /**
+     * 읽은 사용자 목록의 일부(offset부터 limit명)와 사용자 수만 조회한다.
+     *
+     * @return room, readers(잘린 목록), readCount만 채워진 메시지
+     */
+    Optional<Message> findReaders(String messageId, int offset, int limit);
+
+    /**
+     * readCount가 없는 이전 문서에 읽은 사용자 수를 채운다.
+     *
+     * @return 갱신된 문서 수
+     */
+    long backfillReadCounts();
+
+    /**
+     * reactionCounts가 없는 이전 문서에 리액션별 사용자 수를 채운다.
+     *
+     * @return 갱신된 문서 수
+     */
+    long backfillReactionCounts();
+}
@@ -0,0 +1,162 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Message;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class MessageRepositoryCustomImpl implements MessageRepositoryCustom {
+
+    private static final String REACTIONS = "reactions";
+    private static final String REACTION_COUNTS = "reactionCounts";
+    private static final String READERS = "readers";
+    private static final String READ_COUNT = "readCount";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Message> addReaction(String messageId, String reaction, String userId) {
+        // 사용자가 아직 없을 때만 갱신해야 카운트가 집합 크기와 어긋나지 않는다
+        Query query = reactionsQuery(Criteria.where("_id").is(messageId).and(reactionPath(reaction)).ne(userId));
+        Update update = new Update()
+                .addToSet(reactionPath(reaction), userId)
+                .inc(countPath(reaction), 1);
+        Message updated = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Message.class);
+        return updated != null ? Optional.of(updated) : findReactionsById(messageId);
+    }
+
+    @Override
+    public Optional<Message> removeReaction(String messageId, String reaction, String userId) {
+        String path = reactionPath(reaction);
+        Query query = reactionsQuery(Criteria.where("_id").is(messageId).and(path).is(userId));
+        Update update = new Update()
+                .pull(path, userId)
+                .inc(countPath(reaction), -1);
+        Message updated = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Message.class);
+        if (updated == null) {
+            return findReactionsById(messageId);
+        }
+
+        Set<String> remaining = updated.getReactions() != null ? updated.getReactions().get(reaction) : null;
+        if (remaining != null && remaining.isEmpty()) {
+            // 그 사이 다른 사용자가 추가했으면 지우지 않도록 빈 배열일 때만 제거
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(messageId).and(path).size(0)),
+                    new Update().unset(path).unset(countPath(reaction)),
+                    Message.class);
+            updated.getReactions().remove(reaction);
+            if (updated.getReactionCounts() != null) {
+                updated.getReactionCounts().remove(reaction);
+            }
+        }
+        return Optional.of(updated);
+    }
+
+    @Override
+    public Optional<Message> findReactionsById(String messageId) {
+        return Optional.ofNullable(mongoTemplate.findOne(
+                reactionsQuery(Criteria.where("_id").is(messageId)), Message.class));
+    }
+
+    @Override
+    public Optional<Message> findReactors(String messageId, String reaction, int offset, int limit) {
+        Query query = Query.query(Criteria.where("_id").is(messageId));
+        query.fields()
+                .include("room", REACTION_COUNTS)
+                .slice(reactionPath(reaction), offset, limit);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Message.class));
+    }
+
+    @Override
+    public List<String> markAsRead(Collection<String> messageIds, String userId, LocalDateTime readAt) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = List.copyOf(new LinkedHashSet<>(messageIds));
+
+        // 메시지마다 "아직 안 읽었으면" 조건을 건 갱신을 한 번의 bulk로 보낸다.
+        // 같은 사용자의 동시 요청과 겹쳐도 각 메시지는 한 요청에서만 갱신된다
+        Update update = new Update()
+                .push(READERS, new Message.MessageReader(userId, readAt))
+                .inc(READ_COUNT, 1);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class);
+        for (String messageId : ids) {
+            bulk.updateOne(Query.query(Criteria.where("_id").is(messageId).and(READERS + ".userId").ne(userId)), update);
+        }
+        int modified = bulk.execute().getModifiedCount();
+        if (modified == 0) {
+            return List.of();
+        }
+        if (modified == ids.size()) {
+            return ids;
+        }
+
+        // 일부만 갱신됐으면 이 호출이 남긴 읽음 기록(readAt)으로 갱신된 메시지를 찾는다
+        Query marked = Query.query(Criteria.where("_id").in(ids)
+                .and(READERS).elemMatch(Criteria.where("userId").is(userId).and("readAt").is(readAt)));
+        marked.fields().include("_id");
+        return mongoTemplate.find(marked, Message.class).stream()
+                .map(Message::getId)
+                .toList();
+    }
+
+    @Override
+    public Optional<Message> findReaders(String messageId, int offset, int limit) {
+        Query query = Query.query(Criteria.where("_id").is(messageId));
+        query.fields()
+                .include("room", READ_COUNT)
+                .slice(READERS, offset, limit);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Message.class));
+    }
+
+    @Override
+    public long backfillReadCounts() {
+        Document count = new Document("$size", new Document("$ifNull", List.of("$" + READERS, List.of())));
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where(READ_COUNT).exists(false)),
+                AggregationUpdate.update().set(READ_COUNT).toValue(count),
+                Message.class).getModifiedCount();
+    }
+
+    @Override
+    public long backfillReactionCounts() {
+        // reactionCounts = { <emoji>: size(reactions.<emoji>) }
+        Document counts = new Document("$arrayToObject", new Document("$map", new Document()
+                .append("input", new Document("$objectToArray", new Document("$ifNull", List.of("$" + REACTIONS, new Document()))))
+                .append("as", "r")
+                .append("in", new Document("k", "$$r.k").append("v", new Document("$size", "$$r.v")))));
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where(REACTION_COUNTS).exists(false)),
+                AggregationUpdate.update().set(REACTION_COUNTS).toValue(counts),
+                Message.class).getModifiedCount();
+    }
+
+    private static Query reactionsQuery(Criteria criteria) {
+        Query query = Query.query(criteria);
+        query.fields().include("room", REACTIONS, REACTION_COUNTS);
+        return query;
+    }
+
+    private static String reactionPath(String reaction) {
+        return REACTIONS + "." + reaction;
+    }
+
+    private static String countPath(String reaction) {
+        return REACTION_COUNTS + "." + reaction;
+    }
+}
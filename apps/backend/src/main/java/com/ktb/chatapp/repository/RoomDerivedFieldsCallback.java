@@ -0,0 +1,20 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Room;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방을 저장할 때마다 파생 필드를 다시 만든다.
+ * 이름 검색용 필드(nameTokens, searchName, nameInitials)는 name에서, participantCount는 participantIds에서 계산한다.
+ */
+@Component
+public class RoomDerivedFieldsCallback implements BeforeConvertCallback<Room> {
+
+    @Override
+    public Room onBeforeConvert(Room room, String collection) {
+        room.refreshSearchFields();
+        room.refreshParticipantCount();
+        return room;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지가 저장될 때 방의 lastMessageAt과 미리보기를 갱신한다.
+ * 입장/퇴장 같은 시스템 메시지와 삭제된 메시지는 반영하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomLastMessageCallback implements AfterSaveCallback<Message> {
+
+    private final RoomRepository roomRepository;
+
+    @Override
+    public Message onAfterSave(Message message, Document document, String collection) {
+        if (message.getRoomId() == null || message.getTimestamp() == null
+                || message.getType() == MessageType.system || Boolean.TRUE.equals(message.getIsDeleted())) {
+            return message;
+        }
+        try {
+            roomRepository.updateLastMessage(message.getRoomId(), message.getTimestamp(), Room.previewOf(message));
+        } catch (Exception e) {
+            // 정렬용 보조 정보이므로 실패해도 메시지 저장은 성공으로 둔다.
+            log.warn("Failed to update room last message - room: {}, messageId: {}",
+                    message.getRoomId(), message.getId(), e);
+        }
+        return message;
+    }
+}
@@ -5,20 +5,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
-import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface RoomRepository extends MongoRepository<Room, String> {
+public interface RoomRepository extends MongoRepository<Room, String>, RoomRepositoryCustom {
 
     // 페이지네이션과 함께 모든 방 조회
     Page<Room> findAll(Pageable pageable);
 
-    // 검색어와 함께 페이지네이션 조회
-    Page<Room> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
     // 가장 최근에 생성된 방 조회 (Health Check용)
     @Query(value = "{}", sort = "{ 'createdAt': -1 }")
     Optional<Room> findMostRecentRoom();
@@ -27,11 +23,7 @@ public interface RoomRepository extends MongoRepository<Room, String> {
     @Query(value = "{}", fields = "{ '_id': 1 }")
     Optional<Room> findOneForHealthCheck();
 
-    @Query("{'_id': ?0}")
-    @Update("{'$addToSet': {'participantIds': ?1}}")
-    void addParticipant(String roomId, String userId);
-
-    @Query("{'_id': ?0}")
-    @Update("{'$pull': {'participantIds': ?1}}")
-    void removeParticipant(String roomId, String userId);
+    // 참가 여부 확인 (참가자 목록을 읽지 않음)
+    @Query(value = "{ '_id': ?0, 'participantIds': ?1 }", exists = true)
+    boolean isParticipant(String roomId, String userId);
 }
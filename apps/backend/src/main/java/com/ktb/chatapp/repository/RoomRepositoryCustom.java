@@ -0,0 +1,95 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.dto.RoomCursor;
+import com.ktb.chatapp.model.Room;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 방 목록/이름 n-gram 검색과 정렬용 파생 필드(participantCount, lastMessageAt) 갱신
+ * 목록 조회는 참가자 목록을 앞쪽 previewSize명만 읽어 방 크기와 무관하게 응답 크기를 제한한다.
+ */
+public interface RoomRepositoryCustom {
+
+    /**
+     * 방 목록을 (sortField, _id) 순서로 limit개 조회한다. 개수는 세지 않는다.
+     *
+     * @param sortField Room 필드명 (createdAt, name, participantCount, lastMessageAt)
+     * @param after     이 커서 다음부터 읽는다 (키셋, (sortField, _id) 복합 색인을 따라 읽으므로 깊은 페이지도 비용이 같다)
+     * @param skip      커서가 없을 때 건너뛸 개수 (페이지 번호 방식 호환용)
+     */
+    List<Room> findRooms(String sortField, Sort.Direction direction, RoomCursor after, long skip, int limit,
+            int previewSize);
+
+    /**
+     * 마지막 메시지가 before보다 이전이거나 없는 방을 (lastMessageAt, _id) 순서로 limit개 조회한다.
+     * 활동량 순위에 없는 방을 순위 뒤(오름차순이면 앞)에 이어 붙일 때 쓴다. 메시지가 없는 방은 오름차순에서 가장 앞에 온다.
+     */
+    List<Room> findInactiveRooms(LocalDateTime before, Sort.Direction direction, long skip, int limit,
+            int previewSize);
+
+    /**
+     * 마지막 메시지가 before보다 이전이거나 없는 방 수 ((lastMessageAt, _id) 색인 범위를 센다)
+     */
+    long countInactiveRooms(LocalDateTime before);
+
+    /**
+     * 컬렉션 메타데이터 기반 방 수 추정치 (문서를 세지 않는다)
+     */
+    long estimateCount();
+
+    /**
+     * 이름에 검색어가 포함된 방을 관련도(일치 > 접두 > 포함) 순으로 조회한다.
+     * 같은 관련도 안에서는 pageable의 정렬을 따른다.
+     */
+    Page<Room> searchByName(String query, Pageable pageable, int previewSize);
+
+    /**
+     * ID 목록의 방을 조회한다. 순서는 보장하지 않는다.
+     */
+    List<Room> findAllByIdWithPreview(Collection<String> roomIds, int previewSize);
+
+    /**
+     * 방의 참가자 ID를 참가 순서대로 offset부터 limit명 조회한다 (participantIds, participantCount만 채워진다).
+     */
+    Optional<Room> findParticipants(String roomId, int offset, int limit);
+
+    /**
+     * 검색용 필드가 없는 이전 방에 n-gram 토큰을 채운다.
+     *
+     * @return 갱신된 방 수
+     */
+    long backfillSearchFields();
+
+    /**
+     * 참가자를 추가하고 participantCount를 참가자 목록 크기로 맞춘다. 이미 참가 중이면 갱신하지 않는다.
+     *
+     * @return 추가되었으면 true
+     */
+    boolean addParticipant(String roomId, String userId);
+
+    /**
+     * 참가자를 제거하고 participantCount를 참가자 목록 크기로 맞춘다. 참가 중이 아니면 갱신하지 않는다.
+     *
+     * @return 제거되었으면 true
+     */
+    boolean removeParticipant(String roomId, String userId);
+
+    /**
+     * 마지막 메시지 시각과 미리보기를 기록한다. 이미 더 최근 메시지가 기록되어 있으면 갱신하지 않는다.
+     */
+    void updateLastMessage(String roomId, LocalDateTime timestamp, String preview);
+
+    /**
+     * participantCount, lastMessageAt이 없는 이전 방에 값을 채운다.
+     * 메시지가 없는 방은 lastMessageAt을 null로 기록해 다시 확인하지 않는다.
+     *
+     * @return 갱신된 방 수
+     */
+    long backfillActivityFields();
+}
@@ -0,0 +1,270 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.dto.RoomCursor;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.util.NgramTokenizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class RoomRepositoryCustomImpl implements RoomRepositoryCustom {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final String PARTICIPANT_IDS = "participantIds";
+    private static final String PARTICIPANT_COUNT = "participantCount";
+    private static final String LAST_MESSAGE_AT = "lastMessageAt";
+    private static final String LAST_MESSAGE_PREVIEW = "lastMessagePreview";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Room> findRooms(String sortField, Sort.Direction direction, RoomCursor after, long skip, int limit,
+            int previewSize) {
+        Query query = after != null
+                ? Query.query(keysetCriteria(sortField, direction, after.value(), after.id()))
+                : new Query().skip(skip);
+        listQuery(query, previewSize)
+                .with(Sort.by(direction, sortField).and(Sort.by(direction, "_id")))
+                .limit(limit);
+        return mongoTemplate.find(query, Room.class);
+    }
+
+    /**
+     * (sortField, _id) 순서에서 (value, id) 뒤에 오는 방 조건
+     * null(값 없음)은 오름차순에서 가장 앞, 내림차순에서 가장 뒤에 온다.
+     */
+    static Criteria keysetCriteria(String sortField, Sort.Direction direction, Object value, String id) {
+        boolean ascending = direction.isAscending();
+        Criteria sameValueAfterId = ascending
+                ? Criteria.where(sortField).is(value).and("_id").gt(id)
+                : Criteria.where(sortField).is(value).and("_id").lt(id);
+        if (value == null) {
+            return ascending
+                    ? new Criteria().orOperator(sameValueAfterId, Criteria.where(sortField).ne(null))
+                    : sameValueAfterId;
+        }
+        return ascending
+                ? new Criteria().orOperator(Criteria.where(sortField).gt(value), sameValueAfterId)
+                : new Criteria().orOperator(Criteria.where(sortField).lt(value), sameValueAfterId,
+                        Criteria.where(sortField).is(null));
+    }
+
+    @Override
+    public List<Room> findInactiveRooms(LocalDateTime before, Sort.Direction direction, long skip, int limit,
+            int previewSize) {
+        Query query = listQuery(Query.query(inactiveCriteria(before)), previewSize)
+                .with(Sort.by(direction, LAST_MESSAGE_AT).and(Sort.by(direction, "_id")))
+                .skip(skip)
+                .limit(limit);
+        return mongoTemplate.find(query, Room.class);
+    }
+
+    @Override
+    public long countInactiveRooms(LocalDateTime before) {
+        return mongoTemplate.count(Query.query(inactiveCriteria(before)), Room.class);
+    }
+
+    private static Criteria inactiveCriteria(LocalDateTime before) {
+        return new Criteria().orOperator(
+                Criteria.where(LAST_MESSAGE_AT).lt(before),
+                Criteria.where(LAST_MESSAGE_AT).is(null));
+    }
+
+    @Override
+    public long estimateCount() {
+        return mongoTemplate.estimatedCount(Room.class);
+    }
+
+    @Override
+    public List<Room> findAllByIdWithPreview(Collection<String> roomIds, int previewSize) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        return mongoTemplate.find(listQuery(Query.query(Criteria.where("_id").in(roomIds)), previewSize), Room.class);
+    }
+
+    @Override
+    public Optional<Room> findParticipants(String roomId, int offset, int limit) {
+        Query query = Query.query(Criteria.where("_id").is(roomId));
+        query.fields()
+                .include(PARTICIPANT_COUNT)
+                .slice(PARTICIPANT_IDS, offset, limit);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Room.class));
+    }
+
+    /**
+     * 목록용 투영: 참가자는 앞쪽 previewSize명만, 비밀번호와 검색용 필드는 제외
+     * 일부 필드만 읽은 엔티티이므로 다시 저장하면 안 된다.
+     */
+    private static Query listQuery(Query query, int previewSize) {
+        query.fields()
+                .slice(PARTICIPANT_IDS, previewSize)
+                .exclude("password", "nameTokens", "searchName", "nameInitials");
+        return query;
+    }
+
+    @Override
+    public Page<Room> searchByName(String query, Pageable pageable, int previewSize) {
+        List<String> tokens = NgramTokenizer.queryTokens(query);
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        String normalized = NgramTokenizer.normalize(query);
+        String field = "$" + (NgramTokenizer.isInitialsQuery(normalized) ? "nameInitials" : "searchName");
+
+        // 1. nameTokens 색인으로 후보를 좁히고 2. 실제 포함 여부 확인 후 3. 관련도 순 정렬
+        Document sort = new Document("_score", -1);
+        pageable.getSort().forEach(order ->
+                sort.append(order.getProperty(), order.isAscending() ? 1 : -1));
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("nameTokens", new Document("$all", tokens))),
+                new Document("$addFields", new Document("_position",
+                        new Document("$indexOfCP", List.of(new Document("$ifNull", List.of(field, "")), normalized)))),
+                new Document("$match", new Document("_position", new Document("$gte", 0))),
+                new Document("$addFields", new Document("_score", new Document("$switch", new Document()
+                        .append("branches", List.of(
+                                new Document("case", new Document("$eq", List.of(field, normalized))).append("then", 3),
+                                new Document("case", new Document("$eq", List.of("$_position", 0))).append("then", 2)))
+                        .append("default", 1)))),
+                new Document("$facet", new Document()
+                        .append("total", List.of(new Document("$count", "count")))
+                        .append("data", List.of(
+                                new Document("$sort", sort),
+                                new Document("$skip", pageable.getOffset()),
+                                new Document("$limit", pageable.getPageSize()),
+                                new Document("$set", new Document(PARTICIPANT_IDS,
+                                        new Document("$slice", List.of(participantIdsOrEmpty(), previewSize)))),
+                                new Document("$project", new Document("password", 0)
+                                        .append("nameTokens", 0)
+                                        .append("searchName", 0)
+                                        .append("nameInitials", 0))))));
+
+        Document result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Room.class))
+                .aggregate(pipeline)
+                .first();
+        if (result == null) {
+            return Page.empty(pageable);
+        }
+        List<Document> total = result.getList("total", Document.class);
+        long count = total.isEmpty() ? 0 : ((Number) total.getFirst().get("count")).longValue();
+        List<Room> rooms = new ArrayList<>();
+        for (Document document : result.getList("data", Document.class)) {
+            rooms.add(mongoTemplate.getConverter().read(Room.class, document));
+        }
+        return new PageImpl<>(rooms, pageable, count);
+    }
+
+    @Override
+    public long backfillSearchFields() {
+        long updated = 0;
+        while (true) {
+            Query query = Query.query(Criteria.where("nameTokens").exists(false)).limit(BACKFILL_BATCH_SIZE);
+            query.fields().include("name");
+            List<Room> rooms = mongoTemplate.find(query, Room.class);
+            if (rooms.isEmpty()) {
+                return updated;
+            }
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+            for (Room room : rooms) {
+                room.refreshSearchFields();
+                bulk.updateOne(Query.query(Criteria.where("_id").is(room.getId())), new Update()
+                        .set("nameTokens", room.getNameTokens())
+                        .set("searchName", room.getSearchName())
+                        .set("nameInitials", room.getNameInitials()));
+            }
+            updated += bulk.execute().getModifiedCount();
+        }
+    }
+
+    @Override
+    public boolean addParticipant(String roomId, String userId) {
+        Query query = Query.query(Criteria.where("_id").is(roomId).and(PARTICIPANT_IDS).ne(userId));
+        return updateParticipants(query, new Document("$concatArrays", List.of(participantIdsOrEmpty(), List.of(userId))));
+    }
+
+    @Override
+    public boolean removeParticipant(String roomId, String userId) {
+        Query query = Query.query(Criteria.where("_id").is(roomId).and(PARTICIPANT_IDS).is(userId));
+        return updateParticipants(query, new Document("$filter", new Document()
+                .append("input", participantIdsOrEmpty())
+                .append("cond", new Document("$ne", List.of("$$this", userId)))));
+    }
+
+    /**
+     * 참가자 목록과 참가자 수를 한 번의 파이프라인 갱신으로 바꾼다.
+     * 목록은 참가 순서를 유지하고(참가자 페이지 조회 순서), 수는 증감 대신 다음 단계에서 새 목록의 크기로 정하므로
+     * participantCount가 없던 이전 방도 바로 정확해진다.
+     */
+    private boolean updateParticipants(Query query, Document participantIds) {
+        AggregationUpdate update = AggregationUpdate.update()
+                .set(PARTICIPANT_IDS).toValue(participantIds)
+                .set(PARTICIPANT_COUNT).toValue(new Document("$size", "$" + PARTICIPANT_IDS));
+        return mongoTemplate.updateFirst(query, update, Room.class).getModifiedCount() > 0;
+    }
+
+    private static Document participantIdsOrEmpty() {
+        return new Document("$ifNull", List.of("$" + PARTICIPANT_IDS, List.of()));
+    }
+
+    @Override
+    public void updateLastMessage(String roomId, LocalDateTime timestamp, String preview) {
+        Query query = Query.query(Criteria.where("_id").is(roomId).orOperator(
+                Criteria.where(LAST_MESSAGE_AT).lt(timestamp),
+                Criteria.where(LAST_MESSAGE_AT).is(null)));
+        mongoTemplate.updateFirst(query, new Update()
+                .set(LAST_MESSAGE_AT, timestamp)
+                .set(LAST_MESSAGE_PREVIEW, preview), Room.class);
+    }
+
+    @Override
+    public long backfillActivityFields() {
+        Document count = new Document("$size", participantIdsOrEmpty());
+        long updated = mongoTemplate.updateMulti(
+                Query.query(Criteria.where(PARTICIPANT_COUNT).exists(false)),
+                AggregationUpdate.update().set(PARTICIPANT_COUNT).toValue(count),
+                Room.class).getModifiedCount();
+
+        while (true) {
+            Query query = Query.query(Criteria.where(LAST_MESSAGE_AT).exists(false)).limit(BACKFILL_BATCH_SIZE);
+            query.fields().include("_id");
+            List<Room> rooms = mongoTemplate.find(query, Room.class);
+            if (rooms.isEmpty()) {
+                return updated;
+            }
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+            for (Room room : rooms) {
+                // (room, isDeleted, timestamp) 색인으로 방의 마지막 메시지 하나만 읽는다
+                Query lastMessage = Query.query(Criteria.where("room").is(room.getId())
+                                .and("isDeleted").is(false)
+                                .and("type").ne(MessageType.system))
+                        .with(Sort.by(Sort.Direction.DESC, "timestamp"))
+                        .limit(1);
+                lastMessage.fields().include("content", "type", "timestamp");
+                Message message = mongoTemplate.findOne(lastMessage, Message.class);
+                bulk.updateOne(Query.query(Criteria.where("_id").is(room.getId())
+                                .and(LAST_MESSAGE_AT).exists(false)),
+                        new Update()
+                                .set(LAST_MESSAGE_AT, message != null ? message.getTimestamp() : null)
+                                .set(LAST_MESSAGE_PREVIEW, message != null ? Room.previewOf(message) : null));
+            }
+            updated += bulk.execute().getModifiedCount();
+        }
+    }
+}
@@ -2,12 +2,19 @@ package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.Session;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface SessionRepository extends MongoRepository<Session, String> {
     Optional<Session> findByUserId(String userId);
     void deleteByUserId(String userId);
+
+    @Query("{ 'userId': ?0, 'sessionId': ?1 }")
+    @Update("{ '$set': { 'lastActivity': ?2, 'expiresAt': ?3 } }")
+    long updateActivity(String userId, String sessionId, long lastActivity, Instant expiresAt);
 }
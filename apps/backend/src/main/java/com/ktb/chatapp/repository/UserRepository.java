@@ -1,16 +1,18 @@
 package com.ktb.chatapp.repository;
 
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByEmail(String email);
 
-    List<User> findByIdIn(Set<String> senderIds);
+    // 요약 필드(_id, name, email, profileImage)만 읽는 프로젝션
+    List<UserSummary> findSummariesByIdIn(Collection<String> ids);
 }
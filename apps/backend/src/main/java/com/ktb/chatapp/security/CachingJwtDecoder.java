@@ -0,0 +1,84 @@
+package com.ktb.chatapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * 검증된 JWT 캐시 디코더
+ * HMAC 서명 검증과 클레임 파싱 결과를 토큰 해시 기준으로 토큰 만료 시각까지 보관한다.
+ * REST 리소스 서버 필터와 JwtService가 같은 디코더 빈을 사용하므로 토큰 하나는 만료 전까지 한 번만 디코딩된다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    // exp 클레임이 없는 토큰의 최대 보관 시간
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(null);
+        }
+        // 동일 토큰 동시 요청 시 디코딩은 한 번만 수행되고, 예외는 캐시되지 않고 그대로 전파된다.
+        return cache.get(hash(token), key -> delegate.decode(token));
+    }
+
+    public Cache<String, Jwt> getCache() {
+        return cache;
+    }
+
+    // 토큰 원문 대신 해시를 키로 사용해 메모리에 토큰 문자열을 남기지 않는다.
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return DEFAULT_TTL.toNanos();
+            }
+            long remaining = Duration.between(Instant.now(), expiresAt).toNanos();
+            return Math.max(0L, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
@@ -72,4 +73,19 @@ public class SessionAwareJwtAuthenticationConverter implements Converter<Jwt, Ab
         
         return authenticationToken;
     }
+
+    /**
+     * 인증 정보의 Details에서 사용자 ID를 꺼낸다.
+     * Principal 이름은 이메일이므로 참여자 ID 등 사용자 ID와 비교할 때는 이 값을 쓴다.
+     *
+     * @return 사용자 ID, 이 변환기로 만든 인증이 아니면 null
+     */
+    public static String userId(Authentication authentication) {
+        if (authentication != null
+                && authentication.getDetails() instanceof Map<?, ?> details
+                && details.get("userId") instanceof String userId) {
+            return userId;
+        }
+        return null;
+    }
 }
@@ -0,0 +1,39 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운트 필드(reactionCounts, readCount) 도입 이전 메시지에 사용자 수를 채운다.
+ * 카운트가 없는 문서만 갱신하므로 여러 인스턴스가 동시에 실행해도 결과가 같다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.backfill.message-counts.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MessageCountBackfill {
+
+    private final MessageRepository messageRepository;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long start = System.currentTimeMillis();
+            long reactions = messageRepository.backfillReactionCounts();
+            long reads = messageRepository.backfillReadCounts();
+            if (reactions > 0 || reads > 0) {
+                log.info("Message counts backfilled - reactionCounts: {}, readCount: {}, duration: {}ms",
+                        reactions, reads, System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill message counts", e);
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package com.ktb.chatapp.service;
 
-import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.repository.MessageRepository;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 /**
  * 메시지 읽음 상태 관리 서비스
+ * 메시지를 읽어 와 저장하지 않고, 아직 읽지 않은 메시지에만 읽은 사용자 추가와 readCount 증가를 한 번에 반영한다.
  */
 @Slf4j
 @Service
@@ -26,34 +25,29 @@ public class MessageReadStatusService {
      * @param userId 읽은 사용자 ID
      */
     public void updateReadStatus(List<String> messageIds, String userId) {
-        if (messageIds.isEmpty()) {
-            return;
+        markAsRead(messageIds, userId);
+    }
+
+    /**
+     * 메시지 읽음 처리
+     *
+     * @param messageIds 읽음 처리할 메시지 ID
+     * @param userId 읽은 사용자 ID
+     * @return 이번에 새로 읽음 처리된 메시지 ID (이미 읽은 메시지 제외)
+     */
+    public List<String> markAsRead(List<String> messageIds, String userId) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return List.of();
         }
-        
-        Message.MessageReader readerInfo = Message.MessageReader.builder()
-                .userId(userId)
-                .readAt(LocalDateTime.now())
-                .build();
-        
-        try {
-            List<Message> messagesToUpdate = messageRepository.findAllById(messageIds);
-            for (Message message : messagesToUpdate) {
-                if (message.getReaders() == null) {
-                    message.setReaders(new ArrayList<>());
-                }
-                boolean alreadyRead = message.getReaders().stream()
-                        .anyMatch(r -> r.getUserId().equals(userId));
-                if (!alreadyRead) {
-                    message.getReaders().add(readerInfo);
-                }
-                messageRepository.save(message);
-            }
-            
-            log.debug("Read status updated for {} messages by user {}",
-                    messagesToUpdate.size(), userId);
 
+        try {
+            List<String> newlyRead = messageRepository.markAsRead(messageIds, userId, LocalDateTime.now());
+            log.debug("Read status updated for {} of {} messages by user {}",
+                    newlyRead.size(), messageIds.size(), userId);
+            return newlyRead;
         } catch (Exception e) {
             log.error("Read status update error for user {}", userId, e);
+            return List.of();
         }
     }
 }
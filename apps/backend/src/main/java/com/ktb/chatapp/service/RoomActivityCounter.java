@@ -0,0 +1,205 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방별 최근 메시지 수 카운터
+ * 분 단위 버킷마다 하나의 Redis 정렬 집합(roomId -> 메시지 수)을 두고, 메시지가 저장될 때 현재 버킷을 1 올린다.
+ * 최근 메시지 수는 창 안의 버킷 점수를 합한 값이며(현재 분 포함 windowMinutes개), 버킷은 창이 지나면 만료된다.
+ * 같은 버킷을 합쳐 활동량 순 방 순위(hot rooms)도 만든다. 순위는 현재 버킷 번호가 붙은 키에 분마다 한 번 만들어
+ * 모든 노드가 같이 읽으므로, 요청마다 합집합을 다시 계산하지 않고 최대 1분 전 순위를 보여줄 수 있다.
+ * 리액션/읽음 같은 부분 갱신은 저장 콜백을 거치지 않으므로 새 메시지만 집계된다.
+ */
+@Slf4j
+@Component
+public class RoomActivityCounter implements AfterSaveCallback<Message> {
+
+    static final String KEY_PREFIX = "room:activity:";
+    static final String RANKING_KEY_PREFIX = KEY_PREFIX + "ranking:";
+
+    private static final long BUCKET_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int windowMinutes;
+    private final Duration bucketTtl;
+    private final Counter failureCounter;
+    private volatile long lastExpiredBucket = -1;
+
+    public RoomActivityCounter(
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.rooms.activity.window-minutes:10}") int windowMinutes) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.windowMinutes = Math.max(1, windowMinutes);
+        this.bucketTtl = Duration.ofMinutes(this.windowMinutes + 1L);
+        this.failureCounter = meterRegistry.counter("rooms.activity.failures");
+    }
+
+    @Override
+    public Message onAfterSave(Message message, Document document, String collection) {
+        if (message.getRoomId() != null && !Boolean.TRUE.equals(message.getIsDeleted())) {
+            record(message.getRoomId());
+        }
+        return message;
+    }
+
+    /**
+     * 방의 현재 분 버킷을 1 올린다. 버킷 만료 시간은 노드마다 버킷당 한 번만 설정한다.
+     */
+    public void record(String roomId) {
+        long bucket = currentBucket();
+        String key = bucketKey(bucket);
+        try {
+            stringRedisTemplate.opsForZSet().incrementScore(key, roomId, 1);
+            if (lastExpiredBucket != bucket) {
+                stringRedisTemplate.expire(key, bucketTtl);
+                lastExpiredBucket = bucket;
+            }
+        } catch (DataAccessException e) {
+            // 활동량은 보조 정보이므로 실패해도 메시지 저장은 계속한다.
+            failureCounter.increment();
+            log.warn("Failed to record room activity - room: {}", roomId, e);
+        }
+    }
+
+    /**
+     * 방들의 최근 메시지 수를 한 번의 파이프라인으로 조회한다. 활동이 없는 방은 결과에 없다.
+     */
+    public Map<String, Long> recentCounts(Collection<String> roomIds) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> members = new ArrayList<>(new LinkedHashSet<>(roomIds));
+        Object[] memberArray = members.toArray();
+        List<String> keys = windowKeys(currentBucket());
+
+        List<Object> results;
+        try {
+            results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ZSetOperations<String, String> zSet = (ZSetOperations<String, String>) operations.opsForZSet();
+                    for (String key : keys) {
+                        zSet.score(key, memberArray);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.warn("Failed to load room activity - rooms: {}", members.size(), e);
+            return Map.of();
+        }
+
+        Map<String, Long> counts = new HashMap<>();
+        for (Object result : results) {
+            if (!(result instanceof List<?> scores)) {
+                continue;
+            }
+            for (int i = 0; i < scores.size() && i < members.size(); i++) {
+                if (scores.get(i) instanceof Number score) {
+                    counts.merge(members.get(i), score.longValue(), Long::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    public long recentCount(String roomId) {
+        return recentCounts(List.of(roomId)).getOrDefault(roomId, 0L);
+    }
+
+    /**
+     * 최근 메시지 수 순으로 방 ID를 조회한다. 창 안에 활동이 없는 방은 순위에 없다({@link #windowStart()} 참고).
+     * 창의 버킷을 합친 순위 집합은 현재 버킷 키에 없을 때만 만든다. 같은 분에 여러 노드가 동시에 만들어도
+     * 합집합 저장은 원자적이고 같은 창을 합치므로 서로 다른 창의 결과가 섞이지 않는다.
+     * limit이 0이면 순위에 있는 방 수만 조회한다.
+     */
+    public Ranking ranking(long offset, int limit, boolean descending) {
+        long bucket = currentBucket();
+        String rankingKey = rankingKey(bucket);
+        try {
+            ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+            Long total;
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(rankingKey))) {
+                total = zSet.zCard(rankingKey);
+            } else {
+                // 활동이 없으면 합집합이 비어 키가 만들어지지 않으며, 빈 버킷끼리 합치는 비용은 작다
+                List<String> keys = windowKeys(bucket);
+                total = zSet.unionAndStore(keys.getFirst(), keys.subList(1, keys.size()), rankingKey);
+                stringRedisTemplate.expire(rankingKey, Duration.ofMinutes(2));
+            }
+            if (total == null || total == 0 || limit <= 0 || offset >= total) {
+                return new Ranking(List.of(), total != null ? total : 0);
+            }
+            long end = offset + limit - 1;
+            Set<String> roomIds = descending
+                    ? zSet.reverseRange(rankingKey, offset, end)
+                    : zSet.range(rankingKey, offset, end);
+            return new Ranking(roomIds != null ? List.copyOf(roomIds) : List.of(), total);
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.warn("Failed to load room activity ranking", e);
+            return new Ranking(List.of(), 0);
+        }
+    }
+
+    /**
+     * 창의 시작 시각(가장 오래된 버킷의 시작). 마지막 메시지가 이보다 이전이거나 없는 방은 순위에 없다.
+     */
+    public LocalDateTime windowStart() {
+        long startMillis = (currentBucket() - windowMinutes + 1) * BUCKET_MILLIS;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(startMillis), ZoneId.systemDefault());
+    }
+
+    private List<String> windowKeys(long bucket) {
+        List<String> keys = new ArrayList<>(windowMinutes);
+        for (int i = 0; i < windowMinutes; i++) {
+            keys.add(bucketKey(bucket - i));
+        }
+        return keys;
+    }
+
+    private static long currentBucket() {
+        return System.currentTimeMillis() / BUCKET_MILLIS;
+    }
+
+    static String bucketKey(long bucket) {
+        return KEY_PREFIX + bucket;
+    }
+
+    static String rankingKey(long bucket) {
+        return RANKING_KEY_PREFIX + bucket;
+    }
+
+    /**
+     * @param roomIds 요청한 구간의 방 ID (활동량 순)
+     * @param total   창 안에 활동이 있는 방 수
+     */
+    public record Ranking(List<String> roomIds, long total) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파생 필드(이름 검색 토큰, 참가자 수, 마지막 메시지) 도입 이전 방에 값을 채운다.
+ * 값이 없는 문서만 갱신하므로 여러 인스턴스가 동시에 실행해도 결과가 같다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.backfill.rooms.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomBackfill {
+
+    private final RoomRepository roomRepository;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long start = System.currentTimeMillis();
+            long searchFields = roomRepository.backfillSearchFields();
+            long activityFields = roomRepository.backfillActivityFields();
+            if (searchFields > 0 || activityFields > 0) {
+                log.info("Room fields backfilled - searchFields: {}, activityFields: {}, duration: {}ms",
+                        searchFields, activityFields, System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill room fields", e);
+        }
+    }
+}
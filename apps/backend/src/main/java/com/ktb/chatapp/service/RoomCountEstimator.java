@@ -0,0 +1,43 @@
+package com.ktb.chatapp.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 목록 메타데이터용 전체 방 수 추정치
+ * 컬렉션 메타데이터(estimatedDocumentCount)를 읽고, refreshInterval이 지난 뒤 첫 조회 때 백그라운드에서 갱신한다.
+ * 갱신 중에는 이전 값을 그대로 반환하므로 목록 요청이 개수 조회를 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class RoomCountEstimator {
+
+    private static final String KEY = "rooms";
+
+    private final LoadingCache<String, Long> estimate;
+
+    public RoomCountEstimator(
+            RoomRepository roomRepository,
+            @Value("${app.rooms.count.refresh-interval:30s}") Duration refreshInterval) {
+        this.estimate = Caffeine.newBuilder()
+                .refreshAfterWrite(refreshInterval)
+                .build(key -> roomRepository.estimateCount());
+    }
+
+    /**
+     * @return 추정 방 수 (조회 실패 시 0)
+     */
+    public long estimate() {
+        try {
+            return estimate.get(KEY);
+        } catch (Exception e) {
+            log.warn("Failed to estimate room count", e);
+            return 0;
+        }
+    }
+}
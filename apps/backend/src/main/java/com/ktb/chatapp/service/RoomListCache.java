@@ -0,0 +1,175 @@
+package com.ktb.chatapp.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import com.ktb.chatapp.util.NgramTokenizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 목록 페이지 캐시
+ * (page, pageSize, sort, search) 단위로 만들어진 RoomsResponse를 짧게 보관하고,
+ * 같은 페이지에 대한 동시 요청은 한 번만 계산해 결과를 나눠 쓴다.
+ * 방 생성/변경/참여자 변경 이벤트가 오면 영향을 받는 페이지만 무효화한다.
+ * - 생성: 검색어가 없거나 새 방 이름이 검색어를 포함하는 페이지
+ * - 변경/참여자 변경: 그 방이 들어 있는 페이지와 참여자 수로 정렬한 페이지
+ * 이벤트는 인스턴스 안에서만 전달되므로 다른 인스턴스의 변경은 ttl 안에 반영된다.
+ * 사용자별 값(isCreator)은 캐시에 넣지 않고 조회 후 {@link #forViewer}로 채운다.
+ */
+@Slf4j
+@Component
+public class RoomListCache {
+
+    private final AsyncCache<PageKey, RoomsResponse> cache;
+    private final boolean enabled;
+    // 무효화가 일어날 때마다 증가, 계산 도중 무효화된 결과는 저장하지 않는다
+    private final AtomicLong version = new AtomicLong();
+    private final Counter coalescedCounter;
+
+    public RoomListCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.rooms.list-cache.enabled:true}") boolean enabled,
+            @Value("${app.rooms.list-cache.ttl:5s}") Duration ttl,
+            @Value("${app.rooms.list-cache.max-size:1000}") long maxSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+        this.coalescedCounter = Counter.builder("rooms.list.cache.coalesced")
+                .description("Room list requests that waited for an identical in-flight computation")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "rooms.list");
+    }
+
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 loader로 계산한다.
+     * 같은 키를 계산 중인 요청이 있으면 새로 계산하지 않고 그 결과를 기다린다.
+     */
+    public RoomsResponse get(PageKey key, Supplier<RoomsResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CompletableFuture<RoomsResponse> created = new CompletableFuture<>();
+        CompletableFuture<RoomsResponse> existing = cache.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            if (!existing.isDone()) {
+                coalescedCounter.increment();
+            }
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                // 먼저 계산하던 요청이 실패했으면 직접 계산한다
+                return loader.get();
+            }
+        }
+
+        long startVersion = version.get();
+        try {
+            RoomsResponse response = loader.get();
+            created.complete(response);
+            if (!response.isSuccess() || version.get() != startVersion) {
+                cache.asMap().remove(key, created);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            cache.asMap().remove(key, created);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시된 응답에 조회한 사용자의 isCreator를 채운 사본을 만든다.
+     */
+    public static RoomsResponse forViewer(RoomsResponse response, String userId) {
+        if (response.getData() == null) {
+            return response;
+        }
+        return RoomsResponse.builder()
+                .success(response.isSuccess())
+                .metadata(response.getMetadata())
+                .data(response.getData().stream()
+                        .map(room -> room.toBuilder()
+                                .isCreator(room.getCreator() != null && room.getCreator().getId() != null
+                                        && room.getCreator().getId().equals(userId))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 새 방이 들어갈 수 있는 페이지만 무효화한다. 검색 페이지는 목록 검색/실시간 피드와 같은 기준(초성 포함)으로 판단한다.
+     */
+    @EventListener
+    public void onRoomCreated(RoomCreatedEvent event) {
+        String name = event.getRoomResponse() != null ? event.getRoomResponse().getName() : null;
+        invalidate(key -> key.search() == null || name == null || NgramTokenizer.nameMatches(name, key.search()));
+    }
+
+    @EventListener
+    public void onRoomUpdated(RoomUpdatedEvent event) {
+        invalidateRoom(event.getRoomId());
+    }
+
+    @EventListener
+    public void onParticipantsChanged(RoomParticipantsChangedEvent event) {
+        invalidateRoom(event.getRoomId());
+    }
+
+    int size() {
+        return cache.asMap().size();
+    }
+
+    private void invalidateRoom(String roomId) {
+        invalidate(key -> PageKey.PARTICIPANTS_COUNT.equals(key.sortField()));
+        cache.asMap().forEach((key, future) -> {
+            // 계산 중인 페이지는 결과를 알 수 없으므로 함께 무효화한다
+            if (!future.isDone() || containsRoom(future.getNow(null), roomId)) {
+                cache.asMap().remove(key, future);
+            }
+        });
+    }
+
+    private void invalidate(Predicate<PageKey> affected) {
+        version.incrementAndGet();
+        cache.asMap().keySet().removeIf(affected);
+    }
+
+    private static boolean containsRoom(RoomsResponse response, String roomId) {
+        return response == null || response.getData() == null
+                || response.getData().stream().map(RoomResponse::getId).anyMatch(roomId::equals);
+    }
+
+    /**
+     * @param search 정규화한 검색어, 검색하지 않으면 null
+     */
+    public record PageKey(int page, int pageSize, String sortField, String sortOrder, String search, String cursor) {
+
+        static final String PARTICIPANTS_COUNT = "participantsCount";
+
+        public static PageKey of(int page, int pageSize, String sortField, String sortOrder, String search,
+                String cursor) {
+            String normalized = NgramTokenizer.normalize(search);
+            return new PageKey(page, pageSize, sortField, sortOrder, normalized.isEmpty() ? null : normalized, cursor);
+        }
+    }
+}
@@ -5,11 +5,10 @@ import com.ktb.chatapp.event.RoomCreatedEvent;
 import com.ktb.chatapp.event.RoomUpdatedEvent;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -20,8 +19,10 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,94 +33,130 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RoomService {
 
+    private static final int MAX_PARTICIPANTS_PAGE_SIZE = 100;
+
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
     private final UserCacheService userCacheService; // Redis Cache Service
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomListCache roomListCache;
+    private final RoomActivityCounter roomActivityCounter;
+    private final RoomCountEstimator roomCountEstimator;
+
+    // 방 목록/방 이벤트에 담는 참가자 미리보기 인원 (전체 명단은 참가자 목록 API로 조회)
+    @Value("${app.rooms.list.participant-preview-size:5}")
+    private int participantPreviewSize = 5;
 
     public RoomsResponse getAllRoomsWithPagination(
             com.ktb.chatapp.dto.PageRequest pageRequest, String name) {
 
-        try {
-            // 정렬 설정 검증
-            if (!pageRequest.isValidSortField()) {
-                pageRequest.setSortField("createdAt");
-            }
-            if (!pageRequest.isValidSortOrder()) {
-                pageRequest.setSortOrder("desc");
-            }
+        // 정렬 설정 검증
+        if (!pageRequest.isValidSortField()) {
+            pageRequest.setSortField("createdAt");
+        }
+        if (!pageRequest.isValidSortOrder()) {
+            pageRequest.setSortOrder("desc");
+        }
+
+        // 다른 정렬 조건으로 만든 커서는 받지 않는다 (검색/활동량 정렬에서는 커서를 쓰지 않는다)
+        if (pageRequest.getCursor() != null
+                && !RoomCursor.decode(pageRequest.getCursor()).matches(pageRequest.getSortField(), pageRequest.getSortOrder())) {
+            throw new IllegalArgumentException("정렬 조건이 다른 커서입니다.");
+        }
 
+        // 페이지는 사용자와 무관하게 캐시하고 isCreator만 조회한 사용자 기준으로 채운다
+        RoomListCache.PageKey key = RoomListCache.PageKey.of(
+                pageRequest.getPage(), pageRequest.getPageSize(),
+                pageRequest.getSortField(), pageRequest.getSortOrder(), pageRequest.getSearch(),
+                pageRequest.getCursor());
+        RoomsResponse response = roomListCache.get(key, () -> loadRoomsPage(pageRequest));
+        return RoomListCache.forViewer(response, name);
+    }
+
+    private RoomsResponse loadRoomsPage(com.ktb.chatapp.dto.PageRequest pageRequest) {
+        try {
             // 정렬 방향 설정
             Sort.Direction direction = "desc".equals(pageRequest.getSortOrder())
                     ? Sort.Direction.DESC
                     : Sort.Direction.ASC;
 
+            boolean hasSearch = pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty();
+
             // 정렬 필드 매핑 (participantsCount는 특별 처리 필요)
             String sortField = pageRequest.getSortField();
             if ("participantsCount".equals(sortField)) {
-                sortField = "participantIds"; // MongoDB 필드명으로 변경
+                sortField = "participantCount"; // 색인된 참가자 수 필드로 정렬
+            } else if (com.ktb.chatapp.dto.PageRequest.RECENT_MESSAGE_COUNT.equals(sortField) && hasSearch) {
+                sortField = "createdAt"; // 검색은 관련도 순이므로 활동량 정렬 대신 최신순으로 동순위를 나눈다
             }
 
-            // Pageable 객체 생성
-            PageRequest springPageRequest = PageRequest.of(
-                    pageRequest.getPage(),
-                    pageRequest.getPageSize(),
-                    Sort.by(direction, sortField));
-
-            // 검색어가 있는 경우와 없는 경우 분리
-            Page<Room> roomPage;
-            if (pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty()) {
-                roomPage = roomRepository.findByNameContainingIgnoreCase(
-                        pageRequest.getSearch().trim(), springPageRequest);
+            List<Room> rooms;
+            long total;
+            boolean hasMore;
+            boolean totalApproximate = false;
+            String nextCursor = null;
+
+            // 검색어가 있는 경우와 없는 경우 분리 (검색은 이름 n-gram 색인 사용, 관련도 순)
+            if (hasSearch || com.ktb.chatapp.dto.PageRequest.RECENT_MESSAGE_COUNT.equals(sortField)) {
+                // 검색(색인으로 좁힌 후보)과 활동량 순위(Redis 순위 구간 조회)는 페이지 번호 방식을 유지한다
+                Page<Room> roomPage = hasSearch
+                        ? roomRepository.searchByName(pageRequest.getSearch().trim(), PageRequest.of(
+                                pageRequest.getPage(), pageRequest.getPageSize(), Sort.by(direction, sortField)),
+                                participantPreviewSize)
+                        : findRoomsByActivity(pageRequest, direction);
+                rooms = roomPage.getContent();
+                total = roomPage.getTotalElements();
+                hasMore = roomPage.hasNext();
             } else {
-                roomPage = roomRepository.findAll(springPageRequest);
+                // (정렬 필드, _id) 키셋: 커서가 있으면 그 뒤부터, 없으면 페이지 번호만큼 건너뛴다
+                // 다음 페이지 여부는 하나 더 읽어 판단하고, 전체 수는 개수 조회 대신 추정치를 쓴다
+                RoomCursor cursor = pageRequest.getCursor() != null ? RoomCursor.decode(pageRequest.getCursor()) : null;
+                long skip = cursor == null ? (long) pageRequest.getPage() * pageRequest.getPageSize() : 0;
+                List<Room> fetched = roomRepository.findRooms(sortField, direction, cursor, skip,
+                        pageRequest.getPageSize() + 1, participantPreviewSize);
+                hasMore = fetched.size() > pageRequest.getPageSize();
+                rooms = hasMore ? fetched.subList(0, pageRequest.getPageSize()) : fetched;
+                total = Math.max(roomCountEstimator.estimate(), skip + rooms.size());
+                totalApproximate = true;
+                if (hasMore) {
+                    nextCursor = RoomCursor.of(rooms.getLast(), pageRequest.getSortField(), pageRequest.getSortOrder())
+                            .encode();
+                }
             }
 
-            List<Room> rooms = roomPage.getContent();
             List<String> roomIds = rooms.stream().map(Room::getId).toList();
 
-            // 1. 모든 관련 User ID 수집 (Creator + Participants)
+            // 1. 관련 User ID 수집 (Creator + 미리보기 참가자, 페이지당 최대 pageSize × (미리보기 인원 + 1)명)
             Set<String> userIds = new HashSet<>();
             for (Room room : rooms) {
                 if (room.getCreator() != null) {
                     userIds.add(room.getCreator());
                 }
-                if (room.getParticipantIds() != null) {
-                    userIds.addAll(room.getParticipantIds());
-                }
+                userIds.addAll(previewParticipantIds(room));
             }
 
             // 2. User 일괄 조회 (Redis Cache + DB Batch)
-            Map<String, User> userMap = userCacheService.getUsers(userIds);
+            Map<String, UserSummary> userMap = userCacheService.getUsers(userIds);
 
-            // 3. 최근 메시지 수 일괄 조회 (Aggregation)
-            LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-            Map<String, Long> messageCounts = new HashMap<>();
-            try {
-                List<MessageCountResult> results = messageRepository.countRecentMessagesByRoomIds(roomIds,
-                        tenMinutesAgo);
-                for (MessageCountResult result : results) {
-                    messageCounts.put(result.getRoomId(), result.getCount());
-                }
-            } catch (Exception e) {
-                log.error("Failed to count messages batch", e);
-            }
+            // 3. 최근 메시지 수 일괄 조회 (분 단위 활동 카운터)
+            Map<String, Long> messageCounts = roomActivityCounter.recentCounts(roomIds);
 
             // Room을 RoomResponse로 변환 (UserMap, MessageCounts 활용)
             List<RoomResponse> roomResponses = rooms.stream()
-                    .map(room -> convertToRoomResponse(room, name, userMap,
+                    .map(room -> convertToRoomResponse(room, null, userMap,
                             messageCounts.getOrDefault(room.getId(), 0L)))
                     .collect(Collectors.toList());
 
             // 메타데이터 생성
             PageMetadata metadata = PageMetadata.builder()
-                    .total(roomPage.getTotalElements())
+                    .total(total)
+                    .totalApproximate(totalApproximate)
                     .page(pageRequest.getPage())
                     .pageSize(pageRequest.getPageSize())
-                    .totalPages(roomPage.getTotalPages())
-                    .hasMore(roomPage.hasNext())
+                    .totalPages((total + pageRequest.getPageSize() - 1) / pageRequest.getPageSize())
+                    .hasMore(hasMore)
+                    .nextCursor(nextCursor)
                     .currentCount(roomResponses.size())
                     .sort(PageMetadata.SortInfo.builder()
                             .field(pageRequest.getSortField())
@@ -142,17 +179,68 @@ public class RoomService {
         }
     }
 
-    private RoomResponse convertToRoomResponse(Room room, String currentUserName, Map<String, User> userMap,
+    /**
+     * 최근 메시지 수 순 페이지
+     * 창 안에 활동이 있는 방은 Redis 순위로, 활동이 없는 방(최근 메시지 수 0)은 마지막 메시지 시각 순으로
+     * 내림차순이면 순위 뒤에, 오름차순이면 순위 앞에 이어 붙인다. 전체 수는 두 구간의 합이다.
+     */
+    private Page<Room> findRoomsByActivity(com.ktb.chatapp.dto.PageRequest pageRequest, Sort.Direction direction) {
+        long offset = (long) pageRequest.getPage() * pageRequest.getPageSize();
+        int size = pageRequest.getPageSize();
+        LocalDateTime windowStart = roomActivityCounter.windowStart();
+        long inactiveTotal = roomRepository.countInactiveRooms(windowStart);
+
+        List<String> activeIds;
+        long activeTotal;
+        List<Room> inactive;
+        if (direction == Sort.Direction.DESC) {
+            RoomActivityCounter.Ranking ranking = roomActivityCounter.ranking(offset, size, true);
+            activeIds = ranking.roomIds();
+            activeTotal = ranking.total();
+            int remaining = size - activeIds.size();
+            inactive = remaining > 0
+                    ? roomRepository.findInactiveRooms(windowStart, direction,
+                            Math.max(0, offset - activeTotal), remaining, participantPreviewSize)
+                    : List.of();
+        } else {
+            inactive = offset < inactiveTotal
+                    ? roomRepository.findInactiveRooms(windowStart, direction, offset, size, participantPreviewSize)
+                    : List.of();
+            RoomActivityCounter.Ranking ranking = roomActivityCounter.ranking(
+                    Math.max(0, offset - inactiveTotal), size - inactive.size(), false);
+            activeIds = ranking.roomIds();
+            activeTotal = ranking.total();
+        }
+
+        Map<String, Room> roomsById = roomRepository.findAllByIdWithPreview(activeIds, participantPreviewSize).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+        List<Room> active = activeIds.stream()
+                .map(roomsById::get)
+                .filter(java.util.Objects::nonNull)
+                .toList();
+        List<Room> ordered = new ArrayList<>(active.size() + inactive.size());
+        if (direction == Sort.Direction.DESC) {
+            ordered.addAll(active);
+            ordered.addAll(inactive);
+        } else {
+            ordered.addAll(inactive);
+            ordered.addAll(active);
+        }
+        return new PageImpl<>(ordered, PageRequest.of(pageRequest.getPage(), pageRequest.getPageSize()),
+                activeTotal + inactiveTotal);
+    }
+
+    private RoomResponse convertToRoomResponse(Room room, String currentUserName, Map<String, UserSummary> userMap,
             long recentMessageCount) {
-        User creator = room.getCreator() != null ? userMap.get(room.getCreator()) : null;
+        UserSummary creator = room.getCreator() != null ? userMap.get(room.getCreator()) : null;
 
-        List<UserResponse> participants = room.getParticipantIds().stream()
+        List<UserResponse> participants = previewParticipantIds(room).stream()
                 .map(userMap::get)
                 .filter(java.util.Objects::nonNull)
                 .map(p -> UserResponse.builder()
-                        .id(p.getId())
-                        .name(p.getName() != null ? p.getName() : "알 수 없음")
-                        .email(p.getEmail() != null ? p.getEmail() : "")
+                        .id(p.id())
+                        .name(p.name() != null ? p.name() : "알 수 없음")
+                        .email(p.email() != null ? p.email() : "")
                         .build())
                 .toList();
 
@@ -161,17 +249,27 @@ public class RoomService {
                 .name(room.getName() != null ? room.getName() : "제목 없음")
                 .hasPassword(room.isHasPassword())
                 .creator(creator != null ? UserResponse.builder()
-                        .id(creator.getId())
-                        .name(creator.getName() != null ? creator.getName() : "알 수 없음")
-                        .email(creator.getEmail() != null ? creator.getEmail() : "")
+                        .id(creator.id())
+                        .name(creator.name() != null ? creator.name() : "알 수 없음")
+                        .email(creator.email() != null ? creator.email() : "")
                         .build() : null)
                 .participants(participants)
+                .participantCount(Math.max(room.getParticipantCount(), participants.size()))
                 .createdAtDateTime(room.getCreatedAt())
-                .isCreator(creator != null && creator.getId().equals(currentUserName))
+                .isCreator(creator != null && creator.id().equals(currentUserName))
                 .recentMessageCount((int) recentMessageCount)
+                .lastMessageAtDateTime(room.getLastMessageAt())
+                .lastMessagePreview(room.getLastMessagePreview())
                 .build();
     }
 
+    private List<String> previewParticipantIds(Room room) {
+        if (room.getParticipantIds() == null) {
+            return List.of();
+        }
+        return room.getParticipantIds().stream().limit(participantPreviewSize).toList();
+    }
+
     public HealthResponse getHealthStatus() {
         try {
             long startTime = System.currentTimeMillis();
@@ -245,6 +343,31 @@ public class RoomService {
         return savedRoom;
     }
 
+    /**
+     * 참여자 목록 페이지 (참여 순서, limit은 MAX_PARTICIPANTS_PAGE_SIZE까지)
+     */
+    public Optional<ParticipantsResponse> getParticipants(String roomId, int offset, int limit) {
+        int safeOffset = Math.max(0, offset);
+        int safeLimit = Math.min(Math.max(1, limit), MAX_PARTICIPANTS_PAGE_SIZE);
+        return roomRepository.findParticipants(roomId, safeOffset, safeLimit).map(room -> {
+            List<String> ids = room.getParticipantIds() != null ? List.copyOf(room.getParticipantIds()) : List.of();
+            Map<String, UserSummary> users = userCacheService.getUsers(new HashSet<>(ids));
+            List<UserResponse> participants = ids.stream()
+                    .map(users::get)
+                    .filter(java.util.Objects::nonNull)
+                    .map(UserResponse::from)
+                    .toList();
+            int total = Math.max(room.getParticipantCount(), safeOffset + ids.size());
+            return ParticipantsResponse.builder()
+                    .roomId(roomId)
+                    .total(total)
+                    .offset(safeOffset)
+                    .hasMore(safeOffset + ids.size() < total)
+                    .participants(participants)
+                    .build();
+        });
+    }
+
     public Optional<Room> findRoomById(String roomId) {
         return roomRepository.findById(roomId);
     }
@@ -268,9 +391,9 @@ public class RoomService {
 
         // 이미 참여중인지 확인
         if (!room.getParticipantIds().contains(user.getId())) {
-            // 채팅방 참여
-            room.getParticipantIds().add(user.getId());
-            room = roomRepository.save(room);
+            // 채팅방 참여 (문서 전체 저장 대신 원자적 갱신으로 동시 참가/퇴장과 참가자 수를 보존)
+            roomRepository.addParticipant(roomId, user.getId());
+            room.addParticipant(user.getId());
         }
 
         // Publish event for room updated
@@ -289,27 +412,17 @@ public class RoomService {
         if (room == null)
             return null;
 
-        User creator = null;
+        UserSummary creator = null;
         if (room.getCreator() != null) {
-            // 여기서도 캐시 사용하면 좋음
             creator = userCacheService.getUser(room.getCreator());
         }
 
-        // 단건 방 조회 시 참가자도 캐시로 조회 (Batch 아님) - 사실 여기도 Batch로 바꾸면 더 좋음
-        // 하지만 RoomCreate 등에서 호출될 때 참가자는 보통 생성자 1명이므로 문제 없음
-        // joinRoom에서는 참가자가 많을 수 있으므로... userCacheService.getUsers()로 바꿔주는게 안전함.
-
-        Set<String> pIds = room.getParticipantIds() != null ? room.getParticipantIds() : Collections.emptySet();
-        Map<String, User> userMap = userCacheService.getUsers(pIds);
-
+        // 방 이벤트도 목록과 같은 형태로 미리보기 참가자만 담는다
+        Map<String, UserSummary> userMap = new HashMap<>(userCacheService.getUsers(new HashSet<>(previewParticipantIds(room))));
         if (creator != null) {
-            // 중복 방지 로직 필요 없지만 map에 있으면 덮어쓰기
-            // userCacheService.getUsers는 Set 결과이므로 creator 포함 안될수있음 (creator가 participant에
-            // 없다면)
-            // 보통 creator는 participant에 포함됨.
+            userMap.put(creator.id(), creator);
         }
 
-        return convertToRoomResponse(room, name, userMap,
-                messageRepository.countRecentMessagesByRoomId(room.getId(), LocalDateTime.now().minusMinutes(10)));
+        return convertToRoomResponse(room, name, userMap, roomActivityCounter.recentCount(room.getId()));
     }
 }
@@ -1,11 +1,15 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.session.SessionCache;
+import com.ktb.chatapp.service.session.SessionCache.CachedSession;
 import com.ktb.chatapp.service.session.SessionStore;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.convert.DurationStyle;
 import org.springframework.stereotype.Service;
 
@@ -17,28 +21,34 @@ import static com.ktb.chatapp.model.Session.SESSION_TTL;
 public class SessionService {
 
     private final SessionStore sessionStore;
+    private final SessionCache sessionCache;
     public static final long SESSION_TTL_SEC = DurationStyle.detectAndParse(SESSION_TTL).getSeconds();
     private static final long SESSION_TIMEOUT = SESSION_TTL_SEC * 1000;
 
+    // lastActivity를 저장소에 기록하는 최소 간격 (요청마다 쓰기가 발생하지 않도록 제한)
+    @Value("${app.session.activity-refresh-interval:60s}")
+    private Duration activityRefreshInterval = Duration.ofSeconds(60);
+
     private String generateSessionId() {
         return UUID.randomUUID().toString().replace("-", "");
     }
 
     private SessionData toSessionData(Session session) {
+        return toSessionData(session, session.getLastActivity());
+    }
+
+    private SessionData toSessionData(Session session, long lastActivity) {
         return SessionData.builder()
                 .userId(session.getUserId())
                 .sessionId(session.getSessionId())
                 .createdAt(session.getCreatedAt())
-                .lastActivity(session.getLastActivity())
+                .lastActivity(lastActivity)
                 .metadata(session.getMetadata())
                 .build();
     }
 
     public SessionCreationResult createSession(String userId, SessionMetadata metadata) {
         try {
-            // Remove all existing user sessions
-            removeAllUserSessions(userId);
-
             String sessionId = generateSessionId();
             long now = Instant.now().toEpochMilli();
             
@@ -51,7 +61,10 @@ public class SessionService {
                     .expiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC))
                     .build();
 
-            session = sessionStore.save(session);
+            // Replace all existing user sessions
+            session = sessionStore.replace(session);
+            sessionCache.invalidate(userId);
+            sessionCache.put(session);
             
             SessionData sessionData = toSessionData(session);
 
@@ -74,13 +87,19 @@ public class SessionService {
                 return SessionValidationResult.invalid("INVALID_PARAMETERS", "유효하지 않은 세션 파라미터");
             }
 
-            Session session = sessionStore.findByUserId(userId).orElse(null);
-            
-            if (session == null) {
-                log.warn("No session found for userId: {}", userId);
-                return SessionValidationResult.invalid("INVALID_SESSION", "세션을 찾을 수 없습니다.");
+            CachedSession cached = sessionCache.get(userId);
+            if (cached == null || !sessionId.equals(cached.getSession().getSessionId())) {
+                // 캐시 미스이거나, 다른 노드의 재로그인 무효화가 아직 도착하지 않은 경우 저장소에서 다시 읽는다.
+                Session stored = sessionStore.findByUserId(userId).orElse(null);
+                if (stored == null) {
+                    sessionCache.invalidateLocal(userId);
+                    log.warn("No session found for userId: {}", userId);
+                    return SessionValidationResult.invalid("INVALID_SESSION", "세션을 찾을 수 없습니다.");
+                }
+                cached = sessionCache.put(stored);
             }
 
+            Session session = cached.getSession();
             if (!sessionId.equals(session.getSessionId())) {
                 log.warn("Session ID mismatch for userId: {}. Provided: {}, Expected: {}", userId, sessionId, session.getSessionId());
                 return SessionValidationResult.invalid("INVALID_SESSION", "잘못된 세션 ID입니다.");
@@ -88,18 +107,25 @@ public class SessionService {
 
             // Check if session has timed out
             long now = Instant.now().toEpochMilli();
-            if (now - session.getLastActivity() > SESSION_TIMEOUT) {
+            if (now - cached.getLastActivity() > SESSION_TIMEOUT) {
                 log.warn("Session timed out for userId: {}, sessionId: {}", userId, sessionId);
                 removeSession(userId, sessionId);
                 return SessionValidationResult.invalid("SESSION_EXPIRED", "세션이 만료되었습니다.");
             }
 
-            // Update last activity
-            session.setLastActivity(now);
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            session = sessionStore.save(session);
+            // Update last activity (저장소 기록은 갱신 주기마다 한 번)
+            if (now - cached.getPersistedActivity() >= activityRefreshInterval.toMillis()) {
+                if (!sessionStore.touch(userId, sessionId, now, Instant.ofEpochMilli(now).plusSeconds(SESSION_TTL_SEC))) {
+                    sessionCache.invalidateLocal(userId);
+                    log.warn("Session disappeared during activity refresh for userId: {}", userId);
+                    return SessionValidationResult.invalid("INVALID_SESSION", "세션을 찾을 수 없습니다.");
+                }
+                cached.markPersisted(now);
+            } else {
+                cached.touch(now);
+            }
 
-            SessionData sessionData = toSessionData(session);
+            SessionData sessionData = toSessionData(session, cached.getLastActivity());
             return SessionValidationResult.valid(sessionData);
 
         } catch (Exception e) {
@@ -115,15 +141,23 @@ public class SessionService {
                 return;
             }
 
-            Session session = sessionStore.findByUserId(userId).orElse(null);
+            CachedSession cached = sessionCache.get(userId);
+            Session session = cached != null
+                    ? cached.getSession()
+                    : sessionStore.findByUserId(userId).orElse(null);
             if (session == null) {
                 log.debug("No session found to update last activity for user: {}", userId);
                 return;
             }
 
-            session.setLastActivity(Instant.now().toEpochMilli());
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            sessionStore.save(session);
+            long now = Instant.now().toEpochMilli();
+            boolean updated = sessionStore.touch(userId, session.getSessionId(), now,
+                    Instant.ofEpochMilli(now).plusSeconds(SESSION_TTL_SEC));
+            if (!updated) {
+                sessionCache.invalidateLocal(userId);
+            } else if (cached != null) {
+                cached.markPersisted(now);
+            }
             
         } catch (Exception e) {
             log.error("Failed to update session activity for user: {}", userId, e);
@@ -137,6 +171,7 @@ public class SessionService {
             } else {
                 sessionStore.deleteAll(userId);
             }
+            sessionCache.invalidate(userId);
         } catch (Exception e) {
             log.error("Session removal error for userId: {}, sessionId: {}", userId, sessionId, e);
             throw new RuntimeException("세션 삭제 중 오류가 발생했습니다.", e);
@@ -146,6 +181,7 @@ public class SessionService {
     public void removeAllUserSessions(String userId) {
         try {
             sessionStore.deleteAll(userId);
+            sessionCache.invalidate(userId);
         } catch (Exception e) {
             log.error("Remove all sessions error for userId: {}", userId, e);
             throw new RuntimeException("모든 세션 삭제 중 오류가 발생했습니다.", e);
@@ -1,149 +1,393 @@
 package com.ktb.chatapp.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ktb.chatapp.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * 사용자 조회 2단계 캐시
+ * L1은 노드 로컬 Caffeine 캐시(크기/TTL 제한, W-TinyLFU 교체)로, 자주 보이는 발신자는 네트워크 없이 찾는다.
+ * L1에 없으면 L2(Redis)에서, 그래도 없으면 DB에서 읽어 두 단계를 채운다.
+ * 프로필이 바뀌면 {@link #invalidate(String)}로 Redis 값을 지우고 pub/sub으로 모든 노드의 L1을 비우며,
+ * 무효화 메시지가 유실되더라도 L1 TTL이 지나면 다시 읽는다.
+ * 캐시 값은 화면에 필요한 필드만 담은 {@link UserSummary}이며, DB에서도 그 필드만 프로젝션으로 읽고
+ * Redis에는 JSON 대신 {@link com.ktb.chatapp.config.UserSummaryRedisSerializer} 바이너리 형식으로 저장한다.
+ *
+ * 캐시 만료 시 몰림을 막기 위해
+ * - 같은 사용자를 동시에 읽으면 한 요청만 Redis/DB에 가고 나머지는 그 결과를 기다린다 (single-flight)
+ * - 없는 사용자(탈퇴 등)는 짧은 TTL 동안 L1과 Redis에 "없음"으로 기록해 매번 DB에 가지 않는다
+ * - L1 항목은 만료가 가까울수록 높은 확률로 미리 다시 읽는다 (XFetch: 자주 읽히는 사용자만 만료 전에 갱신된다)
+ *
+ * 무효화 전에 이전 프로필을 읽은 조회가 무효화 뒤에 되써 넣지 않도록
+ * - 무효화는 Redis 값을 지우는 대신 짧은 TTL의 무효화 표시로 덮고, 조회 결과는 키가 없을 때만(SET NX) 저장한다
+ * - 무효화 번호보다 먼저 시작한 조회는 결과를 돌려주기만 하고 L1에는 넣지 않는다
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserCacheService {
 
+    static final String INVALIDATION_CHANNEL = "users:invalidate";
+    // 모든 필드가 null인 요약을 Redis의 "없음" 표시로 쓴다
+    static final UserSummary MISSING = new UserSummary(null, null, null, null);
+    // id가 빈 문자열인 요약을 Redis의 "무효화됨" 표시로 쓴다 (실제 사용자 id는 비어 있지 않다)
+    static final UserSummary INVALIDATED = new UserSummary("", null, null, null);
+    // 값 형식이 바뀌면 접두사도 바꿔 이전 형식 값(전체 User JSON)을 읽지 않는다. 이전 키는 TTL로 사라진다
+    static final String CACHE_PREFIX = "users:v2::";
+    private static final long LOAD_WAIT_SECONDS = 3;
+
     private final UserRepository userRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, UserSummary> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration localTtl;
+    private final Duration redisTtl;
+    private final Duration negativeTtl;
+    private final long earlyRefreshWindowMillis;
+    private final Duration invalidationTtl;
+    private final Cache<String, CachedUser> localCache;
+    private final Cache<String, Boolean> negativeCache;
+    private final Map<String, CompletableFuture<UserSummary>> inFlight = new ConcurrentHashMap<>();
+    // 사용자별 마지막 무효화 번호 (조회 시작 시점의 번호와 비교)
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final Cache<String, Long> recentInvalidations;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisEvictions;
+    private final Counter stampedeAvoided;
+    private final Counter earlyRefreshes;
+
+    public UserCacheService(
+            UserRepository userRepository,
+            RedisTemplate<String, UserSummary> userSummaryRedisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${app.users.cache.local.ttl:60s}") Duration localTtl,
+            @Value("${app.users.cache.local.max-size:10000}") long localMaximumSize,
+            @Value("${app.users.cache.redis.ttl:30m}") Duration redisTtl,
+            @Value("${app.users.cache.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${app.users.cache.local.early-refresh-window:5s}") Duration earlyRefreshWindow,
+            @Value("${app.users.cache.invalidation-ttl:10s}") Duration invalidationTtl) {
+        this.userRepository = userRepository;
+        this.redisTemplate = userSummaryRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.localTtl = localTtl;
+        this.redisTtl = redisTtl;
+        this.negativeTtl = negativeTtl;
+        this.earlyRefreshWindowMillis = earlyRefreshWindow.toMillis();
+        this.invalidationTtl = invalidationTtl;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaximumSize)
+                .recordStats()
+                .build();
+        this.negativeCache = Caffeine.newBuilder()
+                .expireAfterWrite(negativeTtl)
+                .maximumSize(localMaximumSize)
+                .recordStats()
+                .build();
+        this.recentInvalidations = Caffeine.newBuilder()
+                .expireAfterWrite(invalidationTtl)
+                .maximumSize(localMaximumSize)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "users.local");
+        CaffeineCacheMetrics.monitor(meterRegistry, negativeCache, "users.negative");
+        // L2도 L1(CaffeineCacheMetrics)과 같은 이름/태그로 내보내 단계별로 비교할 수 있게 한다
+        this.redisHits = Counter.builder("cache.gets")
+                .tag("cache", "users.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("cache.gets")
+                .tag("cache", "users.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.redisEvictions = Counter.builder("cache.evictions")
+                .tag("cache", "users.redis")
+                .register(meterRegistry);
+        this.stampedeAvoided = Counter.builder("users.cache.stampede.avoided")
+                .description("User lookups that waited for an in-flight load instead of loading again")
+                .register(meterRegistry);
+        this.earlyRefreshes = Counter.builder("users.cache.early.refreshes")
+                .description("Local user cache entries reloaded before expiry")
+                .register(meterRegistry);
+    }
 
-    private static final String CACHE_PREFIX = "users::";
-    private static final long TTL_MINUTES = 30;
+    /**
+     * 애플리케이션 기동 완료 후 무효화 채널을 구독한다.
+     * Redis에 연결할 수 없으면 L1 TTL만으로 만료된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        try {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> invalidateLocal(new String(message.getBody())),
+                    new ChannelTopic(INVALIDATION_CHANNEL));
+        } catch (Exception e) {
+            log.warn("사용자 캐시 무효화 채널 구독 실패 - 로컬 TTL로만 만료됩니다: {}", e.getMessage());
+        }
+    }
 
     /**
-     * 단건 사용자 조회 (캐시 적용)
+     * 단건 사용자 조회 (L1 -> Redis -> DB)
      */
-    public User getUser(String userId) {
+    public UserSummary getUser(String userId) {
         if (!StringUtils.hasText(userId)) {
             return null;
         }
+        return getUsers(Set.of(userId)).get(userId);
+    }
 
-        String cacheKey = CACHE_PREFIX + userId;
+    /**
+     * 다건 사용자 조회
+     * L1에 없는 사용자만 Redis MGET 한 번으로, 그래도 없는 사용자만 DB 일괄 조회로 가져온다.
+     * 없는 사용자는 결과에 포함되지 않는다.
+     */
+    public Map<String, UserSummary> getUsers(Set<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-        // 1. 캐시 조회
-        try {
-            Object cached = redisTemplate.opsForValue().get(cacheKey);
+        // 1. L1 (없음으로 기록된 사용자는 건너뜀)
+        Map<String, UserSummary> resultMap = new HashMap<>();
+        List<String> remoteIds = new ArrayList<>();
+        for (String id : userIds) {
+            CachedUser cached = localCache.getIfPresent(id);
             if (cached != null) {
-                return convertToUser(cached);
+                resultMap.put(id, cached.user());
+                refreshEarlyIfDue(id, cached);
+            } else if (negativeCache.getIfPresent(id) == null) {
+                remoteIds.add(id);
             }
-        } catch (Exception e) {
-            log.warn("Redis 조회 실패: {}", e.getMessage());
         }
 
-        // 2. DB 조회
-        User user = userRepository.findById(userId).orElse(null);
+        // 2. Redis -> DB (같은 사용자를 읽는 중인 요청이 있으면 그 결과를 기다림)
+        if (!remoteIds.isEmpty()) {
+            resultMap.putAll(loadSingleFlight(remoteIds));
+        }
+        return resultMap;
+    }
+
+    private Map<String, UserSummary> loadSingleFlight(List<String> userIds) {
+        Map<String, CompletableFuture<UserSummary>> owned = new LinkedHashMap<>();
+        Map<String, CompletableFuture<UserSummary>> joined = new HashMap<>();
+        for (String id : userIds) {
+            CompletableFuture<UserSummary> mine = new CompletableFuture<>();
+            CompletableFuture<UserSummary> existing = inFlight.putIfAbsent(id, mine);
+            if (existing == null) {
+                owned.put(id, mine);
+            } else {
+                joined.put(id, existing);
+            }
+        }
 
-        // 3. 캐시 저장
-        if (user != null) {
+        Map<String, UserSummary> resultMap = new HashMap<>();
+        if (!owned.isEmpty()) {
             try {
-                redisTemplate.opsForValue().set(cacheKey, user, TTL_MINUTES, TimeUnit.MINUTES);
-            } catch (Exception e) {
-                log.warn("Redis 저장 실패: {}", e.getMessage());
+                Map<String, UserSummary> loaded = loadRemote(owned.keySet());
+                owned.forEach((id, future) -> future.complete(loaded.get(id)));
+                resultMap.putAll(loaded);
+            } catch (RuntimeException e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(inFlight::remove);
             }
         }
 
-        return user;
+        if (!joined.isEmpty()) {
+            stampedeAvoided.increment(joined.size());
+            joined.forEach((id, future) -> {
+                UserSummary user = await(id, future);
+                if (user != null) {
+                    resultMap.put(id, user);
+                }
+            });
+        }
+        return resultMap;
     }
 
-    /**
-     * 다건 사용자 조회 (Multi-Get Batch 최적화)
-     * Redis MGET을 사용하여 네트워크 홉을 최소화하고, 없는 데이터만 DB에서 조회합니다.
-     */
-    public Map<String, User> getUsers(Set<String> userIds) {
-        if (userIds == null || userIds.isEmpty()) {
-            return Collections.emptyMap();
+    // 먼저 읽기 시작한 요청이 실패하거나 너무 오래 걸리면 직접 읽는다
+    private UserSummary await(String userId, CompletableFuture<UserSummary> future) {
+        try {
+            return future.get(LOAD_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("진행 중인 사용자 조회를 기다리지 못함 - userId: {}, error: {}", userId, e.getMessage());
         }
+        return loadRemote(List.of(userId)).get(userId);
+    }
 
-        List<String> sortedIds = new ArrayList<>(userIds);
-        List<String> cacheKeys = sortedIds.stream()
-                .map(id -> CACHE_PREFIX + id)
-                .collect(Collectors.toList());
-
-        Map<String, User> resultMap = new HashMap<>();
+    private Map<String, UserSummary> loadRemote(Collection<String> userIds) {
+        long startedAt = System.currentTimeMillis();
+        long sequence = invalidationSequence.get();
+        List<String> ids = new ArrayList<>(userIds);
+        Map<String, UserSummary> resultMap = new HashMap<>();
         List<String> missingIds = new ArrayList<>();
 
         // 1. Redis Multi-Get
-        List<Object> cachedValues = null;
+        List<UserSummary> cachedValues = null;
         try {
-            cachedValues = redisTemplate.opsForValue().multiGet(cacheKeys);
+            cachedValues = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> CACHE_PREFIX + id).toList());
         } catch (Exception e) {
             log.warn("Redis MGET 실패: {}", e.getMessage());
         }
 
-        // 2. 캐시 히트/미스 분류
-        if (cachedValues != null && cachedValues.size() == sortedIds.size()) {
-            for (int i = 0; i < sortedIds.size(); i++) {
-                String id = sortedIds.get(i);
-                Object value = cachedValues.get(i);
-
-                if (value != null) {
-                    resultMap.put(id, convertToUser(value));
+        if (cachedValues != null && cachedValues.size() == ids.size()) {
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i);
+                UserSummary value = cachedValues.get(i);
+                if (MISSING.equals(value)) {
+                    putNegative(id, sequence);
+                } else if (value != null && !INVALIDATED.equals(value)) {
+                    resultMap.put(id, value);
                 } else {
                     missingIds.add(id);
                 }
             }
+            redisHits.increment(ids.size() - missingIds.size());
+            redisMisses.increment(missingIds.size());
         } else {
             // Redis 실패 시 전부 DB에서 조회
-            missingIds.addAll(sortedIds);
+            missingIds.addAll(ids);
         }
 
-        // 3. DB Batch 조회 (캐시 미스된 것만)
+        // 2. DB 일괄 조회 (캐시 미스된 것만, 요약 필드만 프로젝션), 없는 사용자는 짧은 TTL로 없음을 기록
         if (!missingIds.isEmpty()) {
-            List<User> dbUsers = userRepository.findAllById(missingIds);
-            Map<String, User> dbUserMap = new HashMap<>();
+            Map<String, UserSummary> dbUsers = new HashMap<>();
+            for (UserSummary user : userRepository.findSummariesByIdIn(missingIds)) {
+                resultMap.put(user.id(), user);
+                dbUsers.put(CACHE_PREFIX + user.id(), user);
+            }
+            List<String> notFound = missingIds.stream().filter(id -> !resultMap.containsKey(id)).toList();
+            notFound.forEach(id -> putNegative(id, sequence));
+            writeToRedis(dbUsers, notFound);
+        }
 
-            for (User user : dbUsers) {
-                resultMap.put(user.getId(), user);
-                dbUserMap.put(CACHE_PREFIX + user.getId(), user);
+        long expiresAt = System.currentTimeMillis() + localTtl.toMillis();
+        long loadMillis = System.currentTimeMillis() - startedAt;
+        resultMap.forEach((id, user) -> {
+            if (!invalidatedSince(id, sequence)) {
+                localCache.put(id, new CachedUser(user, expiresAt, loadMillis));
             }
+        });
+        return resultMap;
+    }
 
-            // 4. Redis Pipeline Update (비동기 처리 가능하면 좋지만 여기선 MultiSet으로 처리)
-            if (!dbUserMap.isEmpty()) {
-                try {
-                    redisTemplate.opsForValue().multiSet(dbUserMap);
-                    // TTL 설정은 multiSet에서 안되므로 개별 설정하거나 파이프라인 써야 함.
-                    // 간단하게는 조회 시점에 만료된 걸 갱신하거나, 여기서는 일단 저장만 함.
-                    // (엄밀한 TTL 관리를 위해선 파이프라인을 써야하지만 일단 생략)
-                    for (String key : dbUserMap.keySet()) {
-                        redisTemplate.expire(key, TTL_MINUTES, TimeUnit.MINUTES);
-                    }
-                } catch (Exception e) {
-                    log.warn("Redis MSET 실패: {}", e.getMessage());
-                }
+    private void putNegative(String userId, long sequence) {
+        if (!invalidatedSince(userId, sequence)) {
+            negativeCache.put(userId, Boolean.TRUE);
+        }
+    }
+
+    // 조회를 시작한 뒤 무효화됐으면 읽은 값이 이전 프로필일 수 있다
+    private boolean invalidatedSince(String userId, long sequence) {
+        Long invalidatedAt = recentInvalidations.getIfPresent(userId);
+        return invalidatedAt != null && invalidatedAt > sequence;
+    }
+
+    /**
+     * XFetch: 남은 시간이 짧을수록, 읽기가 오래 걸릴수록 높은 확률로 만료 전에 백그라운드에서 다시 읽는다.
+     * 조회가 잦은 사용자는 만료 전에 갱신되고, 드물게 읽히는 사용자는 그냥 만료된다.
+     */
+    private void refreshEarlyIfDue(String userId, CachedUser cached) {
+        long delta = Math.max(cached.loadMillis(), earlyRefreshWindowMillis);
+        double jitter = -Math.log(ThreadLocalRandom.current().nextDouble());
+        if (System.currentTimeMillis() + delta * jitter < cached.expiresAt() || inFlight.containsKey(userId)) {
+            return;
+        }
+        earlyRefreshes.increment();
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                loadSingleFlight(List.of(userId));
+            } catch (Exception e) {
+                log.warn("사용자 캐시 사전 갱신 실패 - userId: {}, error: {}", userId, e.getMessage());
             }
+        });
+    }
+
+    /**
+     * 프로필 변경 후 호출: Redis 값을 무효화 표시로 덮고 현재 노드와 다른 모든 노드의 L1을 비운다.
+     * 무효화 표시가 남아 있는 동안에는 진행 중이던 조회가 이전 프로필을 Redis에 되써 넣지 못한다.
+     */
+    public void invalidate(String userId) {
+        if (!StringUtils.hasText(userId)) {
+            return;
         }
+        invalidateLocal(userId);
+        try {
+            redisTemplate.opsForValue().set(CACHE_PREFIX + userId, INVALIDATED, invalidationTtl);
+            redisEvictions.increment();
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId);
+        } catch (Exception e) {
+            log.warn("사용자 캐시 무효화 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
 
-        return resultMap;
+    public void invalidateLocal(String userId) {
+        recentInvalidations.put(userId, invalidationSequence.incrementAndGet());
+        localCache.invalidate(userId);
+        negativeCache.invalidate(userId);
     }
 
-    // Redis 저장 객체를 User로 변환 (LinkedHashMap 문제 해결)
-    private User convertToUser(Object cached) {
-        if (cached instanceof User) {
-            return (User) cached;
+    // 키마다 TTL을 주기 위해 MSET 대신 SET NX EX를 파이프라인으로 한 번에 보낸다 (무효화 표시는 덮지 않는다)
+    private void writeToRedis(Map<String, UserSummary> users, List<String> missingIds) {
+        if (users.isEmpty() && missingIds.isEmpty()) {
+            return;
         }
-        return objectMapper.convertValue(cached, User.class);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ValueOperations<String, UserSummary> values = (ValueOperations<String, UserSummary>) operations.opsForValue();
+                    users.forEach((key, user) -> values.setIfAbsent(key, user, redisTtl));
+                    missingIds.forEach(id -> values.setIfAbsent(CACHE_PREFIX + id, MISSING, negativeTtl));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param expiresAt L1 만료 시각 (epoch millis)
+     * @param loadMillis 이 항목을 읽는 데 걸린 시간 (XFetch의 delta)
+     */
+    private record CachedUser(UserSummary user, long expiresAt, long loadMillis) {
     }
 }
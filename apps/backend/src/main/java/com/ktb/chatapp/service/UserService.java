@@ -28,6 +28,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final FileService fileService;
+    private final UserCacheService userCacheService;
 
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
@@ -63,6 +64,7 @@ public class UserService {
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
+        userCacheService.invalidate(updatedUser.getId());
         log.info("사용자 프로필 업데이트 완료 - ID: {}, Name: {}", user.getId(), request.getName());
 
         return UserResponse.from(updatedUser);
@@ -93,6 +95,7 @@ public class UserService {
         user.setProfileImage(profileImageUrl);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userCacheService.invalidate(user.getId());
 
         log.info("프로필 이미지 업로드 완료 - User ID: {}, File: {}", user.getId(), profileImageUrl);
 
@@ -171,6 +174,7 @@ public class UserService {
             user.setProfileImage("");
             user.setUpdatedAt(LocalDateTime.now());
             userRepository.save(user);
+            userCacheService.invalidate(user.getId());
             log.info("프로필 이미지 삭제 완료 - User ID: {}", user.getId());
         }
     }
@@ -189,6 +193,7 @@ public class UserService {
         }
 
         userRepository.delete(user);
+        userCacheService.invalidate(user.getId());
         log.info("회원 탈퇴 완료 - User ID: {}", user.getId());
     }
 }
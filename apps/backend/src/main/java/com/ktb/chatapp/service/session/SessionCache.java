@@ -0,0 +1,127 @@
+package com.ktb.chatapp.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.model.Session;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 세션 캐시
+ * REST 요청마다 발생하는 세션 조회를 줄이기 위해 유효한 세션을 짧은 TTL 동안 보관한다.
+ * 로그아웃, 전체 세션 삭제, 중복 로그인 시 Redis pub/sub으로 모든 노드의 캐시를 무효화하며,
+ * 무효화 메시지가 유실되더라도 TTL이 지나면 저장소에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class SessionCache {
+
+    static final String INVALIDATION_CHANNEL = "session:invalidate";
+
+    private final Cache<String, CachedSession> cache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public SessionCache(
+            @Value("${app.session.cache.ttl:30s}") Duration ttl,
+            @Value("${app.session.cache.max-size:10000}") long maximumSize,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "session");
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 무효화 채널을 구독한다.
+     * Redis에 연결할 수 없으면 로컬 TTL만으로 동작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        try {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> invalidateLocal(new String(message.getBody())),
+                    new ChannelTopic(INVALIDATION_CHANNEL));
+        } catch (Exception e) {
+            log.warn("세션 무효화 채널 구독 실패 - 로컬 TTL로만 만료됩니다: {}", e.getMessage());
+        }
+    }
+
+    public CachedSession get(String userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    public CachedSession put(Session session) {
+        CachedSession cached = new CachedSession(session);
+        cache.put(session.getUserId(), cached);
+        return cached;
+    }
+
+    /**
+     * 현재 노드와 다른 모든 노드에서 해당 사용자의 세션 캐시를 무효화한다.
+     */
+    public void invalidate(String userId) {
+        invalidateLocal(userId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId);
+        } catch (Exception e) {
+            log.warn("세션 무효화 메시지 발행 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    public void invalidateLocal(String userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 캐시된 세션과 마지막으로 저장소에 기록한 활동 시각
+     * lastActivity는 요청마다 갱신하고, 저장소 기록은 갱신 주기마다 한 번만 수행한다.
+     */
+    public static final class CachedSession {
+        private final Session session;
+        private volatile long lastActivity;
+        private volatile long persistedActivity;
+
+        CachedSession(Session session) {
+            this.session = session;
+            this.lastActivity = session.getLastActivity();
+            this.persistedActivity = session.getLastActivity();
+        }
+
+        public Session getSession() {
+            return session;
+        }
+
+        public long getLastActivity() {
+            return lastActivity;
+        }
+
+        public long getPersistedActivity() {
+            return persistedActivity;
+        }
+
+        public void touch(long now) {
+            this.lastActivity = now;
+        }
+
+        public void markPersisted(long now) {
+            this.lastActivity = now;
+            this.persistedActivity = now;
+        }
+    }
+}
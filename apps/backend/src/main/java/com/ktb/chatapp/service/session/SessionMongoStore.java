@@ -2,16 +2,20 @@ package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
 import com.ktb.chatapp.repository.SessionRepository;
+import java.time.Instant;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
  * MongoDB implementation of SessionStore.
  * Uses SessionRepository for persistence.
+ * Default store, selected unless {@code app.session.store=redis}.
  */
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.session.store", havingValue = "mongo", matchIfMissing = true)
 public class SessionMongoStore implements SessionStore {
     
     private final SessionRepository sessionRepository;
@@ -38,4 +42,9 @@ public class SessionMongoStore implements SessionStore {
     public void deleteAll(String userId) {
         sessionRepository.deleteByUserId(userId);
     }
+    
+    @Override
+    public boolean touch(String userId, String sessionId, long lastActivity, Instant expiresAt) {
+        return sessionRepository.updateActivity(userId, sessionId, lastActivity, expiresAt) > 0;
+    }
 }
@@ -0,0 +1,160 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis implementation of SessionStore.
+ * Stores one hash per user and relies on native key expiry instead of a TTL monitor.
+ * Enabled with {@code app.session.store=redis}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.session.store", havingValue = "redis")
+public class SessionRedisStore implements SessionStore {
+
+    static final String KEY_PREFIX = "session:user:";
+
+    private static final long DEFAULT_TTL_MILLIS = DurationStyle.detectAndParse(Session.SESSION_TTL).toMillis();
+
+    private static final String F_SESSION_ID = "sessionId";
+    private static final String F_CREATED_AT = "createdAt";
+    private static final String F_LAST_ACTIVITY = "lastActivity";
+    private static final String F_EXPIRES_AT = "expiresAt";
+    private static final String F_USER_AGENT = "userAgent";
+    private static final String F_IP_ADDRESS = "ipAddress";
+    private static final String F_DEVICE_INFO = "deviceInfo";
+
+    // 기존 세션 삭제 + 새 세션 기록 + 만료 설정을 한 번의 왕복으로 처리 (사용자당 단일 세션 정책)
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            redis.call('PEXPIREAT', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 세션 ID가 일치할 때만 삭제
+    private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'sessionId') == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 세션 ID가 일치할 때만 활동 시각과 만료 시각 갱신
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'sessionId') == ARGV[1] then
+                redis.call('HSET', KEYS[1], 'lastActivity', ARGV[2], 'expiresAt', ARGV[3])
+                redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        Map<Object, Object> hash = stringRedisTemplate.opsForHash().entries(key(userId));
+        if (hash.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toSession(userId, hash));
+    }
+
+    @Override
+    public Session save(Session session) {
+        return replace(session);
+    }
+
+    @Override
+    public Session replace(Session session) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(expiresAtMillis(session)));
+        args.add(F_SESSION_ID);
+        args.add(session.getSessionId());
+        args.add(F_CREATED_AT);
+        args.add(String.valueOf(session.getCreatedAt()));
+        args.add(F_LAST_ACTIVITY);
+        args.add(String.valueOf(session.getLastActivity()));
+        args.add(F_EXPIRES_AT);
+        args.add(String.valueOf(expiresAtMillis(session)));
+        SessionMetadata metadata = session.getMetadata();
+        if (metadata != null) {
+            addIfPresent(args, F_USER_AGENT, metadata.userAgent());
+            addIfPresent(args, F_IP_ADDRESS, metadata.ipAddress());
+            addIfPresent(args, F_DEVICE_INFO, metadata.deviceInfo());
+        }
+
+        stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(key(session.getUserId())), args.toArray());
+        return session;
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        stringRedisTemplate.delete(key(userId));
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        stringRedisTemplate.execute(COMPARE_AND_DELETE_SCRIPT, List.of(key(userId)), sessionId);
+    }
+
+    @Override
+    public boolean touch(String userId, String sessionId, long lastActivity, Instant expiresAt) {
+        Long updated = stringRedisTemplate.execute(TOUCH_SCRIPT, List.of(key(userId)),
+                sessionId, String.valueOf(lastActivity), String.valueOf(expiresAt.toEpochMilli()));
+        return updated != null && updated > 0;
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static long expiresAtMillis(Session session) {
+        return session.getExpiresAt() != null
+                ? session.getExpiresAt().toEpochMilli()
+                : session.getLastActivity() + DEFAULT_TTL_MILLIS;
+    }
+
+    private static void addIfPresent(List<String> args, String field, String value) {
+        if (value != null) {
+            args.add(field);
+            args.add(value);
+        }
+    }
+
+    private static Session toSession(String userId, Map<Object, Object> hash) {
+        SessionMetadata metadata = null;
+        if (hash.containsKey(F_USER_AGENT) || hash.containsKey(F_IP_ADDRESS) || hash.containsKey(F_DEVICE_INFO)) {
+            metadata = new SessionMetadata(
+                    (String) hash.get(F_USER_AGENT),
+                    (String) hash.get(F_IP_ADDRESS),
+                    (String) hash.get(F_DEVICE_INFO));
+        }
+        return Session.builder()
+                .userId(userId)
+                .sessionId((String) hash.get(F_SESSION_ID))
+                .createdAt(parseLong(hash.get(F_CREATED_AT)))
+                .lastActivity(parseLong(hash.get(F_LAST_ACTIVITY)))
+                .expiresAt(Instant.ofEpochMilli(parseLong(hash.get(F_EXPIRES_AT))))
+                .metadata(metadata)
+                .build();
+    }
+
+    private static long parseLong(Object value) {
+        return value == null ? 0L : Long.parseLong((String) value);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -33,4 +34,35 @@ public interface SessionStore {
     void deleteAll(String userId);
     
     void delete(String userId, String sessionId);
+
+    /**
+     * Replace any existing sessions of the user with the given session (single-session policy)
+     *
+     * @param session the new session
+     * @return the saved session
+     */
+    default Session replace(Session session) {
+        deleteAll(session.getUserId());
+        return save(session);
+    }
+
+    /**
+     * Refresh last activity and expiry of a session without rewriting the whole document
+     *
+     * @param userId the user identifier
+     * @param sessionId the session identifier
+     * @param lastActivity last activity time in epoch millis
+     * @param expiresAt new expiry time
+     * @return true if the session exists and was updated
+     */
+    default boolean touch(String userId, String sessionId, long lastActivity, Instant expiresAt) {
+        Session session = findByUserId(userId).orElse(null);
+        if (session == null || !sessionId.equals(session.getSessionId())) {
+            return false;
+        }
+        session.setLastActivity(lastActivity);
+        session.setExpiresAt(expiresAt);
+        save(session);
+        return true;
+    }
 }
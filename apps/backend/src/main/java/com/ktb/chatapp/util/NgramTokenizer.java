@@ -0,0 +1,116 @@
+package com.ktb.chatapp.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * 정규화한 문자열(NFC, 소문자, 공백 제거)의 글자 단위 1-gram과 2-gram을 만든다.
+ * 한글은 음절 단위로 자르고, 초성만으로도 찾을 수 있도록 초성 문자열의 n-gram을 접두어를 붙여 함께 만든다.
+ * 예) "카톡 방" → 카, 톡, 방, 카톡, 톡방, #ㅋ, #ㅌ, #ㅂ, #ㅋㅌ, #ㅌㅂ
+ */
+public final class NgramTokenizer {
+
+    public static final String INITIALS_PREFIX = "#";
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * NFC 정규화, 소문자 변환, 공백 제거
+     * (NFKC는 호환용 자모 ㄱ~ㅎ을 조합용 자모로 바꿔 초성 검색을 깨뜨리므로 쓰지 않는다)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열 (한글이 아닌 글자는 그대로 둔다)
+     */
+    public static String initials(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints().forEach(codePoint -> {
+            if (codePoint >= HANGUL_BASE && codePoint <= HANGUL_LAST) {
+                builder.append(CHOSEONG[(codePoint - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                builder.appendCodePoint(codePoint);
+            }
+        });
+        return builder.toString();
+    }
+
+    /**
+     * 검색어가 초성(호환용 자음 ㄱ~ㅎ)으로만 이루어졌는지 여부
+     */
+    public static boolean isInitialsQuery(String normalized) {
+        return !normalized.isEmpty()
+                && normalized.codePoints().allMatch(codePoint -> codePoint >= 'ㄱ' && codePoint <= 'ㅎ');
+    }
+
+    /**
+     * 이름 검색과 같은 기준: 정규화한 이름(초성 검색어면 초성 문자열)이 정규화한 검색어를 포함
+     */
+    public static boolean nameMatches(String name, String normalizedQuery) {
+        String normalized = normalize(name);
+        return isInitialsQuery(normalizedQuery)
+                ? initials(normalized).contains(normalizedQuery)
+                : normalized.contains(normalizedQuery);
+    }
+
+    /**
+     * 색인할 토큰: 정규화 문자열과 초성 문자열의 1-gram, 2-gram
+     */
+    public static Set<String> indexTokens(String text) {
+        String normalized = normalize(text);
+        Set<String> tokens = new LinkedHashSet<>();
+        addGrams(tokens, "", codePoints(normalized), 1);
+        addGrams(tokens, "", codePoints(normalized), 2);
+        List<String> initials = codePoints(initials(normalized));
+        addGrams(tokens, INITIALS_PREFIX, initials, 1);
+        addGrams(tokens, INITIALS_PREFIX, initials, 2);
+        return tokens;
+    }
+
+    /**
+     * 검색 토큰: 한 글자면 1-gram, 그 이상이면 2-gram (초성 검색어는 초성 토큰)
+     * 모든 토큰을 가진 문서는 검색어를 포함할 가능성이 있는 후보이며, 실제 포함 여부는 따로 확인한다.
+     */
+    public static List<String> queryTokens(String query) {
+        String normalized = normalize(query);
+        List<String> characters = codePoints(normalized);
+        String prefix = isInitialsQuery(normalized) ? INITIALS_PREFIX : "";
+        Set<String> tokens = new LinkedHashSet<>();
+        addGrams(tokens, prefix, characters, characters.size() == 1 ? 1 : 2);
+        return new ArrayList<>(tokens);
+    }
+
+    private static List<String> codePoints(String text) {
+        return text.codePoints().mapToObj(Character::toString).toList();
+    }
+
+    private static void addGrams(Set<String> tokens, String prefix, List<String> characters, int n) {
+        for (int i = 0; i + n <= characters.size(); i++) {
+            tokens.add(prefix + String.join("", characters.subList(i, i + n)));
+        }
+    }
+}
@@ -3,11 +3,11 @@ package com.ktb.chatapp.websocket.socketio;
 import com.corundumstudio.socketio.AuthTokenListener;
 import com.corundumstudio.socketio.AuthTokenResult;
 import com.corundumstudio.socketio.SocketIOClient;
-import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.service.JwtService;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
+import com.ktb.chatapp.service.UserCacheService;
 import com.ktb.chatapp.websocket.socketio.handler.ConnectionLoginHandler;
 import java.util.Map;
 import java.util.UUID;
@@ -31,8 +31,9 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
 
     private final JwtService jwtService;
     private final SessionService sessionService;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     private final ObjectProvider<ConnectionLoginHandler> socketIOChatHandlerProvider;
+    private final HandshakeAdmissionController admissionController;
 
     @Override
     public AuthTokenResult getAuthTokenResult(Object _authToken, SocketIOClient client) {
@@ -41,6 +42,32 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
         MDC.put("traceId", traceId);
         MDC.put("apiPath", "socket/connect");
 
+        try {
+            // 재접속 폭주 시 동시 핸드셰이크 수 제한
+            HandshakeAdmission admission = admissionController.tryAdmit();
+            if (!admission.admitted()) {
+                log.warn("Socket.IO handshake rejected - reason: {}, retryAfter: {}ms",
+                        admission.reason(), admission.retryAfterMs());
+                return new AuthTokenResult(false, Map.of(
+                        "message", "Server busy",
+                        "code", "HANDSHAKE_THROTTLED",
+                        "retryAfter", admission.retryAfterMs()));
+            }
+
+            AuthTokenResult result = null;
+            try {
+                result = authenticate(_authToken, client);
+                return result;
+            } finally {
+                admissionController.release(admission, result != null && result.isSuccess());
+            }
+        } finally {
+            MDC.remove("traceId");
+            MDC.remove("apiPath");
+        }
+    }
+
+    private AuthTokenResult authenticate(Object _authToken, SocketIOClient client) {
         try {
             var authToken = (Map<?, ?>) _authToken;
             if (authToken == null) {
@@ -71,24 +98,21 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
                 return new AuthTokenResult(false, Map.of("message", "Invalid session"));
             }
 
-            // Load user from database (이부분이 DB 조회)
-            User user = userRepository.findById(userId).orElse(null);
+            // 재접속 폭주 시 DB에 몰리지 않도록 사용자 캐시에서 조회
+            UserSummary user = userCacheService.getUser(userId);
             if (user == null) {
                 log.error("User not found: {}", userId);
                 return new AuthTokenResult(false, Map.of("message", "User not found"));
             }
 
-            log.info("Socket.IO connection authorized for user: {} ({})", user.getName(), userId);
+            log.info("Socket.IO connection authorized for user: {} ({})", user.name(), userId);
 
-            var socketUser = new SocketUser(user.getId(), user.getName(), sessionId, client.getSessionId().toString());
+            var socketUser = new SocketUser(user.id(), user.name(), sessionId, client.getSessionId().toString());
             socketIOChatHandlerProvider.getObject().onConnect(client, socketUser);
             return AuthTokenResult.AuthTokenResultSuccess;
         } catch (Exception e) {
             log.error("Socket.IO authentication error: {}", e.getMessage(), e);
             return new AuthTokenResult(false, Map.of("message", e.getMessage()));
-        } finally {
-            MDC.remove("traceId");
-            MDC.remove("apiPath");
         }
     }
 }
@@ -0,0 +1,19 @@
+package com.ktb.chatapp.websocket.socketio;
+
+/**
+ * 핸드셰이크 입장 허가 결과
+ * @param admitted 처리 슬롯 획득 여부
+ * @param reason 거절 사유 (saturated), 허가 시 null
+ * @param retryAfterMs 거절 시 클라이언트에 전달할 재시도 대기 시간(ms)
+ * @param startNanos 입장 요청 시각 (핸드셰이크 지연 시간 측정용)
+ */
+public record HandshakeAdmission(boolean admitted, String reason, long retryAfterMs, long startNanos) {
+
+    public static HandshakeAdmission admitted(long startNanos) {
+        return new HandshakeAdmission(true, null, 0L, startNanos);
+    }
+
+    public static HandshakeAdmission rejected(String reason, long retryAfterMs, long startNanos) {
+        return new HandshakeAdmission(false, reason, retryAfterMs, startNanos);
+    }
+}
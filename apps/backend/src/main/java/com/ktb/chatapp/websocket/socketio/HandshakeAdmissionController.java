@@ -0,0 +1,148 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.NettyRuntime;
+import io.netty.util.internal.SystemPropertyUtil;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Socket.IO 핸드셰이크 입장 제어기
+ * 노드 재시작 직후 모든 클라이언트가 동시에 재접속하면 핸드셰이크(JWT 검증, 세션 검증, 사용자 조회, 방 재입장)가
+ * 한꺼번에 몰려 MongoDB가 포화된다. 동시에 처리 중인 핸드셰이크 수를 노드별로 제한하고,
+ * 슬롯이 없으면 기다리지 않고 지터가 포함된 재시도 힌트와 함께 바로 거절한다.
+ * AuthTokenListener는 Netty 이벤트 루프에서 동기로 실행되므로 여기서 대기하면 그 루프의 모든 소켓 I/O가 멈춘다.
+ * 같은 이유로 동시에 처리되는 핸드셰이크는 워커 스레드 수를 넘을 수 없으므로, 한도는 워커 수보다 작게 잡는다.
+ * 한도를 지정하지 않으면 워커의 절반으로 두어, 재접속 폭주 중에도 나머지 루프는 기존 연결의 I/O를 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class HandshakeAdmissionController {
+
+    static final String REJECT_SATURATED = "saturated";
+
+    private final int limit;
+    private final long retryAfterBaseMs;
+    private final long retryAfterJitterMs;
+
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter admittedCounter;
+    private final Counter rejectedSaturatedCounter;
+    private final MeterRegistry meterRegistry;
+
+    public HandshakeAdmissionController(
+            @Value("${socketio.handshake.max-concurrent:0}") int maxConcurrent,
+            @Value("${socketio.server.worker-threads:0}") int workerThreads,
+            @Value("${socketio.handshake.retry-after-base-ms:2000}") long retryAfterBaseMs,
+            @Value("${socketio.handshake.retry-after-jitter-ms:3000}") long retryAfterJitterMs,
+            MeterRegistry meterRegistry) {
+        int workers = resolveWorkerThreads(workerThreads);
+        this.limit = resolveLimit(maxConcurrent, workers);
+        if (maxConcurrent > limit) {
+            log.warn("핸드셰이크 동시 처리 한도 {}가 워커 스레드 수 {} 이상이라 {}로 낮춥니다", maxConcurrent, workers, limit);
+        }
+        log.info("Socket.IO handshake admission limit: {} (worker threads: {})", limit, workers);
+        this.retryAfterBaseMs = retryAfterBaseMs;
+        this.retryAfterJitterMs = retryAfterJitterMs;
+        this.permits = new Semaphore(limit);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("socketio.handshake.inflight", inFlight, AtomicInteger::get)
+                .description("Socket.IO handshakes currently being processed")
+                .register(meterRegistry);
+        Gauge.builder("socketio.handshake.limit", () -> limit)
+                .description("Maximum concurrent Socket.IO handshakes on this node")
+                .register(meterRegistry);
+
+        this.admittedCounter = admissionCounter("admitted", "none");
+        this.rejectedSaturatedCounter = admissionCounter("rejected", REJECT_SATURATED);
+    }
+
+    /**
+     * 핸드셰이크 처리 슬롯 획득을 시도한다. 블로킹하지 않는다.
+     * 허가된 경우 처리 완료 후 반드시 {@link #release(HandshakeAdmission, boolean)}를 호출해야 한다.
+     */
+    public HandshakeAdmission tryAdmit() {
+        long startNanos = System.nanoTime();
+        if (permits.tryAcquire()) {
+            return admit(startNanos);
+        }
+        rejectedSaturatedCounter.increment();
+        return HandshakeAdmission.rejected(REJECT_SATURATED, nextRetryAfterMs(), startNanos);
+    }
+
+    /**
+     * 허가된 핸드셰이크의 처리 슬롯을 반환하고 전체 처리 시간을 기록한다.
+     */
+    public void release(HandshakeAdmission admission, boolean success) {
+        if (admission == null || !admission.admitted()) {
+            return;
+        }
+        inFlight.decrementAndGet();
+        permits.release();
+
+        Timer.builder("socketio.handshake.duration")
+                .description("Socket.IO handshake processing latency")
+                .tag("result", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - admission.startNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 설정값이 0이면 Netty 기본 이벤트 루프 스레드 수(io.netty.eventLoopThreads, 기본 코어 수 x 2)를 쓴다.
+     */
+    public static int resolveWorkerThreads(int configured) {
+        if (configured > 0) {
+            return configured;
+        }
+        return Math.max(1, SystemPropertyUtil.getInt("io.netty.eventLoopThreads", NettyRuntime.availableProcessors() * 2));
+    }
+
+    // 모든 워커가 핸드셰이크에 묶이면 거절도 일어나지 않으므로 한도는 워커 수 - 1을 넘지 않는다
+    static int resolveLimit(int maxConcurrent, int workerThreads) {
+        int ceiling = Math.max(1, workerThreads - 1);
+        int requested = maxConcurrent > 0 ? maxConcurrent : Math.max(1, workerThreads / 2);
+        return Math.min(requested, ceiling);
+    }
+
+    private HandshakeAdmission admit(long startNanos) {
+        inFlight.incrementAndGet();
+        admittedCounter.increment();
+        return HandshakeAdmission.admitted(startNanos);
+    }
+
+    // 거절된 클라이언트들이 같은 시점에 재시도하지 않도록 지터를 섞는다.
+    private long nextRetryAfterMs() {
+        long jitter = retryAfterJitterMs > 0 ? ThreadLocalRandom.current().nextLong(retryAfterJitterMs + 1) : 0L;
+        return retryAfterBaseMs + jitter;
+    }
+
+    private Counter admissionCounter(String result, String reason) {
+        return Counter.builder("socketio.handshake.admission")
+                .description("Socket.IO handshake admission decisions")
+                .tag("result", result)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -33,16 +33,6 @@ public class SocketIOEventListener {
         }
     }
 
-    @EventListener
-    public void handleRoomCreatedEvent(RoomCreatedEvent event) {
-        try {
-            socketIOServer.getRoomOperations("room-list").sendEvent(ROOM_CREATED, event.getRoomResponse());
-            log.info("roomCreated 이벤트 발송: roomId={}", event.getRoomResponse().getId());
-        } catch (Exception e) {
-            log.error("roomCreated 이벤트 발송 실패", e);
-        }
-    }
-
     @EventListener
     public void handleRoomUpdatedEvent(RoomUpdatedEvent event) {
         try {
@@ -71,18 +61,19 @@ public class SocketIOEventListener {
     }
 
     @EventListener
-    public void handleAiMessageChunkEvent(AiMessageChunkEvent event) {
+    public void handleAiMessageQueuedEvent(AiMessageQueuedEvent event) {
         try {
             Map<String, Object> data = Map.of(
                 "messageId", event.getMessageId(),
-                "fullContent", event.getFullContent(),
-                "isCodeBlock", event.isCodeBlock(),
-                "isComplete", false
+                "aiType", event.getAiType(),
+                "position", event.getPosition()
             );
             socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_CHUNK, data);
+                    .sendEvent(AI_MESSAGE_QUEUED, data);
+            log.info("aiMessageQueued 이벤트 발송: roomId={}, messageId={}, position={}",
+                    event.getRoomId(), event.getMessageId(), event.getPosition());
         } catch (Exception e) {
-            log.error("aiMessageChunk 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
+            log.error("aiMessageQueued 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
         }
     }
 
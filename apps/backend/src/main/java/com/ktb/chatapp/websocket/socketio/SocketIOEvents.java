@@ -46,6 +46,17 @@ public final class SocketIOEvents {
      * Payload: { messageId, reaction, type }
      */
     public static final String MESSAGE_REACTION = "messageReaction";
+
+    /**
+     * 방 목록 변경 구독 (다른 범위를 구독하면 이전 구독은 해제)
+     * Payload: { query } (없거나 비어 있으면 첫 페이지)
+     */
+    public static final String JOIN_ROOM_LIST = "joinRoomList";
+
+    /**
+     * 방 목록 변경 구독 해제
+     */
+    public static final String LEAVE_ROOM_LIST = "leaveRoomList";
     
     // ============================================
     // Server → Client Events (전송 이벤트)
@@ -93,10 +104,10 @@ public final class SocketIOEvents {
     public static final String PARTICIPANTS_UPDATE = "participantsUpdate";
 
     /**
-     * 채팅방 생성 알림
-     * Payload: RoomResponse
+     * 방 목록 변경 (생성/변경을 모아 보내는 프레임)
+     * Payload: { node, version, previousVersion, truncated, created, updated }
      */
-    public static final String ROOM_CREATED = "roomCreated";
+    public static final String ROOM_LIST_DELTA = "roomListDelta";
 
     /**
      * 채팅방 정보 업데이트
@@ -118,13 +129,13 @@ public final class SocketIOEvents {
 
     /**
      * 메시지 읽음 상태 업데이트
-     * Payload: { userId, messageIds }
+     * Payload: { userId, messageIds } (이번에 새로 읽음 처리된 메시지만)
      */
     public static final String MESSAGES_READ = "messagesRead";
 
     /**
      * 메시지 리액션 업데이트
-     * Payload: { messageId, reactions }
+     * Payload: { messageId, reactions: { <emoji>: { count, users } } }
      */
     public static final String MESSAGE_REACTION_UPDATE = "messageReactionUpdate";
 
@@ -152,8 +163,16 @@ public final class SocketIOEvents {
     public static final String AI_MESSAGE_START = "aiMessageStart";
 
     /**
-     * AI 스트리밍 청크
-     * Payload: { messageId, currentChunk, fullContent, isCodeBlock, timestamp, aiType, isComplete }
+     * AI 요청 대기열 등록 (동시 처리 한도 초과)
+     * Payload: { messageId, aiType, position }
+     */
+    public static final String AI_MESSAGE_QUEUED = "aiMessageQueued";
+
+    /**
+     * AI 스트리밍 청크 (약 50ms 단위로 묶인 프레임)
+     * Payload: { messageId, seq, delta, isCodeBlock, isComplete, fullContent? }
+     * delta는 직전 프레임 이후 추가된 내용이며, fullContent는 스냅샷 프레임에만 포함된다.
+     * seq가 연속되지 않으면 다음 스냅샷까지 delta를 버리고 fullContent로 다시 맞춘다.
      */
     public static final String AI_MESSAGE_CHUNK = "aiMessageChunk";
 
@@ -0,0 +1,27 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+/**
+ * AI 요청 입장 결과
+ * @param started 즉시 스트리밍 시작 여부
+ * @param queued 대기열 등록 여부
+ * @param position 대기열 등록 시 방 대기열 내 순번 (1부터)
+ * @param reason 거절 사유 (queue_full, room_queue_full), 거절이 아니면 null
+ */
+public record AiAdmission(boolean started, boolean queued, int position, String reason) {
+
+    public static AiAdmission start() {
+        return new AiAdmission(true, false, 0, null);
+    }
+
+    public static AiAdmission enqueue(int position) {
+        return new AiAdmission(false, true, position, null);
+    }
+
+    public static AiAdmission reject(String reason) {
+        return new AiAdmission(false, false, 0, reason);
+    }
+
+    public boolean isRejected() {
+        return !started && !queued;
+    }
+}
@@ -0,0 +1,375 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.model.AiType;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI 대화 맥락 생성기
+ * 방마다 최근 메시지 창(windowSize개)을 메모리에 유지하고, 창에서 밀려난 오래된 대화는
+ * summaryBatchSize개가 모일 때마다 비동기로 요약해 이전 요약에 누적한다.
+ * 프롬프트 조립은 메모리만 읽으며, 방 창이 없을 때만 최근 메시지를 한 번 읽어 채운다.
+ * 맥락 길이는 페르소나별 토큰 예산({@link AiType#getContextTokenBudget()}) 안에서 요약, 최신 메시지 순으로 채운다.
+ * 요약 호출은 {@link AiRequestGovernor}의 백그라운드 한도 안에서 실행되어 사용자 요청의 슬롯과 대기열을 쓰지 않는다.
+ * 메시지는 노드마다 따로 받으므로 기록은 Redis pub/sub으로 모든 노드에 전달해, 다른 노드에서 받은 메시지도 창에 들어가게 한다.
+ * 구독하지 못했거나 발행에 실패하면 현재 노드의 창에만 기록한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiContextBuilder {
+
+    private static final String SUMMARY_PROMPT = """
+            다음은 채팅방의 이전 대화 요약과 그 이후 대화입니다.
+            누가 어떤 주제로 무엇을 결정하거나 질문했는지 중심으로 %d자 이내의 한국어로 간결하게 요약하세요.""";
+
+    static final String SUMMARY_USER_ID = "system:summary";
+    static final String RECORD_CHANNEL = "ai:context:messages";
+
+    private final ChatClient chatClient;
+    private final AiRequestGovernor governor;
+    private final MessageRepository messageRepository;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, RoomContext> rooms;
+    private final boolean enabled;
+    private final int windowSize;
+    private final int summaryBatchSize;
+    private final int summaryMaxLength;
+    private volatile boolean subscribed;
+
+    public AiContextBuilder(
+            ChatClient.Builder chatClientBuilder,
+            AiRequestGovernor governor,
+            MessageRepository messageRepository,
+            UserRepository userRepository,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.context.enabled:true}") boolean enabled,
+            @Value("${ai.context.window-size:30}") int windowSize,
+            @Value("${ai.context.summary-batch-size:20}") int summaryBatchSize,
+            @Value("${ai.context.summary-max-length:800}") int summaryMaxLength,
+            @Value("${ai.context.idle-ttl:30m}") Duration idleTtl,
+            @Value("${ai.context.max-rooms:10000}") long maxRooms) {
+        this.chatClient = chatClientBuilder.build();
+        this.governor = governor;
+        this.messageRepository = messageRepository;
+        this.userRepository = userRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.windowSize = windowSize;
+        this.summaryBatchSize = summaryBatchSize;
+        this.summaryMaxLength = summaryMaxLength;
+        this.rooms = Caffeine.newBuilder()
+                .expireAfterAccess(idleTtl)
+                .maximumSize(maxRooms)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rooms, "ai.context");
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 기록 채널을 구독한다.
+     * Redis에 연결할 수 없으면 현재 노드에서 받은 메시지만 기록한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> onRecordMessage(message.getBody()),
+                    new ChannelTopic(RECORD_CHANNEL));
+            subscribed = true;
+        } catch (Exception e) {
+            log.warn("AI 맥락 기록 채널 구독 실패 - 현재 노드의 메시지만 기록합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 방에 새 메시지를 기록한다. 모든 노드에 전달되며, 창이 없는 방(아직 AI 요청이 없었던 방)은 무시한다.
+     */
+    public void record(String roomId, String speaker, String content) {
+        if (!enabled || content == null || content.isBlank()) {
+            return;
+        }
+        if (subscribed) {
+            try {
+                // 현재 노드도 구독으로 받아 기록하므로 여기서는 발행만 한다
+                stringRedisTemplate.convertAndSend(RECORD_CHANNEL,
+                        objectMapper.writeValueAsString(new RecordedMessage(roomId, speaker, content)));
+                return;
+            } catch (Exception e) {
+                log.warn("AI 맥락 기록 발행 실패 - 현재 노드에만 기록합니다: {}", e.getMessage());
+            }
+        }
+        append(roomId, speaker, content);
+    }
+
+    private void onRecordMessage(byte[] body) {
+        try {
+            RecordedMessage message = objectMapper.readValue(body, RecordedMessage.class);
+            append(message.roomId(), message.speaker(), message.content());
+        } catch (Exception e) {
+            log.warn("AI 맥락 기록 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void append(String roomId, String speaker, String content) {
+        RoomContext context = rooms.getIfPresent(roomId);
+        if (context != null && context.append(new Entry(speaker, content))) {
+            summarizeAsync(roomId, context);
+        }
+    }
+
+    /**
+     * 페르소나의 토큰 예산 안에서 대화 맥락을 만든다. 맥락이 없으면 빈 문자열을 반환한다.
+     */
+    public String build(String roomId, AiType aiType) {
+        if (!enabled || aiType == null) {
+            return "";
+        }
+        RoomContext context = rooms.get(roomId, this::load);
+        return context.render(aiType.getContextTokenBudget());
+    }
+
+    /**
+     * 토큰 수 추정치: ASCII는 4자당 1토큰, 그 외(한글 등)는 1자당 1토큰
+     */
+    static int estimateTokens(String text) {
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + 3) / 4;
+    }
+
+    private RoomContext load(String roomId) {
+        RoomContext context = new RoomContext(windowSize, summaryBatchSize);
+        try {
+            List<Message> recent = messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
+                    roomId, false, LocalDateTime.now(),
+                    PageRequest.of(0, windowSize, Sort.by(Sort.Direction.DESC, "timestamp"))).getContent();
+            Set<String> senderIds = recent.stream()
+                    .map(Message::getSenderId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<String, String> names = senderIds.isEmpty() ? Map.of()
+                    : userRepository.findSummariesByIdIn(senderIds).stream()
+                            .collect(Collectors.toMap(UserSummary::id, UserSummary::name, (a, b) -> a));
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                Message message = recent.get(i);
+                String speaker = speaker(message, names::get);
+                if (speaker != null && message.getContent() != null && !message.getContent().isBlank()) {
+                    context.append(new Entry(speaker, message.getContent()));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load recent messages for AI context - room: {}", roomId, e);
+        }
+        return context;
+    }
+
+    private static String speaker(Message message, Function<String, String> names) {
+        if (message.getType() == MessageType.ai) {
+            return message.getAiType() != null ? message.getAiType().getName() : "AI";
+        }
+        if (message.getType() != MessageType.text) {
+            return null;
+        }
+        String name = message.getSenderId() != null ? names.apply(message.getSenderId()) : null;
+        return name != null ? name : "사용자";
+    }
+
+    private void summarizeAsync(String roomId, RoomContext context) {
+        List<Entry> batch = context.beginSummary();
+        if (batch == null) {
+            return;
+        }
+        String previousSummary = context.getSummary();
+        long now = System.currentTimeMillis();
+        AiStreamRequest request = new AiStreamRequest(
+                "summary-" + roomId + "-" + now, roomId, SUMMARY_USER_ID, null, null, now, null, "");
+        Runnable run = () -> Mono.fromCallable(() -> summarize(previousSummary, batch))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> governor.releaseBackground(request))
+                .subscribe(
+                        summary -> context.completeSummary(batch.size(), summary),
+                        error -> {
+                            log.warn("Failed to refresh AI context summary - room: {}", roomId, error);
+                            context.failSummary();
+                        });
+
+        AiAdmission admission = governor.submitBackground(request, queued -> run.run());
+        if (admission.started()) {
+            run.run();
+        } else if (admission.isRejected()) {
+            log.warn("AI context summary rejected - room: {}, reason: {}", roomId, admission.reason());
+            context.failSummary();
+        }
+    }
+
+    private String summarize(String previousSummary, List<Entry> batch) {
+        StringBuilder transcript = new StringBuilder();
+        if (!previousSummary.isEmpty()) {
+            transcript.append("[이전 요약]\n").append(previousSummary).append("\n\n");
+        }
+        transcript.append("[이후 대화]\n");
+        batch.forEach(entry -> transcript.append(entry.line()).append('\n'));
+
+        String summary = chatClient.prompt()
+                .system(SUMMARY_PROMPT.formatted(summaryMaxLength))
+                .user(transcript.toString())
+                .call()
+                .content();
+        if (summary == null) {
+            return previousSummary;
+        }
+        summary = summary.strip();
+        return summary.length() > summaryMaxLength ? summary.substring(0, summaryMaxLength) : summary;
+    }
+
+    record RecordedMessage(String roomId, String speaker, String content) {
+    }
+
+    record Entry(String speaker, String content) {
+        String line() {
+            return speaker + ": " + content;
+        }
+    }
+
+    /**
+     * 방 하나의 최근 메시지 창과 누적 요약
+     */
+    static class RoomContext {
+        private final int windowSize;
+        private final int summaryBatchSize;
+        private final Deque<Entry> window = new ArrayDeque<>();
+        // 창에서 밀려나 아직 요약에 반영되지 않은 메시지
+        private final List<Entry> evicted = new ArrayList<>();
+        private String summary = "";
+        private boolean summarizing;
+
+        RoomContext(int windowSize, int summaryBatchSize) {
+            this.windowSize = windowSize;
+            this.summaryBatchSize = summaryBatchSize;
+        }
+
+        /**
+         * @return 요약을 갱신할 만큼 밀려난 메시지가 모였으면 true
+         */
+        synchronized boolean append(Entry entry) {
+            window.addLast(entry);
+            while (window.size() > windowSize) {
+                evicted.add(window.removeFirst());
+            }
+            return !summarizing && evicted.size() >= summaryBatchSize;
+        }
+
+        synchronized List<Entry> beginSummary() {
+            if (summarizing || evicted.size() < summaryBatchSize) {
+                return null;
+            }
+            summarizing = true;
+            return List.copyOf(evicted);
+        }
+
+        synchronized void completeSummary(int summarized, String newSummary) {
+            evicted.subList(0, summarized).clear();
+            summary = newSummary;
+            summarizing = false;
+        }
+
+        synchronized void failSummary() {
+            // 실패한 묶음은 버리고 다음 묶음부터 다시 요약한다 (무한 재시도 방지)
+            evicted.subList(0, Math.min(summaryBatchSize, evicted.size())).clear();
+            summarizing = false;
+        }
+
+        synchronized String getSummary() {
+            return summary;
+        }
+
+        synchronized String render(int tokenBudget) {
+            int remaining = tokenBudget;
+            String summaryBlock = "";
+            if (!summary.isEmpty()) {
+                summaryBlock = "[이전 대화 요약]\n" + summary + "\n";
+                int cost = estimateTokens(summaryBlock);
+                if (cost > remaining) {
+                    summaryBlock = "";
+                } else {
+                    remaining -= cost;
+                }
+            }
+
+            Deque<String> lines = new ArrayDeque<>();
+            Iterator<Entry> newestFirst = window.descendingIterator();
+            while (newestFirst.hasNext()) {
+                String line = newestFirst.next().line();
+                int cost = estimateTokens(line) + 1;
+                if (cost > remaining) {
+                    break;
+                }
+                remaining -= cost;
+                lines.addFirst(line);
+            }
+
+            if (summaryBlock.isEmpty() && lines.isEmpty()) {
+                return "";
+            }
+            StringBuilder context = new StringBuilder(summaryBlock);
+            if (!lines.isEmpty()) {
+                context.append("[최근 대화]\n");
+                lines.forEach(line -> context.append(line).append('\n'));
+            }
+            return context.toString();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 요청 동시성 제어기
+ * 노드 전체, 방별, 사용자별 동시 스트림 수를 제한한다.
+ * 한도를 넘은 요청은 방별 대기열에 넣고, 슬롯이 비면 방들을 순서대로 돌며 하나씩 꺼내
+ * 멘션을 많이 보내는 방이 다른 방의 요청을 밀어내지 못하게 한다.
+ * 맥락 요약 같은 백그라운드 호출은 사용자 요청과 별도의 한도와 대기열을 써서,
+ * 사용자 요청이 백그라운드 호출 뒤에서 기다리거나 방/사용자 슬롯을 빼앗기지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiRequestGovernor {
+
+    static final String REJECT_QUEUE_FULL = "queue_full";
+    static final String REJECT_ROOM_QUEUE_FULL = "room_queue_full";
+    static final String REJECT_BACKGROUND_QUEUE_FULL = "background_queue_full";
+
+    private final int maxConcurrent;
+    private final int maxPerRoom;
+    private final int maxPerUser;
+    private final int maxQueue;
+    private final int maxQueuePerRoom;
+    private final int maxBackground;
+    private final int maxBackgroundQueue;
+
+    // 방별 대기열 (삽입 순서 = 라운드로빈 순서, 꺼낸 방은 맨 뒤로 이동)
+    private final LinkedHashMap<String, Deque<Pending>> roomQueues = new LinkedHashMap<>();
+    private final Map<String, Integer> activeByRoom = new HashMap<>();
+    private final Map<String, Integer> activeByUser = new HashMap<>();
+    private int active;
+    private int queued;
+    private final Deque<Pending> backgroundQueue = new ArrayDeque<>();
+    private int activeBackground;
+
+    private final Counter rejectedQueueFullCounter;
+    private final Counter rejectedRoomQueueFullCounter;
+    private final Counter rejectedBackgroundQueueFullCounter;
+    private final Counter droppedCounter;
+    private final Timer queueWaitTimer;
+
+    public AiRequestGovernor(
+            @Value("${ai.governor.max-concurrent:16}") int maxConcurrent,
+            @Value("${ai.governor.max-per-room:2}") int maxPerRoom,
+            @Value("${ai.governor.max-per-user:1}") int maxPerUser,
+            @Value("${ai.governor.max-queue:200}") int maxQueue,
+            @Value("${ai.governor.max-queue-per-room:10}") int maxQueuePerRoom,
+            @Value("${ai.governor.max-background:2}") int maxBackground,
+            @Value("${ai.governor.max-background-queue:100}") int maxBackgroundQueue,
+            MeterRegistry meterRegistry) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxPerRoom = maxPerRoom;
+        this.maxPerUser = maxPerUser;
+        this.maxQueue = maxQueue;
+        this.maxQueuePerRoom = maxQueuePerRoom;
+        this.maxBackground = maxBackground;
+        this.maxBackgroundQueue = maxBackgroundQueue;
+
+        Gauge.builder("ai.requests.active", this, AiRequestGovernor::getActive)
+                .description("AI streams currently running on this node")
+                .register(meterRegistry);
+        Gauge.builder("ai.requests.queued", this, AiRequestGovernor::getQueued)
+                .description("AI requests waiting for a stream slot")
+                .register(meterRegistry);
+        Gauge.builder("ai.requests.background.active", this, AiRequestGovernor::getActiveBackground)
+                .description("Background AI calls (context summaries) currently running on this node")
+                .register(meterRegistry);
+        Gauge.builder("ai.requests.background.queued", this, AiRequestGovernor::getQueuedBackground)
+                .description("Background AI calls waiting for a background slot")
+                .register(meterRegistry);
+
+        this.rejectedQueueFullCounter = rejectionCounter(meterRegistry, REJECT_QUEUE_FULL);
+        this.rejectedRoomQueueFullCounter = rejectionCounter(meterRegistry, REJECT_ROOM_QUEUE_FULL);
+        this.rejectedBackgroundQueueFullCounter = rejectionCounter(meterRegistry, REJECT_BACKGROUND_QUEUE_FULL);
+        this.droppedCounter = Counter.builder("ai.requests.dropped")
+                .description("Queued AI requests dropped because the requester left")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("ai.requests.queue.wait")
+                .description("Time AI requests spent waiting for a stream slot")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 입장을 시도한다.
+     * 즉시 시작 가능하면 슬롯을 점유하고 {@link AiAdmission#start()}를 반환하며, 호출자가 스트림을 시작한다.
+     * 대기열에 들어간 요청은 슬롯이 비었을 때 starter로 시작된다.
+     */
+    public synchronized AiAdmission submit(AiStreamRequest request, Consumer<AiStreamRequest> starter) {
+        Deque<Pending> roomQueue = roomQueues.get(request.roomId());
+        boolean roomHasBacklog = roomQueue != null && !roomQueue.isEmpty();
+
+        // 같은 방의 대기 요청보다 먼저 시작하지 않도록 방 단위 FIFO 유지
+        if (!roomHasBacklog && canStart(request)) {
+            activate(request);
+            return AiAdmission.start();
+        }
+
+        if (queued >= maxQueue) {
+            rejectedQueueFullCounter.increment();
+            return AiAdmission.reject(REJECT_QUEUE_FULL);
+        }
+        if (roomQueue != null && roomQueue.size() >= maxQueuePerRoom) {
+            rejectedRoomQueueFullCounter.increment();
+            return AiAdmission.reject(REJECT_ROOM_QUEUE_FULL);
+        }
+
+        roomQueues.computeIfAbsent(request.roomId(), k -> new ArrayDeque<>())
+                .addLast(new Pending(request, starter, System.nanoTime(), false));
+        queued++;
+        return AiAdmission.enqueue(roomQueues.get(request.roomId()).size());
+    }
+
+    /**
+     * 백그라운드 호출(맥락 요약 등)의 입장을 시도한다.
+     * 사용자 요청의 노드/방/사용자 한도와 대기열을 쓰지 않고 별도 한도(maxBackground) 안에서만 실행되며,
+     * 끝나면 {@link #releaseBackground(AiStreamRequest)}로 반환해야 한다.
+     */
+    public synchronized AiAdmission submitBackground(AiStreamRequest request, Consumer<AiStreamRequest> starter) {
+        if (backgroundQueue.isEmpty() && activeBackground < maxBackground) {
+            activeBackground++;
+            return AiAdmission.start();
+        }
+        if (backgroundQueue.size() >= maxBackgroundQueue) {
+            rejectedBackgroundQueueFullCounter.increment();
+            return AiAdmission.reject(REJECT_BACKGROUND_QUEUE_FULL);
+        }
+        backgroundQueue.addLast(new Pending(request, starter, System.nanoTime(), true));
+        return AiAdmission.enqueue(backgroundQueue.size());
+    }
+
+    /**
+     * 백그라운드 호출 종료 시 슬롯을 반환하고 대기 중인 백그라운드 호출을 시작한다.
+     */
+    public void releaseBackground(AiStreamRequest request) {
+        Pending next;
+        synchronized (this) {
+            next = backgroundQueue.pollFirst();
+            if (next == null) {
+                activeBackground--;
+            }
+        }
+        // 다음 호출이 있으면 슬롯을 그대로 넘긴다
+        if (next != null) {
+            start(List.of(next));
+        }
+    }
+
+    /**
+     * 스트림 종료 시 슬롯을 반환하고 대기 중인 요청을 시작한다.
+     */
+    public void release(AiStreamRequest request) {
+        List<Pending> ready;
+        synchronized (this) {
+            active--;
+            decrement(activeByRoom, request.roomId());
+            decrement(activeByUser, request.userId());
+            ready = dispatch();
+        }
+        start(ready);
+    }
+
+    /**
+     * 요청자가 방을 떠나면 해당 사용자의 대기 중인 요청을 버린다.
+     *
+     * @return 버려진 요청 목록
+     */
+    public synchronized List<AiStreamRequest> dropQueued(String roomId, String userId) {
+        Deque<Pending> roomQueue = roomQueues.get(roomId);
+        if (roomQueue == null) {
+            return List.of();
+        }
+        List<AiStreamRequest> dropped = new ArrayList<>();
+        Iterator<Pending> iterator = roomQueue.iterator();
+        while (iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (Objects.equals(userId, pending.request().userId())) {
+                iterator.remove();
+                dropped.add(pending.request());
+            }
+        }
+        if (roomQueue.isEmpty()) {
+            roomQueues.remove(roomId);
+        }
+        queued -= dropped.size();
+        droppedCounter.increment(dropped.size());
+        return dropped;
+    }
+
+    public synchronized int getActive() {
+        return active;
+    }
+
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    public synchronized int getActiveBackground() {
+        return activeBackground;
+    }
+
+    public synchronized int getQueuedBackground() {
+        return backgroundQueue.size();
+    }
+
+    private List<Pending> dispatch() {
+        List<Pending> ready = new ArrayList<>();
+        boolean progressed = true;
+        while (progressed && active < maxConcurrent && queued > 0) {
+            progressed = false;
+            for (String roomId : new ArrayList<>(roomQueues.keySet())) {
+                if (active >= maxConcurrent) {
+                    break;
+                }
+                Deque<Pending> roomQueue = roomQueues.get(roomId);
+                Pending head = roomQueue.peekFirst();
+                if (head == null || !canStart(head.request())) {
+                    continue;
+                }
+                roomQueue.pollFirst();
+                queued--;
+                activate(head.request());
+                ready.add(head);
+                progressed = true;
+
+                // 방금 꺼낸 방은 라운드로빈 순서의 맨 뒤로 보낸다.
+                roomQueues.remove(roomId);
+                if (!roomQueue.isEmpty()) {
+                    roomQueues.put(roomId, roomQueue);
+                }
+            }
+        }
+        return ready;
+    }
+
+    private void start(List<Pending> ready) {
+        for (Pending pending : ready) {
+            if (!pending.background()) {
+                queueWaitTimer.record(System.nanoTime() - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            }
+            try {
+                pending.starter().accept(pending.request());
+            } catch (Exception e) {
+                log.error("Failed to start queued AI request - messageId: {}", pending.request().messageId(), e);
+                if (pending.background()) {
+                    releaseBackground(pending.request());
+                } else {
+                    release(pending.request());
+                }
+            }
+        }
+    }
+
+    private boolean canStart(AiStreamRequest request) {
+        return active < maxConcurrent
+                && activeByRoom.getOrDefault(request.roomId(), 0) < maxPerRoom
+                && activeByUser.getOrDefault(request.userId(), 0) < maxPerUser;
+    }
+
+    private void activate(AiStreamRequest request) {
+        active++;
+        activeByRoom.merge(request.roomId(), 1, Integer::sum);
+        activeByUser.merge(request.userId(), 1, Integer::sum);
+    }
+
+    private static void decrement(Map<String, Integer> counts, String key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ai.requests.rejected")
+                .description("AI requests rejected by the concurrency governor")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record Pending(AiStreamRequest request, Consumer<AiStreamRequest> starter, long enqueuedNanos,
+                           boolean background) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.model.AiType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI 응답 캐시
+ * 같은 페르소나에 같은 질문(정규화 기준)이 반복되면 모델을 호출하지 않고 저장된 답변을
+ * replayChunkLength 글자씩 replayInterval 간격으로 다시 흘려보낸다.
+ * 정상 완료된 답변만 저장하며, 잘리거나 취소/실패한 답변은 저장하지 않는다.
+ * 대화 맥락이 붙은 답변은 방 단위(scope)로만 공유한다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiResponseCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.~。？！]+$");
+
+    private final Cache<String, CachedAnswer> cache;
+    private final Duration replayInterval;
+    private final int replayChunkLength;
+    private final Timer latencySavedTimer;
+
+    public AiResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.ttl:10m}") Duration ttl,
+            @Value("${ai.cache.max-size:1000}") long maxSize,
+            @Value("${ai.cache.replay-interval:20ms}") Duration replayInterval,
+            @Value("${ai.cache.replay-chunk-length:8}") int replayChunkLength) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.replayInterval = replayInterval;
+        this.replayChunkLength = Math.max(1, replayChunkLength);
+        this.latencySavedTimer = Timer.builder("ai.cache.latency.saved")
+                .description("Upstream generation time skipped by serving AI answers from cache")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.response");
+    }
+
+    /**
+     * 캐시에 답변이 있으면 재생 스트림을 반환한다.
+     */
+    public Optional<Flux<ChunkData>> replay(AiType aiType, String scope, String query) {
+        String key = key(aiType, scope, query);
+        if (key == null) {
+            return Optional.empty();
+        }
+        CachedAnswer answer = cache.getIfPresent(key);
+        if (answer == null) {
+            return Optional.empty();
+        }
+        latencySavedTimer.record(Duration.ofMillis(answer.generationMillis()));
+        return Optional.of(replay(answer.content()));
+    }
+
+    public void put(AiType aiType, String scope, String query, String content, long generationMillis) {
+        String key = key(aiType, scope, query);
+        if (key == null || content == null || content.isBlank()) {
+            return;
+        }
+        cache.put(key, new CachedAnswer(content, generationMillis));
+    }
+
+    Cache<String, CachedAnswer> getCache() {
+        return cache;
+    }
+
+    private Flux<ChunkData> replay(String content) {
+        AtomicBoolean codeBlockState = new AtomicBoolean(false);
+        Flux<String> pieces = Flux.fromIterable(split(content, replayChunkLength));
+        if (!replayInterval.isZero()) {
+            pieces = pieces.delayElements(replayInterval);
+        }
+        return pieces.map(piece -> ChunkData.from(piece).updateCodeBlockState(codeBlockState));
+    }
+
+    /**
+     * 코드 포인트 기준으로 나눠 이모지/서로게이트 쌍이 쪼개지지 않게 한다.
+     */
+    static List<String> split(String content, int chunkLength) {
+        List<String> pieces = new ArrayList<>();
+        int start = 0;
+        while (start < content.length()) {
+            int end = content.offsetByCodePoints(start,
+                    Math.min(chunkLength, content.codePointCount(start, content.length())));
+            pieces.add(content.substring(start, end));
+            start = end;
+        }
+        return pieces;
+    }
+
+    /**
+     * @param scope 공유 범위 (맥락이 붙은 답변은 방 ID, 맥락 없는 답변은 null = 전역)
+     */
+    static String key(AiType aiType, String scope, String query) {
+        if (aiType == null || query == null) {
+            return null;
+        }
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return aiType.name() + ":" + (scope != null ? scope : "*") + ":" + normalized;
+    }
+
+    /**
+     * 유니코드 정규화(NFKC), 소문자 변환, 공백 압축, 끝 문장부호 제거
+     */
+    static String normalize(String query) {
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized.strip()).replaceAll(" ");
+        return TRAILING_PUNCTUATION.matcher(normalized).replaceAll("");
+    }
+
+    record CachedAnswer(String content, long generationMillis) {
+    }
+}
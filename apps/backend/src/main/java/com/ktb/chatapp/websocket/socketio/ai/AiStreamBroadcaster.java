@@ -0,0 +1,76 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.AI_MESSAGE_CHUNK;
+
+/**
+ * AI 스트림 청크 방송기
+ * 청크는 스트림마다 전용 파이프라인에서 바로 방 단위로 전송하며, 전역 이벤트 버스를 거치지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiStreamBroadcaster {
+
+    private final SocketIOServer socketIOServer;
+    private final Counter sentCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer latencyTimer;
+
+    public AiStreamBroadcaster(SocketIOServer socketIOServer, MeterRegistry meterRegistry) {
+        this.socketIOServer = socketIOServer;
+        this.sentCounter = frameCounter(meterRegistry, "sent");
+        this.droppedCounter = frameCounter(meterRegistry, "dropped");
+        this.failedCounter = frameCounter(meterRegistry, "failed");
+        this.latencyTimer = Timer.builder("ai.stream.broadcast.latency")
+                .description("Time from frame creation on the upstream thread to room broadcast")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void sendChunk(String roomId, String messageId, AiStreamFrame frame, String snapshot) {
+        try {
+            Map<String, Object> data = new HashMap<>();
+            data.put("messageId", messageId);
+            data.put("seq", frame.sequence());
+            data.put("delta", frame.delta());
+            data.put("isCodeBlock", frame.codeBlock());
+            data.put("isComplete", false);
+            if (snapshot != null) {
+                data.put("fullContent", snapshot);
+            }
+            socketIOServer.getRoomOperations(roomId).sendEvent(AI_MESSAGE_CHUNK, data);
+            sentCounter.increment();
+            latencyTimer.record(System.nanoTime() - frame.createdNanos(), TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("aiMessageChunk 이벤트 발송 실패: roomId={}, messageId={}", roomId, messageId, e);
+        }
+    }
+
+    /**
+     * 방송이 밀려 버퍼에서 밀려난 프레임을 기록한다.
+     */
+    public void recordDropped() {
+        droppedCounter.increment();
+    }
+
+    private static Counter frameCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.stream.frames")
+                .description("AI stream frames by delivery result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
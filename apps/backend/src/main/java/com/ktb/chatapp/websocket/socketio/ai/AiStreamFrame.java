@@ -0,0 +1,12 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+/**
+ * AI 스트림 전송 프레임
+ * @param sequence 스트림 내 프레임 번호 (1부터 증가)
+ * @param delta 직전 프레임 이후 추가된 내용
+ * @param contentLength 이 프레임까지 누적된 전체 내용 길이 (스냅샷 범위)
+ * @param codeBlock 프레임 종료 시점의 코드 블록 상태
+ * @param createdNanos 프레임 생성 시각 (System.nanoTime, 방송 지연 측정용)
+ */
+public record AiStreamFrame(long sequence, String delta, int contentLength, boolean codeBlock, long createdNanos) {
+}
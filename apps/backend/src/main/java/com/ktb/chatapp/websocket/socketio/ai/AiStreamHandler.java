@@ -1,11 +1,11 @@
 package com.ktb.chatapp.websocket.socketio.ai;
 
-import com.ktb.chatapp.event.AiMessageChunkEvent;
 import com.ktb.chatapp.event.AiMessageCompleteEvent;
 import com.ktb.chatapp.event.AiMessageErrorEvent;
 import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Subscriber;
@@ -13,34 +13,67 @@ import org.reactivestreams.Subscription;
 import org.slf4j.MDC;
 import org.springframework.context.ApplicationEventPublisher;
 
+/**
+ * 스트림별 AI 응답 전달 구독자
+ * 업스트림 청크는 {@link #accept(ChunkData)}에서 누적해 프레임으로 바꾸고,
+ * 방송은 스트림 전용 스레드에서 batchSize 단위로 요청하며 처리한다.
+ * 방송이 밀려 프레임이 버려지면 다음 프레임에 전체 내용을 실어 클라이언트가 다시 맞추게 한다.
+ * 완료/에러 이벤트는 모든 청크가 방송된 뒤 같은 스레드에서 발행되므로 순서가 보장된다.
+ */
 @Slf4j
 @RequiredArgsConstructor
-public class AiStreamHandler implements Subscriber<ChunkData> {
+public class AiStreamHandler implements Subscriber<AiStreamFrame> {
     private final StreamingSession session;
+    private final AiStreamBroadcaster broadcaster;
     private final ApplicationEventPublisher eventPublisher;
     private final Map<String, String> mdcContext; // MDC 컨텍스트 전달받기
-    private Subscription subscription;
+    private final int snapshotInterval; // 전체 내용을 함께 보내는 프레임 간격
+    private final int batchSize; // 한 번에 요청하는 프레임 수
+    private final AtomicBoolean framesDropped = new AtomicBoolean(false);
+    private volatile Subscription subscription;
+    private int consumedInBatch;
+
+    /**
+     * 업스트림 청크를 누적하고 전송 프레임으로 변환한다. (업스트림 스레드에서 호출)
+     */
+    public AiStreamFrame accept(ChunkData chunk) {
+        long sequence = session.appendContent(chunk.currentChunk());
+        return new AiStreamFrame(sequence, chunk.currentChunk(), session.getContentLength(), chunk.codeBlock(),
+                System.nanoTime());
+    }
+
+    /**
+     * 버퍼가 가득 차 오래된 프레임이 버려졌을 때 호출된다.
+     */
+    public void onFrameDropped(AiStreamFrame frame) {
+        framesDropped.set(true);
+        broadcaster.recordDropped();
+    }
 
     @Override
     public void onSubscribe(Subscription subscription) {
         this.subscription = subscription;
-        subscription.request(Long.MAX_VALUE);
+        subscription.request(batchSize);
     }
 
     @Override
-    public void onNext(ChunkData chunk) {
-        session.appendContent(chunk.currentChunk());
-
+    public void onNext(AiStreamFrame frame) {
         String messageId = session.getMessageId();
         String roomId = session.getRoomId();
         if (roomId == null) {
             log.warn("Room id missing while processing AI chunk - messageId: {}", messageId);
-            return;
+        } else {
+            boolean resync = framesDropped.getAndSet(false);
+            String snapshot = resync || (snapshotInterval > 0 && frame.sequence() % snapshotInterval == 0)
+                    ? session.getContent(frame.contentLength())
+                    : null;
+            broadcaster.sendChunk(roomId, messageId, frame, snapshot);
         }
 
-        eventPublisher.publishEvent(new AiMessageChunkEvent(
-                this, roomId, messageId,
-                session.getContent(), chunk.codeBlock()));
+        if (++consumedInBatch >= batchSize) {
+            consumedInBatch = 0;
+            subscription.request(batchSize);
+        }
     }
 
     @Override
@@ -82,11 +115,20 @@ public class AiStreamHandler implements Subscriber<ChunkData> {
     }
 
     public void cancel() {
-        if (subscription != null) {
-            subscription.cancel();
+        Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
         }
     }
 
+    public String getRoomId() {
+        return session.getRoomId();
+    }
+
+    public String getMessageId() {
+        return session.getMessageId();
+    }
+
     private void sendCompletionEvent() {
         eventPublisher.publishEvent(new AiMessageCompleteEvent(
                 this, session.getRoomId(), session.getMessageId(),
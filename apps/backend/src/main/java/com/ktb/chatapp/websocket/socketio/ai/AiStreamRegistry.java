@@ -0,0 +1,103 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 AI 스트림 레지스트리
+ * 노드에서 실행 중인 스트림을 방 단위로 추적하고, 방에 받을 사람이 아무도 남지 않으면 스트림을 취소해
+ * 업스트림 토큰 소비와 노드 CPU 낭비를 막는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiStreamRegistry {
+
+    static final String CANCEL_UNATTENDED = "unattended";
+    static final String TRUNCATED_WALL_CLOCK = "wall_clock";
+    static final String TRUNCATED_TOKEN_BUDGET = "token_budget";
+
+    private final Map<String, Set<AiStreamHandler>> streamsByRoom = new ConcurrentHashMap<>();
+    private final AtomicInteger activeStreams = new AtomicInteger();
+    private final RoomRepository roomRepository;
+    private final MeterRegistry meterRegistry;
+
+    public AiStreamRegistry(RoomRepository roomRepository, MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("ai.streams.active", activeStreams, AtomicInteger::get)
+                .description("AI streams in flight on this node")
+                .register(meterRegistry);
+        Gauge.builder("ai.streams.rooms", streamsByRoom, Map::size)
+                .description("Rooms with at least one AI stream in flight on this node")
+                .register(meterRegistry);
+    }
+
+    public void register(AiStreamHandler handler) {
+        if (streamsByRoom.computeIfAbsent(handler.getRoomId(), k -> ConcurrentHashMap.newKeySet()).add(handler)) {
+            activeStreams.incrementAndGet();
+        }
+    }
+
+    public void unregister(AiStreamHandler handler) {
+        streamsByRoom.computeIfPresent(handler.getRoomId(), (roomId, handlers) -> {
+            if (handlers.remove(handler)) {
+                activeStreams.decrementAndGet();
+            }
+            return handlers.isEmpty() ? null : handlers;
+        });
+    }
+
+    public List<AiStreamHandler> getStreams(String roomId) {
+        Set<AiStreamHandler> handlers = streamsByRoom.get(roomId);
+        return handlers == null ? List.of() : List.copyOf(handlers);
+    }
+
+    public int getActiveStreams() {
+        return activeStreams.get();
+    }
+
+    /**
+     * 방에 남은 참가자가 없으면 해당 방의 스트림을 모두 취소한다.
+     * 스트림이 없는 방은 저장소를 조회하지 않는다.
+     *
+     * @return 취소된 스트림 수
+     */
+    public int cancelIfUnattended(String roomId) {
+        List<AiStreamHandler> handlers = getStreams(roomId);
+        if (handlers.isEmpty()) {
+            return 0;
+        }
+        boolean attended = roomRepository.findById(roomId)
+                .map(room -> !room.isEmpty())
+                .orElse(false);
+        if (attended) {
+            return 0;
+        }
+
+        handlers.forEach(handler -> {
+            log.info("Cancelling unattended AI stream - messageId: {}, room: {}", handler.getMessageId(), roomId);
+            handler.cancel();
+            unregister(handler);
+        });
+        meterRegistry.counter("ai.streams.cancelled", "reason", CANCEL_UNATTENDED).increment(handlers.size());
+        return handlers.size();
+    }
+
+    /**
+     * 스트림이 시간 또는 토큰 한도에 걸려 잘린 경우를 기록한다.
+     */
+    public void recordTruncated(String reason) {
+        meterRegistry.counter("ai.streams.truncated", "reason", reason).increment();
+    }
+}
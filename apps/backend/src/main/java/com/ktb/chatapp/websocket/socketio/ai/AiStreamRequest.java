@@ -0,0 +1,25 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import java.util.Map;
+
+/**
+ * AI 스트리밍 요청
+ * @param messageId AI 메시지 ID (타입과 요청 시각 조합)
+ * @param roomId 요청이 발생한 방
+ * @param userId 요청자
+ * @param aiType AI 페르소나 (wayneAI, consultingAI)
+ * @param query 멘션을 제외한 질문
+ * @param timestamp 요청 시각 (epoch millis)
+ * @param mdcContext 요청 스레드의 MDC 컨텍스트 (대기열에서 시작될 때 복원)
+ * @param context 요청 시점의 대화 맥락 (요약 + 최근 메시지), 없으면 빈 문자열
+ */
+public record AiStreamRequest(
+        String messageId,
+        String roomId,
+        String userId,
+        String aiType,
+        String query,
+        long timestamp,
+        Map<String, String> mdcContext,
+        String context) {
+}
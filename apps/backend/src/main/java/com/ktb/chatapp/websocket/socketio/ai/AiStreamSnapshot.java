@@ -0,0 +1,21 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+/**
+ * 진행 중인 AI 스트림의 스냅샷 (늦게 입장한 사용자용)
+ * @param messageId 스트리밍 메시지 ID
+ * @param aiType AI 타입
+ * @param content sequence 시점까지 누적된 내용 (최대 길이로 잘릴 수 있음)
+ * @param sequence content에 반영된 마지막 프레임 번호, 이후 프레임부터 이어 붙이면 된다
+ * @param truncated content가 최대 길이에서 잘렸는지 여부, 잘렸으면 이어 붙이지 말고 다음 fullContent 프레임으로 맞춘다
+ * @param timestamp 스트림 시작 시각 (epoch millis)
+ * @param updatedAt 스냅샷 기록 시각 (epoch millis)
+ */
+public record AiStreamSnapshot(
+        String messageId,
+        String aiType,
+        String content,
+        long sequence,
+        boolean truncated,
+        long timestamp,
+        long updatedAt) {
+}
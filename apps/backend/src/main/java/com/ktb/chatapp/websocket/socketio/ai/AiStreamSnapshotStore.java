@@ -0,0 +1,158 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 AI 스트림 스냅샷 저장소
+ * 방마다 하나의 Redis 해시(messageId -> 스냅샷 JSON)에 스트림별 최신 내용을 기록해
+ * 어느 노드로 입장하든 진행 중인 답변을 바로 보여줄 수 있게 한다.
+ * 기록은 스트림당 writeInterval에 한 번으로 제한하고, 내용은 maxContentLength까지만 저장한다.
+ * 잘린 스냅샷은 sequence 이후 delta를 이어 붙이면 중간이 빠지므로 truncated로 표시한다.
+ * 노드가 죽어 지워지지 않은 스냅샷은 ttl이 지나면 조회에서 제외되고 키 만료로 정리된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiStreamSnapshotStore {
+
+    static final String KEY_PREFIX = "ai:streams:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration writeInterval;
+    private final Duration ttl;
+    private final int maxContentLength;
+    private final Counter writeCounter;
+    private final Counter failureCounter;
+
+    public AiStreamSnapshotStore(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.stream.snapshot.write-interval:500ms}") Duration writeInterval,
+            @Value("${ai.stream.snapshot.ttl:30s}") Duration ttl,
+            @Value("${ai.stream.snapshot.max-content-length:8000}") int maxContentLength) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.writeInterval = writeInterval;
+        this.ttl = ttl;
+        this.maxContentLength = maxContentLength;
+        this.writeCounter = meterRegistry.counter("ai.stream.snapshots", "result", "written");
+        this.failureCounter = meterRegistry.counter("ai.stream.snapshots", "result", "failed");
+    }
+
+    /**
+     * 스트림 시작 시 빈 스냅샷을 기록하고 스트림 전용 기록기를 반환한다.
+     */
+    public Writer open(StreamingSession session) {
+        Writer writer = new Writer(session);
+        writer.write(0, 0);
+        return writer;
+    }
+
+    /**
+     * 방의 진행 중인 스트림 스냅샷을 시작 순서대로 조회한다.
+     */
+    public List<AiStreamSnapshot> findByRoom(String roomId) {
+        Map<Object, Object> entries;
+        try {
+            entries = stringRedisTemplate.opsForHash().entries(key(roomId));
+        } catch (Exception e) {
+            log.warn("Failed to load AI stream snapshots - room: {}", roomId, e);
+            return List.of();
+        }
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        long staleBefore = System.currentTimeMillis() - ttl.toMillis();
+        List<AiStreamSnapshot> snapshots = new ArrayList<>(entries.size());
+        for (Object json : entries.values()) {
+            try {
+                AiStreamSnapshot snapshot = objectMapper.readValue(json.toString(), AiStreamSnapshot.class);
+                if (snapshot.updatedAt() >= staleBefore) {
+                    snapshots.add(snapshot);
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to deserialize AI stream snapshot - room: {}", roomId, e);
+            }
+        }
+        snapshots.sort(Comparator.comparingLong(AiStreamSnapshot::timestamp));
+        return snapshots;
+    }
+
+    private static String key(String roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    /**
+     * 스트림 하나의 스냅샷 기록기 (스트림의 방송 스레드에서만 호출)
+     */
+    public class Writer {
+        private final StreamingSession session;
+        private long lastWriteNanos;
+
+        private Writer(StreamingSession session) {
+            this.session = session;
+        }
+
+        /**
+         * 방송된 프레임을 반영한다. 마지막 기록 후 writeInterval이 지났을 때만 Redis에 쓴다.
+         */
+        public void onFrame(AiStreamFrame frame) {
+            if (System.nanoTime() - lastWriteNanos < writeInterval.toNanos()) {
+                return;
+            }
+            write(frame.sequence(), frame.contentLength());
+        }
+
+        /**
+         * 스트림 종료 시 스냅샷을 삭제한다.
+         */
+        public void close() {
+            try {
+                stringRedisTemplate.opsForHash().delete(key(session.getRoomId()), session.getMessageId());
+            } catch (Exception e) {
+                failureCounter.increment();
+                log.warn("Failed to remove AI stream snapshot - messageId: {}", session.getMessageId(), e);
+            }
+        }
+
+        private void write(long sequence, int contentLength) {
+            lastWriteNanos = System.nanoTime();
+            AiStreamSnapshot snapshot = new AiStreamSnapshot(
+                    session.getMessageId(),
+                    session.getAiType(),
+                    session.getContent(Math.min(contentLength, maxContentLength)),
+                    sequence,
+                    contentLength > maxContentLength,
+                    session.getTimestamp(),
+                    System.currentTimeMillis());
+            try {
+                String key = key(session.getRoomId());
+                stringRedisTemplate.opsForHash().put(key, session.getMessageId(),
+                        objectMapper.writeValueAsString(snapshot));
+                stringRedisTemplate.expire(key, ttl);
+                writeCounter.increment();
+            } catch (Exception e) {
+                // 스냅샷은 보조 정보이므로 실패해도 스트리밍은 계속한다.
+                failureCounter.increment();
+                log.warn("Failed to write AI stream snapshot - messageId: {}", session.getMessageId(), e);
+            }
+        }
+    }
+}
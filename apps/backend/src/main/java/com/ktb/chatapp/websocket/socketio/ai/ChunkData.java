@@ -1,5 +1,6 @@
 package com.ktb.chatapp.websocket.socketio.ai;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public record ChunkData(String currentChunk, boolean codeBlock) {
@@ -7,6 +8,21 @@ public record ChunkData(String currentChunk, boolean codeBlock) {
     public static ChunkData from(String chunk) {
         return new ChunkData(chunk, false);
     }
+
+    /**
+     * 한 프레임 동안 모인 청크를 하나로 합친다.
+     * 코드 블록 상태는 마지막 청크 기준이다.
+     */
+    public static ChunkData merge(List<ChunkData> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.getFirst();
+        }
+        StringBuilder merged = new StringBuilder();
+        for (ChunkData chunk : chunks) {
+            merged.append(chunk.currentChunk());
+        }
+        return new ChunkData(merged.toString(), chunks.getLast().codeBlock());
+    }
     
     public ChunkData updateCodeBlockState(AtomicBoolean codeBlockState) {
         boolean currentState = codeBlockState.get();
@@ -0,0 +1,100 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 오프라인용 로컬 ChatModel
+ * {@code spring.ai.model.chat=local}이면 OpenAI 대신 등록되어 외부 호출 없이 답변을 토큰 단위로 흘려보낸다.
+ * 토큰 간격(tokenDelay + 0~jitter)과 답변 길이(answerTokens)를 조절해 부하 테스트의 업스트림으로 쓸 수 있다.
+ * answerTokens가 0이면 질문을 되돌려주는 짧은 답변을 만든다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.ai.model.chat", havingValue = "local")
+public class LocalChatModel implements ChatModel {
+
+    private static final String[] WORDS = {
+            "채팅", "서버는", "메시지를", "실시간으로", "전달하며", "응답을", "조금씩", "스트리밍합니다.", "```", "코드"
+    };
+
+    private final Duration tokenDelay;
+    private final Duration jitter;
+    private final int answerTokens;
+
+    public LocalChatModel(
+            @Value("${ai.local.token-delay:20ms}") Duration tokenDelay,
+            @Value("${ai.local.jitter:0ms}") Duration jitter,
+            @Value("${ai.local.answer-tokens:0}") int answerTokens) {
+        this.tokenDelay = tokenDelay;
+        this.jitter = jitter;
+        this.answerTokens = answerTokens;
+        log.info("Local ChatModel enabled - tokenDelay: {}, jitter: {}, answerTokens: {}",
+                tokenDelay, jitter, answerTokens);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        return response(String.join("", tokens(prompt)));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        Flux<String> tokens = Flux.fromIterable(tokens(prompt));
+        if (!tokenDelay.isZero() || !jitter.isZero()) {
+            tokens = tokens.concatMap(token -> Mono.just(token).delayElement(nextDelay()));
+        }
+        return tokens.map(LocalChatModel::response);
+    }
+
+    private List<String> tokens(Prompt prompt) {
+        if (answerTokens > 0) {
+            List<String> tokens = new ArrayList<>(answerTokens);
+            for (int i = 0; i < answerTokens; i++) {
+                tokens.add(WORDS[i % WORDS.length] + " ");
+            }
+            return tokens;
+        }
+        String query = prompt.getUserMessage() != null ? prompt.getUserMessage().getText() : "";
+        return tokenize("로컬 응답입니다. 질문: " + query);
+    }
+
+    private Duration nextDelay() {
+        long jitterNanos = jitter.toNanos();
+        return jitterNanos > 0
+                ? tokenDelay.plusNanos(ThreadLocalRandom.current().nextLong(jitterNanos + 1))
+                : tokenDelay;
+    }
+
+    /**
+     * 공백을 앞 토큰에 붙여 단어 단위로 나눈다. (이어 붙이면 원문과 같다)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= text.length(); i++) {
+            if (i == text.length() || (Character.isWhitespace(text.charAt(i - 1)) && !Character.isWhitespace(text.charAt(i)))) {
+                tokens.add(text.substring(start, i));
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
@@ -7,12 +7,13 @@ import com.ktb.chatapp.dto.ChatMessageRequest;
 import com.ktb.chatapp.dto.FileResponse;
 import com.ktb.chatapp.dto.MessageContent;
 import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.ReactionSummary;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.model.*;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.util.BannedWordChecker;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
 import com.ktb.chatapp.service.SessionService;
@@ -20,6 +21,7 @@ import com.ktb.chatapp.service.SessionValidationResult;
 import com.ktb.chatapp.service.AsyncMessagingService;
 import com.ktb.chatapp.service.RateLimitService;
 import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.service.UserCacheService;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -45,7 +47,7 @@ public class ChatMessageHandler {
     private final MessageRepository messageRepository; // 직접 저장은 안하지만 조회용으로 필요할수 있음 (근데 여기선 안쓰네?) - 아니 조회용으론 안쓰고 삭제용이나
                                                        // 로드용인데 여기선 AsyncService가 저장함.
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     private final FileRepository fileRepository;
     private final AiService aiService;
     private final SessionService sessionService;
@@ -116,7 +118,7 @@ public class ChatMessageHandler {
                 return;
             }
 
-            User sender = userRepository.findById(socketUser.id()).orElse(null);
+            UserSummary sender = userCacheService.getUser(socketUser.id());
             if (sender == null) {
                 recordError("user_not_found");
                 client.sendEvent(ERROR, Map.of(
@@ -180,8 +182,9 @@ public class ChatMessageHandler {
 
             // AI 멘션 처리
             aiService.handleAIMentions(roomId, socketUser.id(), messageContent);
-
-            sessionService.updateLastActivity(socketUser.id());
+            if (message.getType() == MessageType.text) {
+                aiService.recordMessage(roomId, sender.name(), message.getContent());
+            }
 
             // Record success metrics
             recordMessageSuccess(messageType);
@@ -251,14 +254,14 @@ public class ChatMessageHandler {
         return message;
     }
 
-    private MessageResponse createMessageResponse(Message message, User sender) {
+    private MessageResponse createMessageResponse(Message message, UserSummary sender) {
         var messageResponse = new MessageResponse();
         messageResponse.setId(message.getId());
         messageResponse.setRoomId(message.getRoomId());
         messageResponse.setContent(message.getContent());
         messageResponse.setType(message.getType());
         messageResponse.setTimestamp(message.toTimestampMillis());
-        messageResponse.setReactions(message.getReactions() != null ? message.getReactions() : Collections.emptyMap());
+        messageResponse.setReactions(ReactionSummary.summarize(message, null));
         messageResponse.setSender(UserResponse.from(sender));
         messageResponse.setMetadata(message.getMetadata());
 
@@ -3,12 +3,13 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
 import com.ktb.chatapp.service.UserCacheService;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -67,7 +68,7 @@ public class MessageLoader {
         List<Message> sortedMessages = messages.reversed();
 
         var messageIds = sortedMessages.stream().map(Message::getId).toList();
-        messageReadStatusService.updateReadStatus(messageIds, userId);
+        Set<String> newlyRead = new HashSet<>(messageReadStatusService.markAsRead(messageIds, userId));
 
         // 1. Collect all sender IDs
         Set<String> senderIds = sortedMessages.stream()
@@ -76,13 +77,19 @@ public class MessageLoader {
                 .collect(Collectors.toSet());
 
         // 2. Fetch users using Smart Cache (Redis + DB)
-        Map<String, User> userMap = userCacheService.getUsers(senderIds);
+        Map<String, UserSummary> userMap = userCacheService.getUsers(senderIds);
 
         // 3. Map messages to responses using the user map
         List<MessageResponse> messageResponses = sortedMessages.stream()
                 .map(message -> {
-                    User user = message.getSenderId() != null ? userMap.get(message.getSenderId()) : null;
-                    return messageResponseMapper.mapToMessageResponse(message, user);
+                    UserSummary user = message.getSenderId() != null ? userMap.get(message.getSenderId()) : null;
+                    MessageResponse response = messageResponseMapper.mapToMessageResponse(message, user, userId);
+                    // 조회한 페이지는 방금 모두 읽음 처리했으므로 readers를 읽지 않고 반영
+                    response.setReadByMe(true);
+                    if (newlyRead.contains(message.getId())) {
+                        response.setReadCount(response.getReadCount() + 1);
+                    }
+                    return response;
                 })
                 .collect(Collectors.toList());
 
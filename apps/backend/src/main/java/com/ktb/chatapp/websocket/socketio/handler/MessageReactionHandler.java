@@ -1,14 +1,13 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageReactionRequest;
-import com.ktb.chatapp.dto.MessageReactionResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +21,8 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 /**
  * 메시지 리액션 처리 핸들러
  * 메시지 이모지 리액션 추가/제거 및 브로드캐스트 담당
+ * 리액션은 메시지 문서 전체를 읽고 쓰지 않고 reactions.&lt;emoji&gt;에 원자적으로 반영하며,
+ * 방송은 {@link ReactionBroadcaster}가 메시지별로 모아 보낸다.
  */
 @Slf4j
 @Component
@@ -29,8 +30,8 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReactionHandler {
 
-    private final SocketIOServer socketIOServer;
     private final MessageRepository messageRepository;
+    private final ReactionBroadcaster reactionBroadcaster;
 
     @OnEvent(MESSAGE_REACTION)
     public void handleMessageReaction(SocketIOClient client, MessageReactionRequest data) {
@@ -46,32 +47,31 @@ public class MessageReactionHandler {
                 return;
             }
 
-            Message message = messageRepository.findById(data.getMessageId()).orElse(null);
-            if (message == null) {
-                client.sendEvent(ERROR, Map.of("message", "메시지를 찾을 수 없습니다."));
+            String reaction = data.getReaction();
+            if (!isValidReaction(reaction)) {
+                client.sendEvent(ERROR, Map.of("message", "올바르지 않은 리액션입니다."));
                 return;
             }
 
+            Optional<Message> updated;
             switch (data.getType()) {
-                case "add" -> message.addReaction(data.getReaction(), userId);
-                case "remove" -> message.removeReaction(data.getReaction(), userId);
+                case "add" -> updated = messageRepository.addReaction(data.getMessageId(), reaction, userId);
+                case "remove" -> updated = messageRepository.removeReaction(data.getMessageId(), reaction, userId);
                 case null, default -> {
                     client.sendEvent(ERROR, Map.of("message", "지원하지 않는 리액션 타입입니다."));
                     return;
                 }
             }
 
-            log.debug("Message reaction processed - type: {}, reaction: {}, messageId: {}, userId: {}",
-                    data.getType(), data.getReaction(), message.getId(), userId);
-
-            messageRepository.save(message);
+            if (updated.isEmpty()) {
+                client.sendEvent(ERROR, Map.of("message", "메시지를 찾을 수 없습니다."));
+                return;
+            }
 
-            MessageReactionResponse response = new MessageReactionResponse(
-                    message.getId(),
-                    message.getReactions());
+            log.debug("Message reaction processed - type: {}, reaction: {}, messageId: {}, userId: {}",
+                    data.getType(), reaction, data.getMessageId(), userId);
 
-            socketIOServer.getRoomOperations(message.getRoomId())
-                    .sendEvent(MESSAGE_REACTION_UPDATE, response);
+            reactionBroadcaster.submit(updated.get());
 
         } catch (Exception e) {
             log.error("Error handling messageReaction", e);
@@ -83,6 +83,10 @@ public class MessageReactionHandler {
         }
     }
 
+    static boolean isValidReaction(String reaction) {
+        return Message.isValidReaction(reaction);
+    }
+
     private String getUserId(SocketIOClient client) {
         var user = (SocketUser) client.get("user");
         return user.id();
@@ -7,12 +7,12 @@ import com.ktb.chatapp.dto.MarkAsReadRequest;
 import com.ktb.chatapp.dto.MessagesReadResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.UserCacheService;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +38,7 @@ public class MessageReadHandler {
     private final MessageReadStatusService messageReadStatusService;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
 
     @OnEvent(MARK_MESSAGES_AS_READ)
     public void handleMarkAsRead(SocketIOClient client, MarkAsReadRequest data) {
@@ -66,8 +66,7 @@ public class MessageReadHandler {
                 return;
             }
 
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
+            if (userCacheService.getUser(userId) == null) {
                 client.sendEvent(ERROR, Map.of("message", "User not found"));
                 return;
             }
@@ -78,9 +77,13 @@ public class MessageReadHandler {
                 return;
             }
 
-            messageReadStatusService.updateReadStatus(data.getMessageIds(), userId);
+            // 이미 읽은 메시지를 다시 알리면 클라이언트의 읽음 수가 중복으로 올라가므로 새로 읽은 메시지만 방송
+            List<String> newlyRead = messageReadStatusService.markAsRead(data.getMessageIds(), userId);
+            if (newlyRead.isEmpty()) {
+                return;
+            }
 
-            MessagesReadResponse response = new MessagesReadResponse(userId, data.getMessageIds());
+            MessagesReadResponse response = new MessagesReadResponse(userId, newlyRead);
 
             // Broadcast to room
             socketIOServer.getRoomOperations(roomId)
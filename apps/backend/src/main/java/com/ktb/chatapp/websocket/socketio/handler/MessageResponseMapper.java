@@ -2,12 +2,11 @@ package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.ktb.chatapp.dto.FileResponse;
 import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.ReactionSummary;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,32 +23,43 @@ public class MessageResponseMapper {
 
     private final FileRepository fileRepository;
 
+    /**
+     * Message 엔티티를 MessageResponse DTO로 변환 (방 전체 방송용, 리액션 여부 없음)
+     *
+     * @param message 변환할 메시지 엔티티
+     * @param sender 메시지 발신자 정보 (null 가능)
+     * @return MessageResponse DTO
+     */
+    public MessageResponse mapToMessageResponse(Message message, UserSummary sender) {
+        return mapToMessageResponse(message, sender, null);
+    }
+
     /**
      * Message 엔티티를 MessageResponse DTO로 변환
      *
      * @param message 변환할 메시지 엔티티
      * @param sender 메시지 발신자 정보 (null 가능)
+     * @param viewerId 조회한 사용자 ID, 리액션 요약의 reacted와 readByMe 계산에 사용 (null 가능)
      * @return MessageResponse DTO
      */
-    public MessageResponse mapToMessageResponse(Message message, User sender) {
+    public MessageResponse mapToMessageResponse(Message message, UserSummary sender, String viewerId) {
         MessageResponse.MessageResponseBuilder builder = MessageResponse.builder()
                 .id(message.getId())
                 .content(message.getContent())
                 .type(message.getType())
                 .timestamp(message.toTimestampMillis())
                 .roomId(message.getRoomId())
-                .reactions(message.getReactions() != null ?
-                        message.getReactions() : new HashMap<>())
-                .readers(message.getReaders() != null ?
-                        message.getReaders() : new ArrayList<>());
+                .reactions(ReactionSummary.summarize(message, viewerId))
+                .readCount(message.countReaders())
+                .readByMe(isReadBy(message, viewerId));
 
         // 발신자 정보 설정
         if (sender != null) {
             builder.sender(UserResponse.builder()
-                    .id(sender.getId())
-                    .name(sender.getName())
-                    .email(sender.getEmail())
-                    .profileImage(sender.getProfileImage())
+                    .id(sender.id())
+                    .name(sender.name())
+                    .email(sender.email())
+                    .profileImage(sender.profileImage())
                     .build());
         }
 
@@ -72,4 +82,15 @@ public class MessageResponseMapper {
 
         return builder.build();
     }
+
+    private static boolean isReadBy(Message message, String viewerId) {
+        if (viewerId == null) {
+            return false;
+        }
+        if (viewerId.equals(message.getSenderId())) {
+            return true;
+        }
+        return message.getReaders() != null && message.getReaders().stream()
+                .anyMatch(reader -> viewerId.equals(reader.getUserId()));
+    }
 }
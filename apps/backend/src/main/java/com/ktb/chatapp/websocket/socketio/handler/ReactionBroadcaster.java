@@ -0,0 +1,121 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageReactionResponse;
+import com.ktb.chatapp.dto.ReactionSummary;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.MessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE_REACTION_UPDATE;
+
+/**
+ * 리액션 변경 브로드캐스터
+ * 같은 메시지의 리액션 변경은 window 동안 모아 한 번만 방에 전송한다.
+ * 전송 형식은 사용자 ID 전체가 아닌 {@link ReactionSummary}이며, 방 전체에 같은 내용을 보내므로 reacted는 비운다.
+ * 창 안에서 변경이 한 번뿐이면 갱신 결과를 그대로 보내고, 여러 번이면 순서가 뒤섞였을 수 있으므로
+ * 전송 직전에 reactions만 다시 읽어 최종 상태를 보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactionBroadcaster {
+
+    private final SocketIOServer socketIOServer;
+    private final MessageRepository messageRepository;
+    private final Duration window;
+    private final Scheduler scheduler;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+
+    public ReactionBroadcaster(
+            SocketIOServer socketIOServer,
+            MessageRepository messageRepository,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.reaction.broadcast-window:200ms}") Duration window) {
+        this.socketIOServer = socketIOServer;
+        this.messageRepository = messageRepository;
+        this.window = window;
+        this.scheduler = Schedulers.newSingle("reaction-broadcast");
+        this.sentCounter = Counter.builder("socketio.reaction.broadcasts")
+                .description("Reaction update broadcasts by result")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("socketio.reaction.broadcasts")
+                .description("Reaction update broadcasts by result")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리액션 변경 결과를 방송 대기열에 넣는다.
+     *
+     * @param message roomId와 reactions가 채워진 갱신 후 메시지
+     */
+    public void submit(Message message) {
+        if (window.isZero() || window.isNegative()) {
+            send(message.getRoomId(), message);
+            return;
+        }
+
+        boolean[] first = {false};
+        pending.compute(message.getId(), (messageId, current) -> {
+            if (current == null) {
+                first[0] = true;
+                return new Pending(message, 1);
+            }
+            coalescedCounter.increment();
+            return new Pending(message, current.updates() + 1);
+        });
+        if (first[0]) {
+            scheduler.schedule(() -> flush(message.getId()), window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    void flush(String messageId) {
+        Pending flushed = pending.remove(messageId);
+        if (flushed == null) {
+            return;
+        }
+        try {
+            Message latest = flushed.updates() > 1
+                    ? messageRepository.findReactionsById(messageId).orElse(flushed.message())
+                    : flushed.message();
+            send(flushed.message().getRoomId(), latest);
+        } catch (Exception e) {
+            log.error("Failed to broadcast reaction update - messageId: {}", messageId, e);
+        }
+    }
+
+    private void send(String roomId, Message message) {
+        socketIOServer.getRoomOperations(roomId)
+                .sendEvent(MESSAGE_REACTION_UPDATE, new MessageReactionResponse(
+                        message.getId(), ReactionSummary.summarize(message, null)));
+        sentCounter.increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    private record Pending(Message message, int updates) {
+    }
+}
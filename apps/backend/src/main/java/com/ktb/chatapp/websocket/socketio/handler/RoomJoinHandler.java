@@ -3,19 +3,24 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.ActiveStreamResponse;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.dto.JoinRoomSuccessResponse;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.UserCacheService;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
+import com.ktb.chatapp.websocket.socketio.ai.AiStreamSnapshot;
+import com.ktb.chatapp.websocket.socketio.ai.AiStreamSnapshotStore;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.slf4j.MDC;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
@@ -40,11 +46,13 @@ public class RoomJoinHandler {
     private final SocketIOServer socketIOServer;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final ApplicationEventPublisher eventPublisher;
     private final UserRooms userRooms;
     private final MessageLoader messageLoader;
     private final MessageResponseMapper messageResponseMapper;
     private final RoomLeaveHandler roomLeaveHandler;
+    private final AiStreamSnapshotStore aiStreamSnapshotStore;
 
     @OnEvent(JOIN_ROOM)
     public void handleJoinRoom(SocketIOClient client, String roomId) {
@@ -62,7 +70,7 @@ public class RoomJoinHandler {
                 return;
             }
 
-            if (userRepository.findById(userId).isEmpty()) {
+            if (userCacheService.getUser(userId) == null) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
                 return;
             }
@@ -76,12 +84,16 @@ public class RoomJoinHandler {
             if (userRooms.isInRoom(userId, roomId)) {
                 log.debug("User {} already in room {}", userId, roomId);
                 client.joinRoom(roomId);
-                client.sendEvent(JOIN_ROOM_SUCCESS, Map.of("roomId", roomId));
+                // 재연결 시에도 진행 중인 AI 답변을 이어 받을 수 있도록 스냅샷 전달
+                client.sendEvent(JOIN_ROOM_SUCCESS, Map.of(
+                        "roomId", roomId,
+                        "activeStreams", findActiveStreams(roomId)));
                 return;
             }
 
             // MongoDB의 $addToSet 연산자를 사용한 원자적 업데이트
             roomRepository.addParticipant(roomId, userId);
+            eventPublisher.publishEvent(new RoomParticipantsChangedEvent(this, roomId, userId, true));
 
             // Join socket room and add to user's room set
             client.joinRoom(roomId);
@@ -114,9 +126,7 @@ public class RoomJoinHandler {
 
             // 참가자 정보 조회
             Room room = roomOpt.get();
-            Map<String, User> participantsById = new HashMap<>();
-            userRepository.findByIdIn(room.getParticipantIds())
-                    .forEach(user -> participantsById.put(user.getId(), user));
+            Map<String, UserSummary> participantsById = userCacheService.getUsers(room.getParticipantIds());
 
             List<UserResponse> participants = room.getParticipantIds()
                     .stream()
@@ -130,7 +140,7 @@ public class RoomJoinHandler {
                     .participants(participants)
                     .messages(messageLoadResult.getMessages())
                     .hasMore(messageLoadResult.isHasMore())
-                    .activeStreams(Collections.emptyList())
+                    .activeStreams(findActiveStreams(roomId))
                     .build();
 
             client.sendEvent(JOIN_ROOM_SUCCESS, response);
@@ -156,6 +166,25 @@ public class RoomJoinHandler {
         }
     }
 
+    private List<ActiveStreamResponse> findActiveStreams(String roomId) {
+        return aiStreamSnapshotStore.findByRoom(roomId).stream()
+                .map(this::toActiveStreamResponse)
+                .toList();
+    }
+
+    private ActiveStreamResponse toActiveStreamResponse(AiStreamSnapshot snapshot) {
+        return ActiveStreamResponse.builder()
+                .id(snapshot.messageId())
+                .type(MessageType.ai.name())
+                .aiType(snapshot.aiType())
+                .content(snapshot.content())
+                .timestamp(Instant.ofEpochMilli(snapshot.timestamp()).toString())
+                .isStreaming(true)
+                .seq(snapshot.sequence())
+                .truncated(snapshot.truncated())
+                .build();
+    }
+
     private SocketUser getUser(SocketIOClient client) {
         return client.get("user");
     }
@@ -5,27 +5,31 @@ import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.UserCacheService;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
+import com.ktb.chatapp.websocket.socketio.ai.AiService;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.slf4j.MDC;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
@@ -43,9 +47,11 @@ public class RoomLeaveHandler {
     private final SocketIOServer socketIOServer;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final ApplicationEventPublisher eventPublisher;
     private final UserRooms userRooms;
     private final MessageResponseMapper messageResponseMapper;
+    private final AiService aiService;
 
     @OnEvent(LEAVE_ROOM)
     public void handleLeaveRoom(SocketIOClient client, String roomId) {
@@ -68,7 +74,7 @@ public class RoomLeaveHandler {
                 return;
             }
 
-            User user = userRepository.findById(userId).orElse(null);
+            UserSummary user = userCacheService.getUser(userId);
             Room room = roomRepository.findById(roomId).orElse(null);
 
             if (user == null || room == null) {
@@ -77,9 +83,11 @@ public class RoomLeaveHandler {
             }
 
             roomRepository.removeParticipant(roomId, userId);
+            eventPublisher.publishEvent(new RoomParticipantsChangedEvent(this, roomId, userId, false));
 
             client.leaveRoom(roomId);
             userRooms.remove(userId, roomId);
+            aiService.onUserLeftRoom(roomId, userId);
 
             log.info("User {} left room {}", userName, room.getName());
 
@@ -131,10 +139,10 @@ public class RoomLeaveHandler {
             return;
         }
 
-        var participantList = roomOpt.get()
-                .getParticipantIds()
-                .stream()
-                .map(id -> userRepository.findById(id).orElse(null))
+        Set<String> participantIds = roomOpt.get().getParticipantIds();
+        Map<String, UserSummary> participants = userCacheService.getUsers(participantIds);
+        var participantList = participantIds.stream()
+                .map(participants::get)
                 .filter(Objects::nonNull)
                 .map(UserResponse::from)
                 .toList();
@@ -0,0 +1,355 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.RoomListDelta;
+import com.ktb.chatapp.dto.RoomListSubscription;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import com.ktb.chatapp.util.NgramTokenizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 방 목록 변경 피드
+ * 방 생성/변경을 window 동안 모아 {@link RoomListDelta} 프레임 하나로 구독 채널에 보낸다.
+ * 클라이언트는 joinRoomList로 보고 있는 범위만 구독한다: 첫 페이지는 room-list, 이름 검색은 room-list:search:{검색어}.
+ * 검색 채널에는 이름이 검색어에 맞는 방만 보내며, 다른 노드의 구독자가 있는 검색어도 알 수 있도록
+ * 구독 중인 검색어를 Redis 정렬 집합(검색어 -> 만료 시각)에 등록한다.
+ * 한 프레임의 생성/변경 방은 각각 maxRoomsPerFrame개까지만 담는다.
+ * 생성 방이 넘치면 오래된 방을 빼고 목록 채널 프레임을 truncated로, 변경 방이 넘치면 resync로 표시한다.
+ * 검색 채널은 빠진 방 중 검색어에 맞는 방이 있을 때만 resync로 표시한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomListFeed {
+
+    public static final String CHANNEL = "room-list";
+    static final String SEARCH_CHANNEL_PREFIX = CHANNEL + ":search:";
+    static final String QUERIES_KEY = "room-list:queries";
+
+    private static final String CHANNEL_ATTRIBUTE = "roomListChannel";
+    private static final int MAX_QUERY_LENGTH = 50;
+    // 프레임에서 빠진 방 이름을 이 수까지만 기억하고, 넘치면 모든 검색 채널에 resync를 보낸다
+    private static final int MAX_DROPPED_TRACKED = 1000;
+
+    private final SocketIOServer socketIOServer;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration window;
+    private final int maxRoomsPerFrame;
+    private final Duration queryTtl;
+    private final Scheduler scheduler;
+    private final String node = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, Long> lastSentVersions = new ConcurrentHashMap<>();
+    private final Set<String> localQueries = ConcurrentHashMap.newKeySet();
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, RoomResponse> pendingCreated = new LinkedHashMap<>();
+    private final LinkedHashMap<String, RoomResponse> pendingUpdated = new LinkedHashMap<>();
+    private boolean pendingTruncated;
+    private boolean pendingUpdatesDropped;
+    private final List<String> pendingDroppedNames = new ArrayList<>();
+    private boolean pendingDroppedUntracked;
+    private boolean flushScheduled;
+
+    private final Counter fanoutBytes;
+    private final Counter listFrames;
+    private final Counter searchFrames;
+    private final Counter failureCounter;
+
+    public RoomListFeed(
+            SocketIOServer socketIOServer,
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.room-list.flush-interval:1s}") Duration window,
+            @Value("${socketio.room-list.max-rooms-per-frame:20}") int maxRoomsPerFrame,
+            @Value("${socketio.room-list.search-subscription-ttl:5m}") Duration queryTtl) {
+        this.socketIOServer = socketIOServer;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.window = window;
+        this.maxRoomsPerFrame = Math.max(1, maxRoomsPerFrame);
+        this.queryTtl = queryTtl;
+        this.scheduler = Schedulers.newSingle("room-list-feed");
+        this.fanoutBytes = Counter.builder("socketio.room-list.fanout.bytes")
+                .description("Room list delta bytes sent to local subscribers (payload size x recipients)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.listFrames = Counter.builder("socketio.room-list.frames")
+                .description("Room list delta frames by channel")
+                .tag("channel", "list")
+                .register(meterRegistry);
+        this.searchFrames = Counter.builder("socketio.room-list.frames")
+                .description("Room list delta frames by channel")
+                .tag("channel", "search")
+                .register(meterRegistry);
+        this.failureCounter = meterRegistry.counter("socketio.room-list.failures");
+
+        // 이 노드에 구독자가 남은 검색어만 만료 시각을 늘린다
+        long refreshMillis = Math.max(1000, queryTtl.toMillis() / 3);
+        scheduler.schedulePeriodically(this::refreshQueries, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @OnEvent(JOIN_ROOM_LIST)
+    public void handleJoinRoomList(SocketIOClient client, RoomListSubscription data) {
+        if (client.get("user") == null) {
+            client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+            return;
+        }
+        String query = normalizeQuery(data != null ? data.query() : null);
+        String channel = query.isEmpty() ? CHANNEL : SEARCH_CHANNEL_PREFIX + query;
+
+        String previous = client.get(CHANNEL_ATTRIBUTE);
+        if (previous != null && !previous.equals(channel)) {
+            client.leaveRoom(previous);
+        }
+        client.joinRoom(channel);
+        client.set(CHANNEL_ATTRIBUTE, channel);
+
+        if (!query.isEmpty() && localQueries.add(query)) {
+            registerQueries(List.of(query));
+        }
+    }
+
+    @OnEvent(LEAVE_ROOM_LIST)
+    public void handleLeaveRoomList(SocketIOClient client) {
+        String previous = client.get(CHANNEL_ATTRIBUTE);
+        if (previous != null) {
+            client.leaveRoom(previous);
+            client.del(CHANNEL_ATTRIBUTE);
+        }
+    }
+
+    @EventListener
+    public void handleRoomCreatedEvent(RoomCreatedEvent event) {
+        submit(event.getRoomResponse(), true);
+    }
+
+    @EventListener
+    public void handleRoomUpdatedEvent(RoomUpdatedEvent event) {
+        submit(event.getRoomResponse(), false);
+    }
+
+    void submit(RoomResponse room, boolean created) {
+        if (room == null || room.getId() == null) {
+            return;
+        }
+        RoomResponse shared = room.toBuilder().isCreator(false).build();
+        boolean schedule;
+        synchronized (lock) {
+            if (created) {
+                pendingCreated.put(shared.getId(), shared);
+                evictOldest(pendingCreated, true);
+            } else if (pendingCreated.containsKey(shared.getId())) {
+                // 아직 보내지 않은 새 방은 생성 순서를 유지한 채 최신 정보로 바꾼다
+                pendingCreated.put(shared.getId(), shared);
+            } else {
+                pendingUpdated.remove(shared.getId());
+                pendingUpdated.put(shared.getId(), shared);
+                evictOldest(pendingUpdated, false);
+            }
+            schedule = !flushScheduled;
+            flushScheduled = true;
+        }
+        if (window.isZero() || window.isNegative()) {
+            flush();
+        } else if (schedule) {
+            scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void evictOldest(LinkedHashMap<String, RoomResponse> rooms, boolean created) {
+        Iterator<RoomResponse> oldest = rooms.values().iterator();
+        while (rooms.size() > maxRoomsPerFrame) {
+            RoomResponse dropped = oldest.next();
+            oldest.remove();
+            if (created) {
+                pendingTruncated = true;
+            } else {
+                pendingUpdatesDropped = true;
+            }
+            if (pendingDroppedNames.size() < MAX_DROPPED_TRACKED) {
+                pendingDroppedNames.add(dropped.getName() != null ? dropped.getName() : "");
+            } else {
+                pendingDroppedUntracked = true;
+            }
+        }
+    }
+
+    void flush() {
+        List<RoomResponse> created;
+        List<RoomResponse> updated;
+        boolean truncated;
+        boolean updatesDropped;
+        List<String> droppedNames;
+        boolean droppedUntracked;
+        synchronized (lock) {
+            created = new ArrayList<>(pendingCreated.values()).reversed();
+            updated = new ArrayList<>(pendingUpdated.values());
+            truncated = pendingTruncated;
+            updatesDropped = pendingUpdatesDropped;
+            droppedNames = List.copyOf(pendingDroppedNames);
+            droppedUntracked = pendingDroppedUntracked;
+            pendingCreated.clear();
+            pendingUpdated.clear();
+            pendingTruncated = false;
+            pendingUpdatesDropped = false;
+            pendingDroppedNames.clear();
+            pendingDroppedUntracked = false;
+            flushScheduled = false;
+        }
+        if (created.isEmpty() && updated.isEmpty()) {
+            return;
+        }
+
+        try {
+            send(CHANNEL, truncated, updatesDropped, created, updated);
+            listFrames.increment();
+            for (String query : activeQueries()) {
+                List<RoomResponse> matchedCreated = filter(created, query);
+                List<RoomResponse> matchedUpdated = filter(updated, query);
+                // 검색 결과는 첫 페이지와 순서가 달라 created로 앞부분을 대신할 수 없으므로, 맞는 방이 빠졌으면 다시 읽게 한다
+                boolean resync = droppedUntracked || droppedNames.stream().anyMatch(name -> matches(name, query));
+                if (matchedCreated.isEmpty() && matchedUpdated.isEmpty() && !resync) {
+                    continue;
+                }
+                send(SEARCH_CHANNEL_PREFIX + query, false, resync, matchedCreated, matchedUpdated);
+                searchFrames.increment();
+            }
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("Failed to broadcast room list delta - created: {}, updated: {}", created.size(), updated.size(), e);
+        }
+    }
+
+    private void send(String channel, boolean truncated, boolean resync,
+            List<RoomResponse> created, List<RoomResponse> updated) {
+        long frameVersion = version.incrementAndGet();
+        Long previousVersion = lastSentVersions.put(channel, frameVersion);
+        RoomListDelta frame = new RoomListDelta(node, frameVersion, previousVersion, truncated, resync, created, updated);
+
+        BroadcastOperations operations = socketIOServer.getRoomOperations(channel);
+        operations.sendEvent(ROOM_LIST_DELTA, frame);
+        int recipients = operations.getClients().size();
+        if (recipients > 0) {
+            fanoutBytes.increment((double) payloadSize(frame) * recipients);
+        }
+    }
+
+    private long payloadSize(RoomListDelta frame) {
+        try {
+            return objectMapper.writeValueAsBytes(frame).length;
+        } catch (JsonProcessingException e) {
+            return 0;
+        }
+    }
+
+    private static List<RoomResponse> filter(List<RoomResponse> rooms, String query) {
+        return rooms.stream().filter(room -> matches(room.getName(), query)).toList();
+    }
+
+    static boolean matches(String name, String query) {
+        return NgramTokenizer.nameMatches(name, query);
+    }
+
+    static String normalizeQuery(String query) {
+        String normalized = NgramTokenizer.normalize(query);
+        if (normalized.codePointCount(0, normalized.length()) > MAX_QUERY_LENGTH) {
+            normalized = normalized.substring(0, normalized.offsetByCodePoints(0, MAX_QUERY_LENGTH));
+        }
+        return normalized;
+    }
+
+    /**
+     * 이 노드와 다른 노드에서 구독 중인 검색어 (Redis 장애 시 이 노드의 검색어만)
+     */
+    private Set<String> activeQueries() {
+        Set<String> queries = new LinkedHashSet<>(localQueries);
+        try {
+            Set<String> registered = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(QUERIES_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (registered != null) {
+                queries.addAll(registered);
+            }
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.warn("Failed to load room list search subscriptions", e);
+        }
+        return queries;
+    }
+
+    void refreshQueries() {
+        try {
+            localQueries.removeIf(query -> {
+                String channel = SEARCH_CHANNEL_PREFIX + query;
+                if (socketIOServer.getRoomOperations(channel).getClients().isEmpty()) {
+                    lastSentVersions.remove(channel);
+                    return true;
+                }
+                return false;
+            });
+            registerQueries(localQueries);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(QUERIES_KEY, 0, System.currentTimeMillis());
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.warn("Failed to refresh room list search subscriptions", e);
+        }
+    }
+
+    private void registerQueries(Collection<String> queries) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        double expiresAt = System.currentTimeMillis() + queryTtl.toMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = queries.stream()
+                .map(query -> ZSetOperations.TypedTuple.of(query, expiresAt))
+                .collect(Collectors.toSet());
+        try {
+            stringRedisTemplate.opsForZSet().add(QUERIES_KEY, tuples);
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.warn("Failed to register room list search subscriptions - queries: {}", queries.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
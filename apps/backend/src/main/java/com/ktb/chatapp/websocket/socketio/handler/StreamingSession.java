@@ -1,10 +1,13 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.ktb.chatapp.model.AiType;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 @Data
@@ -18,13 +21,25 @@ public class StreamingSession {
     private String userId;
     private String aiType;
     private String query;
+    // 프롬프트에 함께 보낼 대화 맥락
+    private String context;
     private long timestamp;
     @Builder.Default
     private long lastUpdate = System.currentTimeMillis();
+    // 토큰마다 전체 문자열을 복사하지 않도록 누적 버퍼 사용
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     @Builder.Default
-    private String content = "";
+    private StringBuilder content = new StringBuilder();
+    // 클라이언트로 보낸 마지막 청크 프레임 번호
+    @Setter(AccessLevel.NONE)
+    private long sequence;
 
     public AiType aiTypeEnum() {
+        return resolveAiType(aiType);
+    }
+
+    public static AiType resolveAiType(String aiType) {
         if (aiType == null) return null;
 
         var aiTypeEnum = switch (aiType.toLowerCase()) {
@@ -38,9 +53,28 @@ public class StreamingSession {
         return aiTypeEnum;
     }
 
-    public void appendContent(String contentChunk) {
-        content += contentChunk;
+    /**
+     * 청크를 누적하고 다음 프레임 번호를 반환한다.
+     */
+    public synchronized long appendContent(String contentChunk) {
+        content.append(contentChunk);
         lastUpdate = System.currentTimeMillis();
+        return ++sequence;
+    }
+
+    public synchronized String getContent() {
+        return content.toString();
+    }
+
+    public synchronized int getContentLength() {
+        return content.length();
+    }
+
+    /**
+     * 앞에서부터 length만큼의 누적 내용 (특정 프레임 시점의 스냅샷)
+     */
+    public synchronized String getContent(int length) {
+        return content.substring(0, Math.min(length, content.length()));
     }
     
     public long generationTimeMillis() {
@@ -0,0 +1,94 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.model.User;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UserSummaryRedisSerializer 테스트")
+class UserSummaryRedisSerializerTest {
+
+    private final UserSummaryRedisSerializer serializer = new UserSummaryRedisSerializer();
+
+    @Test
+    @DisplayName("모든 필드를 담은 요약은 그대로 복원")
+    void roundTrip_allFields() {
+        // given
+        UserSummary user = new UserSummary("66f0c0ffee00000000000001", "김철수", "chulsoo@example.com",
+                "https://cdn.example.com/profiles/66f0c0ffee00000000000001.png");
+
+        // when
+        UserSummary restored = serializer.deserialize(serializer.serialize(user));
+
+        // then
+        assertThat(restored).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("null 필드는 비트마스크로만 표시하고 null로 복원하며 빈 문자열과 구분")
+    void roundTrip_nullAndEmptyFields() {
+        // given
+        UserSummary user = new UserSummary("u1", "", null, null);
+
+        // when
+        UserSummary restored = serializer.deserialize(serializer.serialize(user));
+
+        // then
+        assertThat(restored.name()).isEmpty();
+        assertThat(restored.email()).isNull();
+        assertThat(restored.profileImage()).isNull();
+    }
+
+    @Test
+    @DisplayName("모든 필드가 null인 요약(없음 표시)은 2바이트")
+    void serialize_emptySummary_twoBytes() {
+        // when
+        byte[] bytes = serializer.serialize(new UserSummary(null, null, null, null));
+
+        // then
+        assertThat(bytes).hasSize(2);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(new UserSummary(null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식 버전은 예외로 거부")
+    void deserialize_unknownVersion_throws() {
+        // given
+        byte[] bytes = serializer.serialize(new UserSummary("u1", "사용자", null, null));
+        bytes[0] = (byte) (UserSummaryRedisSerializer.VERSION + 1);
+
+        // when & then
+        assertThatThrownBy(() -> serializer.deserialize(bytes)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("이전 형식(전체 User JSON)보다 작게 저장")
+    void serialize_smallerThanFullUserJson() {
+        // given
+        User user = User.builder()
+                .id("66f0c0ffee00000000000001")
+                .name("김철수")
+                .email("chulsoo@example.com")
+                .encryptedEmail("c2FtcGxlLWVuY3J5cHRlZC1lbWFpbC12YWx1ZS1mb3ItdGVzdA==")
+                .password("$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ")
+                .profileImage("https://cdn.example.com/profiles/66f0c0ffee00000000000001.png")
+                .createdAt(LocalDateTime.of(2025, 11, 18, 12, 0))
+                .updatedAt(LocalDateTime.of(2025, 11, 18, 12, 0))
+                .build();
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        json.configure(mapper -> mapper.findAndRegisterModules());
+
+        // when
+        int legacy = json.serialize(user).length;
+        int current = serializer.serialize(UserSummary.from(user)).length;
+
+        // then
+        assertThat(current * 2).isLessThan(legacy);
+    }
+}
@@ -0,0 +1,147 @@
+package com.ktb.chatapp.controller;
+
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.security.SessionAwareJwtAuthenticationConverter;
+import com.ktb.chatapp.service.SessionData;
+import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.SessionValidationResult;
+import com.ktb.chatapp.service.UserCacheService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageController 테스트")
+class MessageControllerTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserCacheService userCacheService;
+
+    @Mock
+    private SessionService sessionService;
+
+    private MockMvc mockMvc;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new MessageController(messageRepository, roomRepository, userCacheService)).build();
+        // 실제 요청과 같이 JWT 변환기로 인증을 만든다 (principal 이름은 이메일, 사용자 ID는 Details)
+        when(sessionService.validateSession("user-1", "session-1"))
+                .thenReturn(SessionValidationResult.valid(SessionData.builder().userId("user-1").build()));
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("member@example.com")
+                .claim("userId", "user-1")
+                .claim("sessionId", "session-1")
+                .build();
+        authentication = new SessionAwareJwtAuthenticationConverter(sessionService).convert(jwt);
+    }
+
+    @Test
+    @DisplayName("참여자는 사용자 ID로 확인해 리액션 사용자 목록을 조회")
+    void getReactors_member_returnsPage() throws Exception {
+        // given
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(true);
+        Message message = Message.builder()
+                .id("m1")
+                .roomId("room-1")
+                .reactions(Map.of("👍", Set.of("user-2")))
+                .reactionCounts(Map.of("👍", 1))
+                .build();
+        when(messageRepository.findReactors("m1", "👍", 0, 50)).thenReturn(Optional.of(message));
+        when(userCacheService.getUsers(anySet()))
+                .thenReturn(Map.of("user-2", new UserSummary("user-2", "사용자 2", "user2@example.com", null)));
+
+        // when & then
+        mockMvc.perform(get("/api/message/rooms/room-1/messages/m1/reactions")
+                        .param("reaction", "👍")
+                        .principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.users[0].name").value("사용자 2"));
+    }
+
+    @Test
+    @DisplayName("경로 구분자나 연산자가 들어간 리액션은 조회하지 않고 400")
+    void getReactors_invalidReaction_badRequest() throws Exception {
+        // given
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(true);
+
+        // when & then
+        mockMvc.perform(get("/api/message/rooms/room-1/messages/m1/reactions")
+                        .param("reaction", "👍.users")
+                        .principal(authentication))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/message/rooms/room-1/messages/m1/reactions")
+                        .param("reaction", "$where")
+                        .principal(authentication))
+                .andExpect(status().isBadRequest());
+        verify(messageRepository, never()).findReactors(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("참여자는 사용자 ID로 확인해 읽은 사용자 목록을 조회")
+    void getReaders_member_returnsPage() throws Exception {
+        // given
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(true);
+        Message message = Message.builder()
+                .id("m1")
+                .roomId("room-1")
+                .readers(List.of(new Message.MessageReader("user-2", LocalDateTime.of(2025, 11, 18, 12, 0))))
+                .readCount(1)
+                .build();
+        when(messageRepository.findReaders("m1", 0, 50)).thenReturn(Optional.of(message));
+        when(userCacheService.getUsers(anySet()))
+                .thenReturn(Map.of("user-2", new UserSummary("user-2", "사용자 2", "user2@example.com", null)));
+
+        // when & then
+        mockMvc.perform(get("/api/message/rooms/room-1/messages/m1/readers").principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.readers[0].user.name").value("사용자 2"));
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 리액션 사용자 목록은 403")
+    void getReactors_nonMember_forbidden() throws Exception {
+        // given
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(false);
+
+        // when & then
+        mockMvc.perform(get("/api/message/rooms/room-1/messages/m1/reactions")
+                        .param("reaction", "👍")
+                        .principal(authentication))
+                .andExpect(status().isForbidden());
+    }
+}
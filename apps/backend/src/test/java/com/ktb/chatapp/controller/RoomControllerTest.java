@@ -0,0 +1,101 @@
+package com.ktb.chatapp.controller;
+
+import com.ktb.chatapp.dto.ParticipantsResponse;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.security.SessionAwareJwtAuthenticationConverter;
+import com.ktb.chatapp.service.RoomActivityCounter;
+import com.ktb.chatapp.service.RoomService;
+import com.ktb.chatapp.service.SessionData;
+import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.SessionValidationResult;
+import com.ktb.chatapp.service.UserCacheService;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomController 테스트")
+class RoomControllerTest {
+
+    @Mock
+    private UserCacheService userCacheService;
+
+    @Mock
+    private RoomActivityCounter roomActivityCounter;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private SessionService sessionService;
+
+    private MockMvc mockMvc;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new RoomController(userCacheService, roomActivityCounter, roomService, roomRepository)).build();
+        // 실제 요청과 같이 JWT 변환기로 인증을 만든다 (principal 이름은 이메일, 사용자 ID는 Details)
+        when(sessionService.validateSession("user-1", "session-1"))
+                .thenReturn(SessionValidationResult.valid(SessionData.builder().userId("user-1").build()));
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("member@example.com")
+                .claim("userId", "user-1")
+                .claim("sessionId", "session-1")
+                .build();
+        authentication = new SessionAwareJwtAuthenticationConverter(sessionService).convert(jwt);
+    }
+
+    @Test
+    @DisplayName("참여자는 이메일이 아닌 사용자 ID로 확인해 참여자 목록을 조회")
+    void getParticipants_member_returnsPage() throws Exception {
+        // given
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(true);
+        when(roomService.getParticipants("room-1", 0, 50)).thenReturn(Optional.of(ParticipantsResponse.builder()
+                .roomId("room-1")
+                .total(1)
+                .participants(List.of())
+                .build()));
+
+        // when & then
+        mockMvc.perform(get("/api/rooms/room-1/participants").principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roomId").value("room-1"))
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 403")
+    void getParticipants_nonMember_forbidden() throws Exception {
+        // given
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(false);
+
+        // when & then
+        mockMvc.perform(get("/api/rooms/room-1/participants").principal(authentication))
+                .andExpect(status().isForbidden());
+        verify(roomService, never()).getParticipants(anyString(), anyInt(), anyInt());
+        verify(roomRepository, never()).isParticipant(eq("room-1"), eq("member@example.com"));
+    }
+}
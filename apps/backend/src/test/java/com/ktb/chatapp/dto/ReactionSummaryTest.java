@@ -0,0 +1,85 @@
+package com.ktb.chatapp.dto;
+
+import com.ktb.chatapp.model.Message;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReactionSummary 테스트")
+class ReactionSummaryTest {
+
+    private Message message(Map<String, Set<String>> reactions, Map<String, Integer> counts) {
+        return Message.builder().id("m1").reactions(reactions).reactionCounts(counts).build();
+    }
+
+    @Test
+    @DisplayName("저장된 카운트와 앞쪽 일부 사용자만 요약")
+    void summarize_usesStoredCountAndPreview() {
+        // given
+        Set<String> users = new LinkedHashSet<>(List.of("u1", "u2", "u3", "u4", "u5"));
+        Message message = message(Map.of("👍", users), Map.of("👍", 5));
+
+        // when
+        Map<String, ReactionSummary> summaries = ReactionSummary.summarize(message, "u4");
+
+        // then
+        ReactionSummary summary = summaries.get("👍");
+        assertThat(summary.getCount()).isEqualTo(5);
+        assertThat(summary.getReacted()).isTrue();
+        assertThat(summary.getUsers()).containsExactly("u1", "u2", "u3");
+    }
+
+    @Test
+    @DisplayName("방 전체 방송용 요약은 reacted를 비움")
+    void summarize_withoutViewer_leavesReactedNull() {
+        // given
+        Message message = message(Map.of("🎉", Set.of("u1")), Map.of("🎉", 1));
+
+        // when
+        ReactionSummary summary = ReactionSummary.summarize(message, null).get("🎉");
+
+        // then
+        assertThat(summary.getReacted()).isNull();
+        assertThat(summary.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카운트가 없는 이전 문서는 사용자 수로 대신하고 빈 리액션은 제외")
+    void summarize_legacyDocument_fallsBackToSetSize() {
+        // given
+        Message message = message(Map.of("👍", Set.of("u1", "u2"), "😢", Set.of()), new HashMap<>());
+
+        // when
+        Map<String, ReactionSummary> summaries = ReactionSummary.summarize(message, "u9");
+
+        // then
+        assertThat(summaries).containsOnlyKeys("👍");
+        assertThat(summaries.get("👍").getCount()).isEqualTo(2);
+        assertThat(summaries.get("👍").getReacted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("엔티티의 리액션 추가/제거가 카운트를 함께 유지")
+    void messageAddRemove_maintainsCounts() {
+        // given
+        Message message = Message.builder().id("m1").build();
+
+        // when
+        message.addReaction("👍", "u1");
+        message.addReaction("👍", "u1");
+        message.addReaction("👍", "u2");
+        message.removeReaction("👍", "u1");
+
+        // then
+        assertThat(message.getReactionCount("👍")).isEqualTo(1);
+        message.removeReaction("👍", "u2");
+        assertThat(message.getReactionCounts()).doesNotContainKey("👍");
+        assertThat(ReactionSummary.summarize(message, "u1")).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.ktb.chatapp.dto;
+
+import com.ktb.chatapp.model.Room;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RoomCursor 테스트")
+class RoomCursorTest {
+
+    @Test
+    @DisplayName("정렬 필드별 값과 ID가 인코딩 후에도 그대로 복원됨")
+    void encodeDecode_roundTrip() {
+        // given
+        Room room = Room.builder()
+                .id("665f1c2a9b1e8a3d4c5b6a79")
+                .name("스터디\u001f방")
+                .participantCount(42)
+                .createdAt(LocalDateTime.of(2025, 11, 18, 12, 34, 56, 789_000_000))
+                .build();
+
+        // when & then
+        assertThat(RoomCursor.decode(RoomCursor.of(room, "createdAt", "desc").encode()))
+                .isEqualTo(new RoomCursor("createdAt", "desc", room.getCreatedAt(), room.getId()));
+        assertThat(RoomCursor.decode(RoomCursor.of(room, "name", "asc").encode()).value()).isEqualTo("스터디\u001f방");
+        assertThat(RoomCursor.decode(RoomCursor.of(room, "participantsCount", "desc").encode()).value()).isEqualTo(42);
+        assertThat(RoomCursor.decode(RoomCursor.of(room, "lastMessageAt", "desc").encode()).value()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void decode_malformed_rejected() {
+        assertThatThrownBy(() -> RoomCursor.decode("!!not-base64!!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RoomCursor.decode("YWJj")).isInstanceOf(IllegalArgumentException.class);
+        String badDate = java.util.Base64.getUrlEncoder().encodeToString(
+                "createdAt\u001fdesc\u001fd:어제\u001froom-1".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> RoomCursor.decode(badDate)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 같은지 확인")
+    void matches() {
+        RoomCursor cursor = new RoomCursor("createdAt", "desc", null, "room-1");
+
+        assertThat(cursor.matches("createdAt", "desc")).isTrue();
+        assertThat(cursor.matches("createdAt", "asc")).isFalse();
+    }
+}
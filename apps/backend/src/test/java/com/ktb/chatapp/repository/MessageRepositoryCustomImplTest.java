@@ -0,0 +1,94 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Message;
+import com.mongodb.bulk.BulkWriteResult;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageRepositoryCustomImpl 테스트")
+class MessageRepositoryCustomImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private MessageRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class)).thenReturn(bulkOperations);
+        lenient().when(bulkOperations.updateOne(any(Query.class), any(Update.class))).thenReturn(bulkOperations);
+    }
+
+    private static BulkWriteResult modified(int count) {
+        return BulkWriteResult.acknowledged(0, count, 0, count, List.of(), List.of());
+    }
+
+    @Test
+    @DisplayName("모두 갱신되면 조회 없이 bulk 한 번으로 전부 반환")
+    void markAsRead_allModified_singleRoundTrip() {
+        // given
+        when(bulkOperations.execute()).thenReturn(modified(3));
+
+        // when
+        List<String> marked = repository.markAsRead(List.of("m1", "m2", "m3"), "user-1", LocalDateTime.now());
+
+        // then
+        assertThat(marked).containsExactly("m1", "m2", "m3");
+        verify(bulkOperations, times(3)).updateOne(any(Query.class), any(Update.class));
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Message.class));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Message.class));
+    }
+
+    @Test
+    @DisplayName("이미 모두 읽었으면 빈 목록")
+    void markAsRead_nothingModified_returnsEmpty() {
+        // given
+        when(bulkOperations.execute()).thenReturn(modified(0));
+
+        // when
+        List<String> marked = repository.markAsRead(List.of("m1", "m2"), "user-1", LocalDateTime.now());
+
+        // then
+        assertThat(marked).isEmpty();
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Message.class));
+    }
+
+    @Test
+    @DisplayName("일부만 갱신되면 이 호출의 읽음 기록이 남은 메시지만 반환")
+    void markAsRead_partiallyModified_returnsOnlyThisCallsMessages() {
+        // given: m2는 같은 사용자의 동시 요청이 먼저 읽음 처리함
+        LocalDateTime readAt = LocalDateTime.of(2025, 11, 18, 12, 0);
+        when(bulkOperations.execute()).thenReturn(modified(1));
+        when(mongoTemplate.find(any(Query.class), eq(Message.class)))
+                .thenReturn(List.of(Message.builder().id("m1").build()));
+
+        // when
+        List<String> marked = repository.markAsRead(List.of("m1", "m2"), "user-1", readAt);
+
+        // then
+        assertThat(marked).containsExactly("m1");
+        verify(mongoTemplate).find(argThat((Query query) -> query.getQueryObject().toString().contains("readAt")),
+                eq(Message.class));
+    }
+}
@@ -0,0 +1,90 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import java.time.LocalDateTime;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomLastMessageCallback 테스트")
+class RoomLastMessageCallbackTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @InjectMocks
+    private RoomLastMessageCallback callback;
+
+    private Message message(MessageType type, String content) {
+        return Message.builder()
+                .roomId("room-1")
+                .type(type)
+                .content(content)
+                .timestamp(LocalDateTime.of(2025, 11, 18, 12, 0))
+                .isDeleted(false)
+                .build();
+    }
+
+    @Test
+    @DisplayName("메시지 저장 시 방의 마지막 메시지 시각과 미리보기를 갱신")
+    void onAfterSave_updatesRoom() {
+        // given
+        Message message = message(MessageType.text, "  회의는 3시에 시작합니다 ");
+
+        // when
+        callback.onAfterSave(message, new Document(), "messages");
+
+        // then
+        verify(roomRepository).updateLastMessage("room-1", message.getTimestamp(), "회의는 3시에 시작합니다");
+    }
+
+    @Test
+    @DisplayName("시스템 메시지와 삭제된 메시지는 반영하지 않음")
+    void onAfterSave_systemOrDeleted_ignored() {
+        // given
+        Message deleted = message(MessageType.text, "삭제됨");
+        deleted.setIsDeleted(true);
+
+        // when
+        callback.onAfterSave(message(MessageType.system, "철수님이 입장하였습니다."), new Document(), "messages");
+        callback.onAfterSave(deleted, new Document(), "messages");
+
+        // then
+        verifyNoInteractions(roomRepository);
+    }
+
+    @Test
+    @DisplayName("방 갱신이 실패해도 저장된 메시지를 그대로 반환")
+    void onAfterSave_updateFails_returnsMessage() {
+        // given
+        Message message = message(MessageType.text, "안녕하세요");
+        doThrow(new IllegalStateException("down")).when(roomRepository)
+                .updateLastMessage(eq("room-1"), any(), any());
+
+        // when & then
+        assertThat(callback.onAfterSave(message, new Document(), "messages")).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("미리보기는 코드 포인트 기준으로 자르고 내용 없는 파일 메시지는 '파일'로 표시")
+    void previewOf() {
+        String emojis = "😀".repeat(Room.PREVIEW_LENGTH + 5);
+
+        assertThat(Room.previewOf(message(MessageType.text, emojis)))
+                .isEqualTo("😀".repeat(Room.PREVIEW_LENGTH) + "…");
+        assertThat(Room.previewOf(message(MessageType.file, null))).isEqualTo("파일");
+        assertThat(Room.previewOf(message(MessageType.text, "짧은 메시지"))).isEqualTo("짧은 메시지");
+    }
+}
@@ -0,0 +1,88 @@
+package com.ktb.chatapp.security;
+
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingJwtDecoder 테스트")
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new CachingJwtDecoder(delegate, 100);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한 번만 디코딩")
+    void decode_sameToken_delegatesOnce() {
+        // given
+        Jwt jwt = createJwt(Instant.now().plusSeconds(3600));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        // when
+        Jwt first = decoder.decode(TOKEN);
+        Jwt second = decoder.decode(TOKEN);
+
+        // then
+        assertThat(first).isSameAs(jwt);
+        assertThat(second).isSameAs(jwt);
+        verify(delegate, times(1)).decode(TOKEN);
+        assertThat(decoder.getCache().stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("검증 실패는 캐시하지 않고 매번 다시 검증")
+    void decode_invalidToken_notCached() {
+        // given
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("invalid"));
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+        verify(delegate, times(2)).decode(TOKEN);
+        assertThat(decoder.getCache().estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 만료 시각이 지난 토큰은 캐시에 남지 않음")
+    void decode_expiredJwt_notRetained() {
+        // given
+        Jwt jwt = createJwt(Instant.now().minusSeconds(1));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        // when
+        decoder.decode(TOKEN);
+        decoder.getCache().cleanUp();
+
+        // then
+        assertThat(decoder.getCache().asMap()).isEmpty();
+    }
+
+    private Jwt createJwt(Instant expiresAt) {
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "HS256")
+                .subject("user-123")
+                .issuedAt(expiresAt.minusSeconds(7200))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
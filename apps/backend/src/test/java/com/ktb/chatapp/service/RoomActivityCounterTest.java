@@ -0,0 +1,169 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Message;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomActivityCounter 테스트")
+class RoomActivityCounterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private RoomActivityCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new RoomActivityCounter(stringRedisTemplate, new SimpleMeterRegistry(), 3);
+    }
+
+    @Test
+    @DisplayName("저장된 메시지마다 현재 분 버킷을 올리고 만료는 버킷당 한 번만 설정")
+    void onAfterSave_incrementsCurrentBucket() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        Message message = Message.builder().roomId("room-1").isDeleted(false).build();
+
+        // when
+        counter.onAfterSave(message, new Document(), "messages");
+        counter.onAfterSave(message, new Document(), "messages");
+
+        // then
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(zSetOperations, times(2)).incrementScore(key.capture(), eq("room-1"), eq(1.0));
+        assertThat(key.getValue()).startsWith(RoomActivityCounter.KEY_PREFIX);
+        verify(stringRedisTemplate, atMost(2)).expire(anyString(), eq(Duration.ofMinutes(4)));
+        verify(stringRedisTemplate, atLeastOnce()).expire(anyString(), eq(Duration.ofMinutes(4)));
+    }
+
+    @Test
+    @DisplayName("삭제된 메시지는 집계하지 않음")
+    void onAfterSave_deletedMessage_ignored() {
+        // when
+        counter.onAfterSave(Message.builder().roomId("room-1").isDeleted(true).build(), new Document(), "messages");
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("창 안의 버킷 점수를 방별로 합산")
+    @SuppressWarnings("unchecked")
+    void recentCounts_sumsBuckets() {
+        // given: 버킷 3개, 방 2개
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(
+                Arrays.asList(2.0, null),
+                Arrays.asList(3.0, 1.0),
+                Arrays.asList(null, null)));
+
+        // when
+        Map<String, Long> counts = counter.recentCounts(new LinkedHashSet<>(List.of("room-1", "room-2", "room-1")));
+
+        // then
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of("room-1", 5L, "room-2", 1L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 최근 메시지 수는 비어 있고 기록은 예외 없이 넘어감")
+    @SuppressWarnings("unchecked")
+    void redisFailure_degradesGracefully() {
+        // given
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.incrementScore(anyString(), anyString(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(counter.recentCounts(List.of("room-1"))).isEmpty();
+        counter.record("room-1");
+    }
+
+    @Test
+    @DisplayName("현재 버킷의 순위가 없으면 버킷 키에 합쳐 두고 요청 구간을 활동량 순으로 조회")
+    void ranking_buildsBucketStampedRanking() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+        ArgumentCaptor<String> rankingKey = ArgumentCaptor.forClass(String.class);
+        when(zSetOperations.unionAndStore(anyString(), anyList(), rankingKey.capture())).thenReturn(5L);
+        when(zSetOperations.reverseRange(anyString(), eq(2L), eq(3L)))
+                .thenReturn(new LinkedHashSet<>(List.of("room-3", "room-4")));
+
+        // when
+        RoomActivityCounter.Ranking ranking = counter.ranking(2, 2, true);
+
+        // then
+        assertThat(ranking.roomIds()).containsExactly("room-3", "room-4");
+        assertThat(ranking.total()).isEqualTo(5);
+        assertThat(rankingKey.getValue()).startsWith(RoomActivityCounter.RANKING_KEY_PREFIX);
+        ArgumentCaptor<List<String>> otherKeys = ArgumentCaptor.forClass(List.class);
+        verify(zSetOperations).unionAndStore(anyString(), otherKeys.capture(), eq(rankingKey.getValue()));
+        assertThat(otherKeys.getValue()).hasSize(2);
+        verify(zSetOperations).reverseRange(rankingKey.getValue(), 2, 3);
+        verify(stringRedisTemplate).expire(rankingKey.getValue(), Duration.ofMinutes(2));
+    }
+
+    @Test
+    @DisplayName("이번 분의 순위가 이미 있으면 합치지 않고 그대로 읽음")
+    void ranking_existingBucketRanking_reused() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(true);
+        when(zSetOperations.zCard(anyString())).thenReturn(3L);
+        when(zSetOperations.range(anyString(), eq(0L), eq(1L)))
+                .thenReturn(new LinkedHashSet<>(List.of("room-1", "room-2")));
+
+        // when
+        RoomActivityCounter.Ranking ranking = counter.ranking(0, 2, false);
+
+        // then
+        assertThat(ranking.roomIds()).containsExactly("room-1", "room-2");
+        assertThat(ranking.total()).isEqualTo(3);
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("구간이 순위 밖이면 범위 조회를 하지 않음")
+    void ranking_offsetBeyondTotal_empty() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.unionAndStore(anyString(), anyList(), anyString())).thenReturn(1L);
+
+        // when
+        RoomActivityCounter.Ranking ranking = counter.ranking(10, 10, true);
+
+        // then
+        assertThat(ranking.roomIds()).isEmpty();
+        verify(zSetOperations, never()).reverseRange(anyString(), anyLong(), anyLong());
+    }
+}
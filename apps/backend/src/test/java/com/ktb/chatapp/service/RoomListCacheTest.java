@@ -0,0 +1,201 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RoomListCache 테스트")
+class RoomListCacheTest {
+
+    private static final RoomListCache.PageKey FIRST_PAGE = RoomListCache.PageKey.of(0, 10, "createdAt", "desc", null, null);
+    private static final RoomListCache.PageKey SEARCH_PAGE = RoomListCache.PageKey.of(0, 10, "createdAt", "desc", "스터디", null);
+    private static final RoomListCache.PageKey BY_PARTICIPANTS = RoomListCache.PageKey.of(0, 10, "participantsCount", "desc", null, null);
+
+    private RoomListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RoomListCache(new SimpleMeterRegistry(), true, Duration.ofMinutes(1), 100);
+        loads = new AtomicInteger();
+    }
+
+    private RoomsResponse page(String... roomIds) {
+        loads.incrementAndGet();
+        return RoomsResponse.builder()
+                .success(true)
+                .data(List.of(roomIds).stream()
+                        .map(id -> RoomResponse.builder()
+                                .id(id)
+                                .name("방 " + id)
+                                .creator(UserResponse.builder().id("creator-" + id).build())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 페이지 동시 요청은 한 번만 계산")
+    void get_concurrentIdenticalRequests_coalesced() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            Future<RoomsResponse> first = executor.submit(() -> cache.get(FIRST_PAGE, () -> {
+                loading.countDown();
+                await(release);
+                return page("r1");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<RoomsResponse>> waiters = IntStream.range(0, 7)
+                    .mapToObj(i -> executor.submit(() -> cache.get(FIRST_PAGE, () -> page("other"))))
+                    .toList();
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS).getData().getFirst().getId()).isEqualTo("r1");
+            for (Future<RoomsResponse> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS).getData().getFirst().getId()).isEqualTo("r1");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("isCreator는 캐시 조회 후 사용자별로 채움")
+    void forViewer_appliesIsCreatorPerUser() {
+        // given
+        RoomsResponse cached = cache.get(FIRST_PAGE, () -> page("r1", "r2"));
+
+        // when
+        RoomsResponse forCreator = RoomListCache.forViewer(cached, "creator-r2");
+
+        // then
+        assertThat(forCreator.getData()).extracting("isCreator").containsExactly(false, true);
+        assertThat(cached.getData()).extracting("isCreator").containsExactly(false, false);
+    }
+
+    @Test
+    @DisplayName("방 생성 시 검색어가 없거나 이름이 검색어를 포함하는 페이지만 무효화")
+    void onRoomCreated_invalidatesMatchingPagesOnly() {
+        // given
+        cache.get(FIRST_PAGE, () -> page("r1"));
+        cache.get(SEARCH_PAGE, () -> page("r2"));
+
+        // when
+        cache.onRoomCreated(new RoomCreatedEvent(this, RoomResponse.builder().name("자바 모임").build()));
+        cache.get(FIRST_PAGE, () -> page("r1"));
+        cache.get(SEARCH_PAGE, () -> page("r2"));
+
+        // then: 첫 페이지만 다시 계산
+        assertThat(loads.get()).isEqualTo(3);
+
+        // when: 검색어를 포함하는 이름
+        cache.onRoomCreated(new RoomCreatedEvent(this, RoomResponse.builder().name("스프링 스터디").build()));
+        cache.get(SEARCH_PAGE, () -> page("r2"));
+
+        // then
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("초성 검색 페이지는 새 방 이름의 초성이 검색어를 포함할 때 무효화")
+    void onRoomCreated_initialsSearch_invalidated() {
+        // given
+        RoomListCache.PageKey initialsPage = RoomListCache.PageKey.of(0, 10, "createdAt", "desc", "ㅅㅍ", null);
+        cache.get(initialsPage, () -> page("r1"));
+
+        // when: 초성이 맞지 않는 이름
+        cache.onRoomCreated(new RoomCreatedEvent(this, RoomResponse.builder().name("자바 모임").build()));
+        cache.get(initialsPage, () -> page("r1"));
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+
+        // when: 초성이 "ㅅㅍ"을 포함하는 이름
+        cache.onRoomCreated(new RoomCreatedEvent(this, RoomResponse.builder().name("스프링 스터디").build()));
+        cache.get(initialsPage, () -> page("r1"));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("방 변경 시 그 방이 있는 페이지와 참여자 수 정렬 페이지만 무효화")
+    void onRoomUpdated_invalidatesPagesContainingRoom() {
+        // given
+        RoomListCache.PageKey secondPage = RoomListCache.PageKey.of(1, 10, "createdAt", "desc", null, null);
+        cache.get(FIRST_PAGE, () -> page("r1"));
+        cache.get(secondPage, () -> page("r2"));
+        cache.get(BY_PARTICIPANTS, () -> page("r3"));
+
+        // when
+        cache.onParticipantsChanged(new RoomParticipantsChangedEvent(this, "r2", "u1", true));
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get(FIRST_PAGE, () -> page("r1"));
+        assertThat(loads.get()).isEqualTo(3);
+
+        // when
+        cache.onRoomUpdated(new RoomUpdatedEvent(this, "r1", null));
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("계산 도중 무효화되면 결과를 반환하되 저장하지 않음")
+    void get_invalidatedWhileLoading_notStored() {
+        // when
+        RoomsResponse response = cache.get(FIRST_PAGE, () -> {
+            cache.onRoomCreated(new RoomCreatedEvent(this, RoomResponse.builder().name("새 방").build()));
+            return page("r1");
+        });
+
+        // then
+        assertThat(response.getData()).hasSize(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 응답은 캐시하지 않음")
+    void get_failedResponse_notCached() {
+        // when
+        cache.get(FIRST_PAGE, () -> RoomsResponse.builder().success(false).data(List.of()).build());
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.ParticipantsResponse;
+import com.ktb.chatapp.dto.RoomCursor;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomService 테스트")
+class RoomServiceTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserCacheService userCacheService;
+
+    @Mock
+    private RoomListCache roomListCache;
+
+    @Mock
+    private RoomActivityCounter roomActivityCounter;
+
+    @Mock
+    private RoomCountEstimator roomCountEstimator;
+
+    @InjectMocks
+    private RoomService roomService;
+
+    private static Set<String> userIds(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "user-" + i)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Map<String, UserSummary> users(Set<String> ids) {
+        return ids.stream().collect(Collectors.toMap(Function.identity(),
+                id -> new UserSummary(id, "이름 " + id, null, null)));
+    }
+
+    @Test
+    @DisplayName("방 목록은 참여자 수와 미리보기 참여자만 담고 사용자 조회 수가 방 크기와 무관")
+    @SuppressWarnings("unchecked")
+    void getAllRooms_boundsParticipantExpansion() {
+        // given: 참여자 500명인 방 (저장소가 목록을 자르지 않아도 서비스가 미리보기로 제한)
+        Set<String> members = userIds(500);
+        Room room = Room.builder()
+                .id("room-1")
+                .name("큰 방")
+                .creator("user-0")
+                .participantIds(members)
+                .participantCount(500)
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(roomListCache.get(any(), any())).thenAnswer(inv -> ((Supplier<RoomsResponse>) inv.getArgument(1)).get());
+        when(roomRepository.findRooms(any(), any(), any(), anyLong(), anyInt(), anyInt())).thenReturn(List.of(room));
+        when(userCacheService.getUsers(anySet())).thenAnswer(inv -> users(inv.getArgument(0)));
+
+        // when
+        RoomsResponse response = roomService.getAllRoomsWithPagination(new com.ktb.chatapp.dto.PageRequest(), "user-0");
+
+        // then
+        ArgumentCaptor<Set<String>> requested = ArgumentCaptor.forClass(Set.class);
+        verify(userCacheService).getUsers(requested.capture());
+        assertThat(requested.getValue()).hasSizeLessThanOrEqualTo(6);
+        assertThat(response.getData().getFirst().getParticipants()).hasSize(5);
+        assertThat(response.getData().getFirst().getParticipantsCount()).isEqualTo(500);
+        verify(roomRepository).findRooms(any(), any(), any(), anyLong(), anyInt(), eq(5));
+    }
+
+    @Test
+    @DisplayName("키셋 페이지는 하나 더 읽어 다음 커서를 만들고 전체 수는 추정치를 사용")
+    @SuppressWarnings("unchecked")
+    void getAllRooms_keysetReturnsNextCursor() {
+        // given: pageSize 2에 3개를 돌려주면 다음 페이지가 있다
+        LocalDateTime now = LocalDateTime.of(2025, 11, 18, 12, 0);
+        List<Room> rooms = IntStream.range(0, 3)
+                .mapToObj(i -> Room.builder().id("room-" + i).name("방 " + i).createdAt(now.minusMinutes(i)).build())
+                .toList();
+        when(roomListCache.get(any(), any())).thenAnswer(inv -> ((Supplier<RoomsResponse>) inv.getArgument(1)).get());
+        when(roomRepository.findRooms(eq("createdAt"), eq(Sort.Direction.DESC), isNull(), eq(0L), eq(3), anyInt()))
+                .thenReturn(rooms);
+        when(roomCountEstimator.estimate()).thenReturn(1_000L);
+        com.ktb.chatapp.dto.PageRequest pageRequest = new com.ktb.chatapp.dto.PageRequest();
+        pageRequest.setPageSize(2);
+
+        // when
+        RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest, "user-0");
+
+        // then
+        assertThat(response.getData()).extracting("id").containsExactly("room-0", "room-1");
+        assertThat(response.getMetadata().isHasMore()).isTrue();
+        assertThat(response.getMetadata().getTotal()).isEqualTo(1_000L);
+        assertThat(response.getMetadata().isTotalApproximate()).isTrue();
+        RoomCursor cursor = RoomCursor.decode(response.getMetadata().getNextCursor());
+        assertThat(cursor.id()).isEqualTo("room-1");
+        assertThat(cursor.value()).isEqualTo(now.minusMinutes(1));
+        verify(roomRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("최근 메시지 수 내림차순은 활동 순위 뒤에 활동 없는 방을 이어 붙이고 전체 수는 두 구간의 합")
+    @SuppressWarnings("unchecked")
+    void getAllRooms_byActivity_appendsInactiveRooms() {
+        // given: pageSize 3, 활동 있는 방 2개 + 활동 없는 방 10개
+        LocalDateTime windowStart = LocalDateTime.of(2025, 11, 18, 12, 0);
+        when(roomListCache.get(any(), any())).thenAnswer(inv -> ((Supplier<RoomsResponse>) inv.getArgument(1)).get());
+        when(roomActivityCounter.windowStart()).thenReturn(windowStart);
+        when(roomActivityCounter.ranking(0L, 3, true))
+                .thenReturn(new RoomActivityCounter.Ranking(List.of("hot-1", "hot-2"), 2));
+        when(roomRepository.countInactiveRooms(windowStart)).thenReturn(10L);
+        when(roomRepository.findAllByIdWithPreview(eq(List.of("hot-1", "hot-2")), anyInt())).thenReturn(List.of(
+                Room.builder().id("hot-2").name("방 2").build(),
+                Room.builder().id("hot-1").name("방 1").build()));
+        when(roomRepository.findInactiveRooms(windowStart, Sort.Direction.DESC, 0L, 1, 5))
+                .thenReturn(List.of(Room.builder().id("quiet-1").name("조용한 방").build()));
+        when(roomActivityCounter.recentCounts(any())).thenReturn(Map.of("hot-1", 7L, "hot-2", 3L));
+        com.ktb.chatapp.dto.PageRequest pageRequest = new com.ktb.chatapp.dto.PageRequest();
+        pageRequest.setSortField(com.ktb.chatapp.dto.PageRequest.RECENT_MESSAGE_COUNT);
+        pageRequest.setPageSize(3);
+
+        // when
+        RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest, "user-0");
+
+        // then
+        assertThat(response.getData()).extracting("id").containsExactly("hot-1", "hot-2", "quiet-1");
+        assertThat(response.getMetadata().getTotal()).isEqualTo(12L);
+        assertThat(response.getMetadata().isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최근 메시지 수 오름차순은 활동 없는 방 다음에 활동 순위를 이어 붙임")
+    @SuppressWarnings("unchecked")
+    void getAllRooms_byActivityAscending_inactiveRoomsFirst() {
+        // given: 활동 없는 방 4개 중 두 번째 페이지(offset 3)는 마지막 활동 없는 방 + 순위 앞쪽 2개
+        LocalDateTime windowStart = LocalDateTime.of(2025, 11, 18, 12, 0);
+        when(roomListCache.get(any(), any())).thenAnswer(inv -> ((Supplier<RoomsResponse>) inv.getArgument(1)).get());
+        when(roomActivityCounter.windowStart()).thenReturn(windowStart);
+        when(roomRepository.countInactiveRooms(windowStart)).thenReturn(4L);
+        when(roomRepository.findInactiveRooms(windowStart, Sort.Direction.ASC, 3L, 3, 5))
+                .thenReturn(List.of(Room.builder().id("quiet-4").name("조용한 방").build()));
+        when(roomActivityCounter.ranking(0L, 2, false))
+                .thenReturn(new RoomActivityCounter.Ranking(List.of("hot-1", "hot-2"), 5));
+        when(roomRepository.findAllByIdWithPreview(eq(List.of("hot-1", "hot-2")), anyInt())).thenReturn(List.of(
+                Room.builder().id("hot-1").name("방 1").build(),
+                Room.builder().id("hot-2").name("방 2").build()));
+        com.ktb.chatapp.dto.PageRequest pageRequest = new com.ktb.chatapp.dto.PageRequest();
+        pageRequest.setSortField(com.ktb.chatapp.dto.PageRequest.RECENT_MESSAGE_COUNT);
+        pageRequest.setSortOrder("asc");
+        pageRequest.setPageSize(3);
+        pageRequest.setPage(1);
+
+        // when
+        RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest, "user-0");
+
+        // then
+        assertThat(response.getData()).extracting("id").containsExactly("quiet-4", "hot-1", "hot-2");
+        assertThat(response.getMetadata().getTotal()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("다른 정렬 조건의 커서는 거부")
+    void getAllRooms_cursorForOtherSort_rejected() {
+        // given
+        com.ktb.chatapp.dto.PageRequest pageRequest = new com.ktb.chatapp.dto.PageRequest();
+        pageRequest.setSortField("name");
+        pageRequest.setCursor(new RoomCursor("createdAt", "desc", null, "room-1").encode());
+
+        // when & then
+        assertThatThrownBy(() -> roomService.getAllRoomsWithPagination(pageRequest, "user-0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(roomListCache);
+    }
+
+    @Test
+    @DisplayName("참여자 목록 API는 요청한 구간만 조회하고 다음 페이지 여부를 알려줌")
+    void getParticipants_pagesThroughMembers() {
+        // given
+        Set<String> page = new LinkedHashSet<>(List.of("user-10", "user-11"));
+        when(roomRepository.findParticipants("room-1", 10, 2)).thenReturn(Optional.of(Room.builder()
+                .id("room-1")
+                .participantIds(page)
+                .participantCount(500)
+                .build()));
+        when(userCacheService.getUsers(anySet())).thenAnswer(inv -> users(inv.getArgument(0)));
+
+        // when
+        ParticipantsResponse response = roomService.getParticipants("room-1", 10, 2).orElseThrow();
+
+        // then
+        assertThat(response.getParticipants()).extracting("id").containsExactly("user-10", "user-11");
+        assertThat(response.getTotal()).isEqualTo(500);
+        assertThat(response.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("참여자 목록 API의 limit은 최대 100명으로 제한")
+    void getParticipants_clampsLimit() {
+        // given
+        when(roomRepository.findParticipants("room-1", 0, 100)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(roomService.getParticipants("room-1", -5, 10_000)).isEmpty();
+    }
+}
@@ -0,0 +1,307 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCacheService 테스트")
+class UserCacheServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RedisTemplate<String, UserSummary> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, UserSummary> valueOperations;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCacheService userCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        userCacheService = new UserCacheService(userRepository, redisTemplate, stringRedisTemplate,
+                listenerContainer, meterRegistry,
+                Duration.ofMinutes(1), 100, Duration.ofMinutes(30), Duration.ofSeconds(30), Duration.ofSeconds(5),
+                Duration.ofSeconds(10));
+    }
+
+    private static UserSummary user(String id) {
+        return new UserSummary(id, "사용자 " + id, id + "@test.com", null);
+    }
+
+    private static String key(String id) {
+        return UserCacheService.CACHE_PREFIX + id;
+    }
+
+    @Test
+    @DisplayName("DB에서 읽은 사용자는 L1과 Redis에 저장되고 다음 조회는 네트워크 없이 L1에서 반환")
+    @SuppressWarnings("unchecked")
+    void getUsers_dbMiss_populatesBothTiers() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+        when(userRepository.findSummariesByIdIn(anyList())).thenReturn(List.of(user("u1"), user("u2")));
+
+        // when
+        userCacheService.getUsers(Set.of("u1", "u2"));
+        Map<String, UserSummary> second = userCacheService.getUsers(Set.of("u1", "u2"));
+        UserSummary single = userCacheService.getUser("u1");
+
+        // then
+        assertThat(second).containsOnlyKeys("u1", "u2");
+        assertThat(single.name()).isEqualTo("사용자 u1");
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verify(userRepository, times(1)).findSummariesByIdIn(anyList());
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "users.redis", "result", "miss").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("L1에 없는 사용자만 Redis에서 읽고 Redis 적중은 L1을 채움")
+    void getUsers_partialLocalHit_readsOnlyMissingFromRedis() {
+        // given: u1은 이미 L1에 있음
+        when(valueOperations.multiGet(List.of(key("u1")))).thenReturn(Arrays.asList((UserSummary) null));
+        when(userRepository.findSummariesByIdIn(List.of("u1"))).thenReturn(List.of(user("u1")));
+        userCacheService.getUser("u1");
+        when(valueOperations.multiGet(List.of(key("u2")))).thenReturn(List.of(user("u2")));
+
+        // when
+        Map<String, UserSummary> users = userCacheService.getUsers(Set.of("u1", "u2"));
+        userCacheService.getUser("u2");
+
+        // then
+        assertThat(users).containsOnlyKeys("u1", "u2");
+        verify(valueOperations, times(1)).multiGet(List.of(key("u2")));
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "users.redis", "result", "hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 Redis 값을 무효화 표시로 덮고 다른 노드에 알리며 다음 조회는 다시 읽음")
+    void invalidate_evictsBothTiersAndPublishes() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(user("u1")));
+        userCacheService.getUser("u1");
+
+        // when
+        userCacheService.invalidate("u1");
+        userCacheService.getUser("u1");
+
+        // then
+        verify(valueOperations).set(key("u1"), UserCacheService.INVALIDATED, Duration.ofSeconds(10));
+        verify(stringRedisTemplate).convertAndSend(UserCacheService.INVALIDATION_CHANNEL, "u1");
+        verify(valueOperations, times(2)).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1만 비움")
+    void invalidationMessage_clearsLocalTier() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(user("u1")));
+        userCacheService.getUser("u1");
+        userCacheService.subscribe();
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), eq(new ChannelTopic(UserCacheService.INVALIDATION_CHANNEL)));
+
+        // when
+        listener.getValue().onMessage(new DefaultMessage(
+                UserCacheService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "u1".getBytes(StandardCharsets.UTF_8)), null);
+        userCacheService.getUser("u1");
+
+        // then
+        verify(valueOperations, times(2)).multiGet(anyList());
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 읽은 값을 돌려주기만 하고 L1에는 넣지 않음")
+    void getUser_invalidatedWhileLoading_skipsLocalTier() {
+        // given: Redis 조회가 끝나기 전에 프로필 변경 무효화가 도착
+        when(valueOperations.multiGet(anyList())).thenAnswer(inv -> {
+            userCacheService.invalidateLocal("u1");
+            return List.of(user("u1"));
+        }).thenReturn(List.of(user("u1")));
+
+        // when
+        UserSummary first = userCacheService.getUser("u1");
+        userCacheService.getUser("u1");
+        userCacheService.getUser("u1");
+
+        // then
+        assertThat(first.id()).isEqualTo("u1");
+        verify(valueOperations, times(2)).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("무효화 표시는 캐시 미스로 보고 DB에서 읽으며, Redis에는 키가 없을 때만 저장")
+    @SuppressWarnings("unchecked")
+    void getUser_invalidatedMarker_readsDbAndWritesIfAbsent() throws Exception {
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(UserCacheService.INVALIDATED));
+        when(userRepository.findSummariesByIdIn(List.of("u1"))).thenReturn(List.of(user("u1")));
+
+        // when
+        UserSummary found = userCacheService.getUser("u1");
+
+        // then
+        assertThat(found.name()).isEqualTo("사용자 u1");
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        RedisOperations<String, UserSummary> operations = mock(RedisOperations.class);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        callback.getValue().execute(operations);
+        verify(valueOperations).setIfAbsent(key("u1"), user("u1"), Duration.ofMinutes(30));
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB에서 조회")
+    void getUsers_redisFailure_fallsBackToDb() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        when(userRepository.findSummariesByIdIn(anyList())).thenReturn(List.of(user("u1")));
+
+        // when
+        UserSummary found = userCacheService.getUser("u1");
+
+        // then
+        assertThat(found.id()).isEqualTo("u1");
+    }
+
+    @Test
+    @DisplayName("같은 사용자를 동시에 읽으면 한 요청만 Redis/DB에 가고 나머지는 결과를 기다림")
+    void getUser_concurrentMiss_loadsOnce() throws Exception {
+        // given: 첫 요청의 Redis 조회가 끝나지 않은 상태에서 두 번째 요청이 들어온다
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(valueOperations.multiGet(anyList())).thenAnswer(inv -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(user("u1"));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<UserSummary> first = executor.submit(() -> userCacheService.getUser("u1"));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<UserSummary> second = executor.submit(() -> userCacheService.getUser("u1"));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (meterRegistry.get("users.cache.stampede.avoided").counter().count() < 1
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // when
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS).id()).isEqualTo("u1");
+            assertThat(second.get(5, TimeUnit.SECONDS).id()).isEqualTo("u1");
+            verify(valueOperations, times(1)).multiGet(anyList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 없음으로 기록해 다시 읽지 않고 Redis에도 짧은 TTL로 남김")
+    @SuppressWarnings("unchecked")
+    void getUser_notFound_negativeCached() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((UserSummary) null));
+        when(userRepository.findSummariesByIdIn(anyList())).thenReturn(List.of());
+
+        // when
+        UserSummary first = userCacheService.getUser("deleted");
+        UserSummary second = userCacheService.getUser("deleted");
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verify(userRepository, times(1)).findSummariesByIdIn(anyList());
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 남긴 없음 표시를 Redis에서 읽으면 DB에 가지 않음")
+    void getUser_redisMissingMarker_skipsDb() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(UserCacheService.MISSING));
+
+        // when
+        UserSummary found = userCacheService.getUser("deleted");
+        userCacheService.getUser("deleted");
+
+        // then
+        assertThat(found).isNull();
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 항목은 캐시 값을 돌려주면서 백그라운드에서 미리 다시 읽음")
+    void getUser_nearExpiry_refreshesEarly() {
+        // given: 사전 갱신 기준이 TTL보다 길면 항상 갱신 대상
+        userCacheService = new UserCacheService(userRepository, redisTemplate, stringRedisTemplate,
+                listenerContainer, meterRegistry,
+                Duration.ofMinutes(1), 100, Duration.ofMinutes(30), Duration.ofSeconds(30), Duration.ofHours(1),
+                Duration.ofSeconds(10));
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(user("u1")));
+        userCacheService.getUser("u1");
+
+        // when
+        UserSummary cached = userCacheService.getUser("u1");
+
+        // then
+        assertThat(cached.id()).isEqualTo("u1");
+        verify(valueOperations, timeout(5000).times(2)).multiGet(anyList());
+        assertThat(meterRegistry.get("users.cache.early.refreshes").counter().count()).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.SessionValidationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionCache 테스트")
+class SessionCacheTest {
+
+    private static final String USER_ID = "user-123";
+    private static final String SESSION_ID = "session-456";
+
+    @Mock
+    private SessionStore sessionStore;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SessionService sessionService;
+
+    @BeforeEach
+    void setUp() {
+        SessionCache sessionCache = new SessionCache(Duration.ofSeconds(30), 100,
+                stringRedisTemplate, listenerContainer, new SimpleMeterRegistry());
+        sessionService = new SessionService(sessionStore, sessionCache);
+        ReflectionTestUtils.setField(sessionService, "activityRefreshInterval", Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("캐시된 세션은 저장소 조회와 쓰기 없이 검증")
+    void validateSession_cached_noStoreRoundTrip() {
+        // given
+        when(sessionStore.findByUserId(USER_ID)).thenReturn(Optional.of(session(SESSION_ID)));
+
+        // when
+        SessionValidationResult first = sessionService.validateSession(USER_ID, SESSION_ID);
+        SessionValidationResult second = sessionService.validateSession(USER_ID, SESSION_ID);
+
+        // then
+        assertThat(first.isValid()).isTrue();
+        assertThat(second.isValid()).isTrue();
+        verify(sessionStore, times(1)).findByUserId(USER_ID);
+        verify(sessionStore, never()).save(any());
+        verify(sessionStore, never()).touch(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지나면 lastActivity를 한 번 기록")
+    void validateSession_intervalElapsed_touchesStore() {
+        // given
+        Session stale = session(SESSION_ID);
+        stale.setLastActivity(Instant.now().minusSeconds(120).toEpochMilli());
+        when(sessionStore.findByUserId(USER_ID)).thenReturn(Optional.of(stale));
+        when(sessionStore.touch(eq(USER_ID), eq(SESSION_ID), anyLong(), any())).thenReturn(true);
+
+        // when
+        sessionService.validateSession(USER_ID, SESSION_ID);
+        sessionService.validateSession(USER_ID, SESSION_ID);
+
+        // then
+        verify(sessionStore, times(1)).touch(eq(USER_ID), eq(SESSION_ID), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 로컬 캐시를 비우고 다른 노드에 무효화 메시지 발행")
+    void removeSession_invalidatesAndBroadcasts() {
+        // given
+        when(sessionStore.findByUserId(USER_ID))
+                .thenReturn(Optional.of(session(SESSION_ID)))
+                .thenReturn(Optional.empty());
+        sessionService.validateSession(USER_ID, SESSION_ID);
+
+        // when
+        sessionService.removeSession(USER_ID, SESSION_ID);
+        SessionValidationResult result = sessionService.validateSession(USER_ID, SESSION_ID);
+
+        // then
+        assertThat(result.isValid()).isFalse();
+        verify(stringRedisTemplate).convertAndSend(SessionCache.INVALIDATION_CHANNEL, USER_ID);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 재로그인으로 세션 ID가 바뀌면 저장소에서 다시 확인")
+    void validateSession_sessionIdChanged_reloadsFromStore() {
+        // given
+        when(sessionStore.findByUserId(USER_ID))
+                .thenReturn(Optional.of(session(SESSION_ID)))
+                .thenReturn(Optional.of(session("new-session")));
+        sessionService.validateSession(USER_ID, SESSION_ID);
+
+        // when
+        SessionValidationResult result = sessionService.validateSession(USER_ID, "new-session");
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getSession().getSessionId()).isEqualTo("new-session");
+        verify(sessionStore, times(2)).findByUserId(USER_ID);
+    }
+
+    private Session session(String sessionId) {
+        long now = Instant.now().toEpochMilli();
+        return Session.builder()
+                .userId(USER_ID)
+                .sessionId(sessionId)
+                .createdAt(now)
+                .lastActivity(now)
+                .expiresAt(Instant.now().plusSeconds(1800))
+                .build();
+    }
+}
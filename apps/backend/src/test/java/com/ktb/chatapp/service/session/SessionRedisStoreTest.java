@@ -0,0 +1,126 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.config.RedisTestContainer;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SessionRedisStore 통합 테스트
+ */
+@SpringBootTest
+@Import({MongoTestContainer.class, RedisTestContainer.class})
+@TestPropertySource(properties = {
+    "socketio.enabled=false",
+    "app.session.store=redis"
+})
+@DisplayName("SessionRedisStore 통합 테스트")
+class SessionRedisStoreTest {
+
+    private static final String USER_ID = "redis-store-user";
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        sessionStore.deleteAll(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Redis 저장소가 선택되고 세션 만료 시각이 키 TTL로 설정됨")
+    void replace_setsNativeExpiry() {
+        // given
+        Session session = session("session-1");
+
+        // when
+        sessionStore.replace(session);
+
+        // then
+        assertThat(sessionStore).isInstanceOf(SessionRedisStore.class);
+        Long ttlSeconds = stringRedisTemplate.getExpire(SessionRedisStore.KEY_PREFIX + USER_ID);
+        assertThat(ttlSeconds).isBetween(1700L, 1800L);
+        Session found = sessionStore.findByUserId(USER_ID).orElseThrow();
+        assertThat(found.getSessionId()).isEqualTo("session-1");
+        assertThat(found.getMetadata().ipAddress()).isEqualTo("127.0.0.1");
+    }
+
+    @Test
+    @DisplayName("새 세션으로 교체하면 기존 세션 필드가 남지 않음")
+    void replace_overwritesPreviousSession() {
+        // given
+        sessionStore.replace(session("session-1"));
+        Session next = session("session-2");
+        next.setMetadata(null);
+
+        // when
+        sessionStore.replace(next);
+
+        // then
+        Session found = sessionStore.findByUserId(USER_ID).orElseThrow();
+        assertThat(found.getSessionId()).isEqualTo("session-2");
+        assertThat(found.getMetadata()).isNull();
+    }
+
+    @Test
+    @DisplayName("세션 ID가 다르면 삭제하지 않음")
+    void delete_compareAndDelete() {
+        // given
+        sessionStore.replace(session("session-1"));
+
+        // when
+        sessionStore.delete(USER_ID, "other-session");
+
+        // then
+        assertThat(sessionStore.findByUserId(USER_ID)).isPresent();
+
+        // when
+        sessionStore.delete(USER_ID, "session-1");
+
+        // then
+        assertThat(sessionStore.findByUserId(USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활동 갱신은 일치하는 세션에만 적용")
+    void touch_onlyMatchingSession() {
+        // given
+        sessionStore.replace(session("session-1"));
+        long now = Instant.now().toEpochMilli() + 1000;
+
+        // when
+        boolean mismatched = sessionStore.touch(USER_ID, "other-session", now, Instant.now().plusSeconds(1800));
+        boolean matched = sessionStore.touch(USER_ID, "session-1", now, Instant.now().plusSeconds(1800));
+
+        // then
+        assertThat(mismatched).isFalse();
+        assertThat(matched).isTrue();
+        assertThat(sessionStore.findByUserId(USER_ID).orElseThrow().getLastActivity()).isEqualTo(now);
+    }
+
+    private Session session(String sessionId) {
+        long now = Instant.now().toEpochMilli();
+        return Session.builder()
+                .userId(USER_ID)
+                .sessionId(sessionId)
+                .createdAt(now)
+                .lastActivity(now)
+                .metadata(new SessionMetadata("Test Browser", "127.0.0.1", "Desktop"))
+                .expiresAt(Instant.now().plusSeconds(1800))
+                .build();
+    }
+}
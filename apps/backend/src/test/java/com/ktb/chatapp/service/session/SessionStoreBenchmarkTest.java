@@ -0,0 +1,105 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.config.RedisTestContainer;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.repository.SessionRepository;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SessionStore 구현체 성능 비교
+ * 요청당 발생하는 조회(findByUserId)와 활동 갱신(touch), 로그인 시 교체(replace)를 같은 부하로 측정한다.
+ * 실행: mvn test -Dtest=SessionStoreBenchmarkTest -Dbenchmark=true
+ */
+@Slf4j
+@SpringBootTest
+@Import({MongoTestContainer.class, RedisTestContainer.class})
+@TestPropertySource(properties = "socketio.enabled=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("SessionStore 벤치마크")
+class SessionStoreBenchmarkTest {
+
+    private static final int USERS = 200;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Test
+    @DisplayName("Mongo 저장소와 Redis 저장소의 요청 경로 처리 시간 비교")
+    void compareStores() {
+        SessionStore mongoStore = new SessionMongoStore(sessionRepository);
+        SessionStore redisStore = new SessionRedisStore(stringRedisTemplate);
+
+        long mongoNanos = measure("mongo", mongoStore);
+        long redisNanos = measure("redis", redisStore);
+
+        log.info("session store benchmark - mongo: {} ms, redis: {} ms, speedup: {}x",
+                TimeUnit.NANOSECONDS.toMillis(mongoNanos),
+                TimeUnit.NANOSECONDS.toMillis(redisNanos),
+                String.format("%.2f", (double) mongoNanos / redisNanos));
+        assertThat(redisNanos).isPositive();
+    }
+
+    private long measure(String name, SessionStore store) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runRound(name, store);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            runRound(name, store);
+        }
+        long elapsed = System.nanoTime() - start;
+        for (int u = 0; u < USERS; u++) {
+            store.deleteAll(userId(name, u));
+        }
+        return elapsed;
+    }
+
+    // 로그인 1회 + 인증 요청 5회(조회/활동 갱신) + 로그아웃 1회
+    private void runRound(String name, SessionStore store) {
+        for (int u = 0; u < USERS; u++) {
+            String userId = userId(name, u);
+            String sessionId = "s-" + System.nanoTime();
+            store.replace(session(userId, sessionId));
+            for (int r = 0; r < 5; r++) {
+                store.findByUserId(userId);
+                store.touch(userId, sessionId, Instant.now().toEpochMilli(), Instant.now().plusSeconds(1800));
+            }
+            store.delete(userId, sessionId);
+        }
+    }
+
+    private String userId(String name, int index) {
+        return "bench-" + name + "-" + index;
+    }
+
+    private Session session(String userId, String sessionId) {
+        long now = Instant.now().toEpochMilli();
+        return Session.builder()
+                .userId(userId)
+                .sessionId(sessionId)
+                .createdAt(now)
+                .lastActivity(now)
+                .metadata(new SessionMetadata("Benchmark", "127.0.0.1", "Desktop"))
+                .expiresAt(Instant.now().plusSeconds(1800))
+                .build();
+    }
+}
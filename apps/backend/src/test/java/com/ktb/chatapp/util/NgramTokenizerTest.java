@@ -0,0 +1,62 @@
+package com.ktb.chatapp.util;
+
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NgramTokenizer 테스트")
+class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("음절 단위 1-gram, 2-gram과 초성 토큰을 색인")
+    void indexTokens_koreanSyllablesAndInitials() {
+        // when
+        Set<String> tokens = NgramTokenizer.indexTokens("카톡 방");
+
+        // then
+        assertThat(tokens).containsExactlyInAnyOrder(
+                "카", "톡", "방", "카톡", "톡방",
+                "#ㅋ", "#ㅌ", "#ㅂ", "#ㅋㅌ", "#ㅌㅂ");
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백을 무시하고 정규화")
+    void normalize_ignoresCaseAndWhitespace() {
+        assertThat(NgramTokenizer.normalize("  Spring  Boot 스터디 ")).isEqualTo("springboot스터디");
+        assertThat(NgramTokenizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 색인 토큰의 부분집합")
+    void queryTokens_areSubsetOfIndexTokens() {
+        // given
+        Set<String> indexed = NgramTokenizer.indexTokens("자바 스프링 스터디");
+
+        // then
+        assertThat(NgramTokenizer.queryTokens("스프링")).containsExactly("스프", "프링");
+        assertThat(NgramTokenizer.queryTokens("바 스")).containsExactly("바스");
+        assertThat(NgramTokenizer.queryTokens("링")).containsExactly("링");
+        assertThat(indexed).containsAll(NgramTokenizer.queryTokens("스프링 스터"));
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성 토큰으로 검색")
+    void queryTokens_initialsQuery() {
+        // when
+        String normalized = NgramTokenizer.normalize("ㅅㅍㄹ");
+
+        // then
+        assertThat(NgramTokenizer.isInitialsQuery(normalized)).isTrue();
+        assertThat(NgramTokenizer.queryTokens("ㅅㅍㄹ")).containsExactly("#ㅅㅍ", "#ㅍㄹ");
+        assertThat(NgramTokenizer.indexTokens("스프링")).contains("#ㅅㅍ", "#ㅍㄹ");
+        assertThat(NgramTokenizer.initials("스프링 abc")).isEqualTo("ㅅㅍㄹ abc");
+    }
+
+    @Test
+    @DisplayName("이모지 같은 보조 문자도 한 글자로 취급")
+    void indexTokens_supplementaryCharacters() {
+        assertThat(NgramTokenizer.indexTokens("🔥방")).contains("🔥", "🔥방");
+    }
+}
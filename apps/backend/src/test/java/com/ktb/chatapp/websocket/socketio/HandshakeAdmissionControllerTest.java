@@ -0,0 +1,120 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HandshakeAdmissionController 테스트")
+class HandshakeAdmissionControllerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private HandshakeAdmissionController controller(int maxConcurrent) {
+        return new HandshakeAdmissionController(maxConcurrent, 8, 1000L, 500L, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("한도를 지정하지 않으면 워커 스레드 수의 절반")
+    void limit_unset_halfOfWorkers() {
+        // when
+        HandshakeAdmissionController controller = controller(0);
+
+        // then
+        assertThat(controller.getLimit()).isEqualTo(4);
+        assertThat(meterRegistry.get("socketio.handshake.limit").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("워커 스레드 수 이상의 한도는 거절이 일어나도록 워커 수 - 1로 낮춤")
+    void limit_atLeastWorkers_clampedBelowWorkers() {
+        // when
+        HandshakeAdmissionController controller = controller(32);
+
+        // then
+        assertThat(controller.getLimit()).isEqualTo(7);
+        for (int i = 0; i < 7; i++) {
+            assertThat(controller.tryAdmit().admitted()).isTrue();
+        }
+        assertThat(controller.tryAdmit().admitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("슬롯이 남아 있으면 즉시 허가")
+    void tryAdmit_slotAvailable_admitted() {
+        // given
+        HandshakeAdmissionController controller = controller(2);
+
+        // when
+        HandshakeAdmission admission = controller.tryAdmit();
+
+        // then
+        assertThat(admission.admitted()).isTrue();
+        assertThat(controller.getInFlight()).isEqualTo(1);
+        assertThat(meterRegistry.get("socketio.handshake.admission").tag("result", "admitted").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("슬롯이 없으면 기다리지 않고 지터가 포함된 재시도 힌트와 함께 즉시 거절")
+    void tryAdmit_saturated_rejectedImmediatelyWithRetryAfter() {
+        // given
+        HandshakeAdmissionController controller = controller(1);
+        controller.tryAdmit();
+
+        // when
+        long start = System.nanoTime();
+        HandshakeAdmission rejected = controller.tryAdmit();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(rejected.admitted()).isFalse();
+        assertThat(rejected.reason()).isEqualTo(HandshakeAdmissionController.REJECT_SATURATED);
+        assertThat(rejected.retryAfterMs()).isBetween(1000L, 1500L);
+        assertThat(elapsedMs).isLessThan(100L);
+        assertThat(meterRegistry.get("socketio.handshake.admission").tag("reason", "saturated").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("슬롯을 반환하면 다음 핸드셰이크가 허가되고 처리 시간이 기록됨")
+    void release_freesSlot() {
+        // given
+        HandshakeAdmissionController controller = controller(1);
+        HandshakeAdmission first = controller.tryAdmit();
+
+        // when
+        controller.release(first, true);
+        HandshakeAdmission next = controller.tryAdmit();
+
+        // then
+        assertThat(next.admitted()).isTrue();
+        assertThat(controller.getInFlight()).isEqualTo(1);
+        assertThat(meterRegistry.get("socketio.handshake.duration").tag("result", "success").timer().count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("거절된 입장은 반환해도 슬롯이 늘지 않음")
+    void release_rejectedAdmission_ignored() {
+        // given
+        HandshakeAdmissionController controller = controller(1);
+        controller.tryAdmit();
+        HandshakeAdmission rejected = controller.tryAdmit();
+
+        // when
+        controller.release(rejected, false);
+
+        // then
+        assertThat(controller.tryAdmit().admitted()).isFalse();
+        assertThat(controller.getInFlight()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,169 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiRequestGovernor 테스트")
+class AiRequestGovernorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> started;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        started = new ArrayList<>();
+    }
+
+    private AiRequestGovernor governor(int maxConcurrent, int maxPerRoom, int maxPerUser, int maxQueue) {
+        return new AiRequestGovernor(maxConcurrent, maxPerRoom, maxPerUser, maxQueue, 10, 1, 10, meterRegistry);
+    }
+
+    private AiStreamRequest request(String messageId, String roomId, String userId) {
+        return new AiStreamRequest(messageId, roomId, userId, "wayneAI", "질문", System.currentTimeMillis(), null, "");
+    }
+
+    private AiAdmission submit(AiRequestGovernor governor, AiStreamRequest request) {
+        return governor.submit(request, r -> started.add(r.messageId()));
+    }
+
+    @Test
+    @DisplayName("방 한도를 넘은 요청은 대기열 순번과 함께 대기")
+    void submit_roomLimitReached_queuedWithPosition() {
+        // given
+        AiRequestGovernor governor = governor(10, 1, 5, 100);
+        assertThat(submit(governor, request("m1", "room-a", "u1")).started()).isTrue();
+
+        // when
+        AiAdmission second = submit(governor, request("m2", "room-a", "u2"));
+        AiAdmission third = submit(governor, request("m3", "room-a", "u3"));
+
+        // then
+        assertThat(second.queued()).isTrue();
+        assertThat(second.position()).isEqualTo(1);
+        assertThat(third.position()).isEqualTo(2);
+        assertThat(governor.getActive()).isEqualTo(1);
+        assertThat(governor.getQueued()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자별 한도는 방이 달라도 적용")
+    void submit_userLimitAcrossRooms() {
+        // given
+        AiRequestGovernor governor = governor(10, 5, 1, 100);
+        submit(governor, request("m1", "room-a", "u1"));
+
+        // when
+        AiAdmission admission = submit(governor, request("m2", "room-b", "u1"));
+
+        // then
+        assertThat(admission.queued()).isTrue();
+    }
+
+    @Test
+    @DisplayName("슬롯이 비면 방들을 번갈아 가며 대기 요청을 시작")
+    void release_dispatchesRoundRobinAcrossRooms() {
+        // given
+        AiRequestGovernor governor = governor(1, 5, 5, 100);
+        AiStreamRequest running = request("m0", "room-x", "u0");
+        submit(governor, running);
+        submit(governor, request("a1", "room-a", "u1"));
+        submit(governor, request("a2", "room-a", "u2"));
+        submit(governor, request("a3", "room-a", "u3"));
+        submit(governor, request("b1", "room-b", "u4"));
+
+        // when
+        governor.release(running);
+        governor.release(request("a1", "room-a", "u1"));
+        governor.release(request("b1", "room-b", "u4"));
+
+        // then
+        assertThat(started).containsExactly("a1", "b1", "a2");
+    }
+
+    @Test
+    @DisplayName("요청자가 방을 떠나면 대기 요청을 버리고 시작하지 않음")
+    void dropQueued_requesterLeft() {
+        // given
+        AiRequestGovernor governor = governor(1, 1, 1, 100);
+        AiStreamRequest running = request("m0", "room-a", "u0");
+        submit(governor, running);
+        submit(governor, request("m1", "room-a", "u1"));
+
+        // when
+        List<AiStreamRequest> dropped = governor.dropQueued("room-a", "u1");
+        governor.release(running);
+
+        // then
+        assertThat(dropped).extracting(AiStreamRequest::messageId).containsExactly("m1");
+        assertThat(started).isEmpty();
+        assertThat(governor.getQueued()).isZero();
+        assertThat(meterRegistry.get("ai.requests.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전체 대기열이 가득 차면 거절")
+    void submit_queueFull_rejected() {
+        // given
+        AiRequestGovernor governor = governor(1, 1, 1, 1);
+        submit(governor, request("m0", "room-a", "u0"));
+        submit(governor, request("m1", "room-b", "u1"));
+
+        // when
+        AiAdmission admission = submit(governor, request("m2", "room-c", "u2"));
+
+        // then
+        assertThat(admission.isRejected()).isTrue();
+        assertThat(admission.reason()).isEqualTo(AiRequestGovernor.REJECT_QUEUE_FULL);
+        assertThat(meterRegistry.get("ai.requests.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("백그라운드 호출은 사용자 슬롯과 대기열을 쓰지 않음")
+    void submitBackground_doesNotUseUserSlots() {
+        // given: 사용자 요청이 노드 한도를 채움
+        AiRequestGovernor governor = governor(1, 1, 1, 100);
+        assertThat(submit(governor, request("m0", "room-a", "u0")).started()).isTrue();
+
+        // when
+        AiAdmission background = governor.submitBackground(request("s1", "room-a", "system"), r -> { });
+        AiAdmission user = submit(governor, request("m1", "room-a", "u1"));
+
+        // then: 백그라운드는 바로 시작되고 사용자 대기열 순번은 사용자 요청만 센다
+        assertThat(background.started()).isTrue();
+        assertThat(user.position()).isEqualTo(1);
+        assertThat(governor.getActive()).isEqualTo(1);
+        assertThat(governor.getActiveBackground()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("백그라운드 한도가 차면 백그라운드 대기열에서 기다렸다가 반환 시 시작, 가득 차면 거절")
+    void submitBackground_limitReached_queuedThenRejected() {
+        // given: 백그라운드 한도 1, 대기열 10
+        AiRequestGovernor governor = governor(10, 10, 10, 100);
+        AiStreamRequest running = request("s0", "room-a", "system");
+        assertThat(governor.submitBackground(running, r -> started.add(r.messageId())).started()).isTrue();
+        for (int i = 1; i <= 10; i++) {
+            assertThat(governor.submitBackground(request("s" + i, "room-" + i, "system"),
+                    r -> started.add(r.messageId())).queued()).isTrue();
+        }
+
+        // when
+        AiAdmission rejected = governor.submitBackground(request("s11", "room-11", "system"), r -> { });
+        governor.releaseBackground(running);
+
+        // then
+        assertThat(rejected.reason()).isEqualTo(AiRequestGovernor.REJECT_BACKGROUND_QUEUE_FULL);
+        assertThat(started).containsExactly("s1");
+        assertThat(governor.getActiveBackground()).isEqualTo(1);
+        assertThat(governor.getQueuedBackground()).isEqualTo(9);
+        assertThat(governor.getActive()).isZero();
+    }
+}
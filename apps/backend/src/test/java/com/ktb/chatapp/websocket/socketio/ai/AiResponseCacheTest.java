@@ -0,0 +1,120 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.model.AiType;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AiResponseCache 테스트")
+class AiResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AiResponseCache(meterRegistry, Duration.ofMinutes(10), 100, Duration.ZERO, 4);
+    }
+
+    private static String join(List<ChunkData> chunks) {
+        StringBuilder content = new StringBuilder();
+        chunks.forEach(chunk -> content.append(chunk.currentChunk()));
+        return content.toString();
+    }
+
+    @Test
+    @DisplayName("대소문자, 공백, 끝 문장부호가 달라도 같은 키")
+    void key_normalizesQuery() {
+        assertThat(AiResponseCache.key(AiType.WAYNE_AI, null, "  오늘   일정?? "))
+                .isEqualTo(AiResponseCache.key(AiType.WAYNE_AI, null, "오늘 일정"));
+        assertThat(AiResponseCache.key(AiType.WAYNE_AI, null, "Hello World!"))
+                .isEqualTo(AiResponseCache.key(AiType.WAYNE_AI, null, "hello world"));
+        assertThat(AiResponseCache.key(AiType.WAYNE_AI, null, "오늘 일정"))
+                .isNotEqualTo(AiResponseCache.key(AiType.CONSULTING_AI, null, "오늘 일정"));
+        assertThat(AiResponseCache.key(AiType.WAYNE_AI, null, " ?! ")).isNull();
+        assertThat(AiResponseCache.key(AiType.WAYNE_AI, "room-1", "오늘 일정"))
+                .isNotEqualTo(AiResponseCache.key(AiType.WAYNE_AI, null, "오늘 일정"));
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 저장된 답변을 조각내어 재생하고 절약한 시간을 기록")
+    void replay_hit_streamsStoredAnswer() {
+        // given
+        cache.put(AiType.WAYNE_AI, null, "오늘 일정?", "회의는 ```3시``` 입니다", 1500);
+
+        // when
+        List<ChunkData> chunks = cache.replay(AiType.WAYNE_AI, null, "오늘 일정").orElseThrow()
+                .collectList().block();
+
+        // then
+        assertThat(join(chunks)).isEqualTo("회의는 ```3시``` 입니다");
+        assertThat(chunks).allMatch(chunk -> chunk.currentChunk().codePointCount(0, chunk.currentChunk().length()) <= 4);
+        assertThat(meterRegistry.get("ai.cache.latency.saved").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(1500.0);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 재생하지 않음")
+    void replay_miss_empty() {
+        assertThat(cache.replay(AiType.WAYNE_AI, null, "처음 묻는 질문")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이모지는 조각 경계에서 쪼개지지 않음")
+    void split_keepsSurrogatePairs() {
+        assertThat(AiResponseCache.split("ab😀cd", 3)).containsExactly("ab😀", "cd");
+    }
+
+    @Test
+    @DisplayName("로컬 ChatModel 응답이 캐시되어 두 번째 질문은 모델을 호출하지 않음")
+    void streamResponse_secondQuery_servedFromCache() {
+        // given
+        LocalChatModel chatModel = spy(new LocalChatModel(Duration.ZERO, Duration.ZERO, 0));
+        AiService aiService = new AiService(ChatClient.builder(chatModel),
+                mock(ApplicationEventPublisher.class), mock(MessageRepository.class),
+                mock(AiStreamBroadcaster.class), mock(AiRequestGovernor.class), mock(AiStreamRegistry.class),
+                mock(AiStreamSnapshotStore.class), cache, mock(AiContextBuilder.class),
+                50, 64, 20, 8, 32, Duration.ofMinutes(2), 4000);
+        try {
+            // when
+            String first = join(aiService.streamResponse(session("오늘 일정?")).collectList().block());
+            Flux<ChunkData> second = aiService.streamResponse(session("오늘   일정"));
+
+            // then
+            StepVerifier.create(second.map(ChunkData::currentChunk).reduce(String::concat))
+                    .expectNext(first)
+                    .verifyComplete();
+            verify(chatModel, times(1)).stream(any(Prompt.class));
+            assertThat(cache.getCache().stats().hitCount()).isEqualTo(1);
+        } finally {
+            aiService.shutdown();
+        }
+    }
+
+    private StreamingSession session(String query) {
+        return StreamingSession.builder()
+                .messageId("wayneAI-1")
+                .roomId("room-1")
+                .userId("user-1")
+                .aiType("wayneAI")
+                .query(query)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.event.AiMessageCompleteEvent;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiStreamHandler 테스트")
+class AiStreamHandlerTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final String MESSAGE_ID = "wayneAI-1";
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AiStreamBroadcaster broadcaster;
+
+    @Mock
+    private Subscription subscription;
+
+    private StreamingSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = StreamingSession.builder()
+                .messageId(MESSAGE_ID)
+                .roomId(ROOM_ID)
+                .userId("user-1")
+                .aiType("wayneAI")
+                .query("질문")
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    private AiStreamHandler handler(int snapshotInterval, int batchSize) {
+        return new AiStreamHandler(session, broadcaster, eventPublisher, null, snapshotInterval, batchSize);
+    }
+
+    @Test
+    @DisplayName("청크는 순번과 delta만 전달하고 스냅샷 간격마다 전체 내용을 포함")
+    void onNext_sendsDeltaWithPeriodicSnapshot() {
+        // given
+        AiStreamHandler handler = handler(2, 8);
+        handler.onSubscribe(subscription);
+
+        // when
+        handler.onNext(handler.accept(ChunkData.from("가")));
+        handler.onNext(handler.accept(ChunkData.from("나")));
+        handler.onNext(handler.accept(ChunkData.from("다")));
+
+        // then
+        ArgumentCaptor<AiStreamFrame> frames = ArgumentCaptor.forClass(AiStreamFrame.class);
+        ArgumentCaptor<String> snapshots = ArgumentCaptor.forClass(String.class);
+        verify(broadcaster, times(3)).sendChunk(eq(ROOM_ID), eq(MESSAGE_ID), frames.capture(), snapshots.capture());
+
+        assertThat(frames.getAllValues()).extracting(AiStreamFrame::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(frames.getAllValues()).extracting(AiStreamFrame::delta).containsExactly("가", "나", "다");
+        assertThat(snapshots.getAllValues()).containsExactly(null, "가나", null);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("버퍼 초과로 프레임이 버려지면 다음 프레임에 해당 시점까지의 전체 내용을 포함")
+    void onFrameDropped_nextFrameCarriesSnapshot() {
+        // given
+        AiStreamHandler handler = handler(100, 8);
+        handler.onSubscribe(subscription);
+        AiStreamFrame dropped = handler.accept(ChunkData.from("버려진 "));
+        AiStreamFrame delivered = handler.accept(ChunkData.from("프레임"));
+        handler.accept(ChunkData.from(" 이후 내용"));
+
+        // when
+        handler.onFrameDropped(dropped);
+        handler.onNext(delivered);
+
+        // then
+        verify(broadcaster).recordDropped();
+        verify(broadcaster).sendChunk(ROOM_ID, MESSAGE_ID, delivered, "버려진 프레임");
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 처리한 뒤 다음 배치를 요청")
+    void onNext_requestsInBatches() {
+        // given
+        AiStreamHandler handler = handler(100, 2);
+        handler.onSubscribe(subscription);
+
+        // when
+        handler.onNext(handler.accept(ChunkData.from("a")));
+        handler.onNext(handler.accept(ChunkData.from("b")));
+        handler.onNext(handler.accept(ChunkData.from("c")));
+
+        // then
+        verify(subscription, times(2)).request(2);
+    }
+
+    @Test
+    @DisplayName("완료 이벤트는 모든 청크 방송 이후 누적된 전체 내용으로 발행")
+    void deliver_completionOrderedAfterChunks() {
+        // given
+        AiStreamHandler handler = handler(100, 2);
+        Flux<ChunkData> chunks = Flux.just("Hello", ", ", "world").map(ChunkData::from);
+        Scheduler scheduler = Schedulers.newSingle("ai-broadcast-test");
+
+        try {
+            // when
+            AiService.deliver(chunks, handler, scheduler, 4).subscribe(handler);
+
+            // then
+            ArgumentCaptor<AiMessageCompleteEvent> captor = ArgumentCaptor.forClass(AiMessageCompleteEvent.class);
+            verify(eventPublisher, timeout(5_000)).publishEvent(captor.capture());
+            assertThat(captor.getValue().getContent()).isEqualTo("Hello, world");
+
+            InOrder inOrder = inOrder(broadcaster, eventPublisher);
+            inOrder.verify(broadcaster, times(3)).sendChunk(eq(ROOM_ID), eq(MESSAGE_ID), any(), isNull());
+            inOrder.verify(eventPublisher).publishEvent(any(AiMessageCompleteEvent.class));
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("프레임 간격 안에 도착한 토큰은 하나의 청크로 병합")
+    void coalesce_mergesTokensWithinFrame() {
+        // given
+        Flux<ChunkData> tokens = Flux.just("a", "b", "c")
+                .map(ChunkData::from)
+                .concatWith(Flux.just(ChunkData.from("d")).delaySubscription(Duration.ofMillis(200)));
+
+        // when & then
+        StepVerifier.withVirtualTime(() -> AiService.coalesce(tokens, Duration.ofMillis(50), 64))
+                .thenAwait(Duration.ofMillis(50))
+                .assertNext(frame -> assertThat(frame.currentChunk()).isEqualTo("abc"))
+                .thenAwait(Duration.ofMillis(300))
+                .assertNext(frame -> assertThat(frame.currentChunk()).isEqualTo("d"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,172 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiStreamRegistry 테스트")
+class AiStreamRegistryTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private AiStreamBroadcaster broadcaster;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new AiStreamRegistry(roomRepository, meterRegistry);
+    }
+
+    private AiStreamHandler handler(String messageId, Subscription subscription) {
+        StreamingSession session = StreamingSession.builder()
+                .messageId(messageId)
+                .roomId(ROOM_ID)
+                .userId("user-1")
+                .aiType("wayneAI")
+                .query("질문")
+                .timestamp(System.currentTimeMillis())
+                .build();
+        AiStreamHandler handler = new AiStreamHandler(session, broadcaster, eventPublisher, null, 0, 8);
+        handler.onSubscribe(subscription);
+        return handler;
+    }
+
+    private Room room(String... participantIds) {
+        Room room = new Room();
+        room.setParticipantIds(new HashSet<>(Set.of(participantIds)));
+        return room;
+    }
+
+    @Test
+    @DisplayName("등록/해제에 따라 활성 스트림 게이지가 갱신")
+    void registerAndUnregister_updatesGauge() {
+        // given
+        AiStreamHandler handler = handler("m1", mock(Subscription.class));
+
+        // when
+        registry.register(handler);
+
+        // then
+        assertThat(meterRegistry.get("ai.streams.active").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.getStreams(ROOM_ID)).containsExactly(handler);
+
+        // when
+        registry.unregister(handler);
+        registry.unregister(handler);
+
+        // then
+        assertThat(registry.getActiveStreams()).isZero();
+        assertThat(meterRegistry.get("ai.streams.rooms").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("방에 참가자가 남지 않으면 진행 중인 스트림을 모두 취소")
+    void cancelIfUnattended_emptyRoom_cancelsStreams() {
+        // given
+        Subscription first = mock(Subscription.class);
+        Subscription second = mock(Subscription.class);
+        registry.register(handler("m1", first));
+        registry.register(handler("m2", second));
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room()));
+
+        // when
+        int cancelled = registry.cancelIfUnattended(ROOM_ID);
+
+        // then
+        assertThat(cancelled).isEqualTo(2);
+        verify(first).cancel();
+        verify(second).cancel();
+        assertThat(registry.getActiveStreams()).isZero();
+        assertThat(meterRegistry.get("ai.streams.cancelled").tag("reason", "unattended").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("남은 참가자가 있으면 스트림 유지")
+    void cancelIfUnattended_participantsRemain_keepsStreams() {
+        // given
+        Subscription subscription = mock(Subscription.class);
+        registry.register(handler("m1", subscription));
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room("user-2")));
+
+        // when
+        int cancelled = registry.cancelIfUnattended(ROOM_ID);
+
+        // then
+        assertThat(cancelled).isZero();
+        verify(subscription, never()).cancel();
+        assertThat(registry.getActiveStreams()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트림이 없는 방은 저장소를 조회하지 않음")
+    void cancelIfUnattended_noStreams_skipsLookup() {
+        // when
+        int cancelled = registry.cancelIfUnattended(ROOM_ID);
+
+        // then
+        assertThat(cancelled).isZero();
+        verifyNoInteractions(roomRepository);
+    }
+
+    @Test
+    @DisplayName("토큰 한도에 도달하면 업스트림을 끊고 정상 완료")
+    void enforceBudget_tokenLimit_truncates() {
+        // given
+        List<String> reasons = new ArrayList<>();
+        Flux<ChunkData> chunks = Flux.range(0, 100).map(i -> new ChunkData("t" + i, false));
+
+        // when & then
+        StepVerifier.create(AiService.enforceBudget(chunks, 3, Duration.ofMinutes(1), reasons::add))
+                .expectNextCount(3)
+                .verifyComplete();
+        assertThat(reasons).containsExactly(AiStreamRegistry.TRUNCATED_TOKEN_BUDGET);
+    }
+
+    @Test
+    @DisplayName("시간 한도를 넘기면 그때까지의 내용으로 완료")
+    void enforceBudget_wallClockLimit_truncates() {
+        // given
+        List<String> reasons = new ArrayList<>();
+
+        // when & then
+        StepVerifier.withVirtualTime(() -> AiService.enforceBudget(
+                        Flux.interval(Duration.ofSeconds(1)).map(i -> new ChunkData("t" + i, false)),
+                        100, Duration.ofMillis(3500), reasons::add))
+                .thenAwait(Duration.ofSeconds(4))
+                .expectNextCount(3)
+                .verifyComplete();
+        assertThat(reasons).containsExactly(AiStreamRegistry.TRUNCATED_WALL_CLOCK);
+    }
+}
@@ -0,0 +1,159 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiStreamSnapshotStore 테스트")
+class AiStreamSnapshotStoreTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final String KEY = AiStreamSnapshotStore.KEY_PREFIX + ROOM_ID;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StreamingSession session;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        session = StreamingSession.builder()
+                .messageId("wayneAI-1")
+                .roomId(ROOM_ID)
+                .userId("user-1")
+                .aiType("wayneAI")
+                .query("질문")
+                .timestamp(1_000L)
+                .build();
+    }
+
+    private AiStreamSnapshotStore store(Duration writeInterval, int maxContentLength) {
+        return new AiStreamSnapshotStore(stringRedisTemplate, objectMapper, new SimpleMeterRegistry(),
+                writeInterval, Duration.ofSeconds(30), maxContentLength);
+    }
+
+    private AiStreamFrame append(String delta) {
+        long sequence = session.appendContent(delta);
+        return new AiStreamFrame(sequence, delta, session.getContentLength(), false, System.nanoTime());
+    }
+
+    @Test
+    @DisplayName("기록 간격 안의 프레임은 Redis에 쓰지 않음")
+    void onFrame_withinInterval_throttled() {
+        // given
+        AiStreamSnapshotStore.Writer writer = store(Duration.ofHours(1), 100).open(session);
+
+        // when
+        writer.onFrame(append("안녕"));
+        writer.onFrame(append("하세요"));
+
+        // then: 시작 시 빈 스냅샷 한 번만 기록
+        verify(hashOperations, times(1)).put(eq(KEY), eq("wayneAI-1"), anyString());
+        verify(stringRedisTemplate).expire(KEY, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 스트림은 앞부분만 저장하고 이어 붙일 수 없다고 표시")
+    void onFrame_overMaxLength_marksTruncated() throws Exception {
+        // given
+        AiStreamSnapshotStore.Writer writer = store(Duration.ZERO, 5).open(session);
+
+        // when
+        writer.onFrame(append("0123456789"));
+
+        // then
+        ArgumentCaptor<Object> json = ArgumentCaptor.forClass(Object.class);
+        verify(hashOperations, times(2)).put(eq(KEY), eq("wayneAI-1"), json.capture());
+        AiStreamSnapshot snapshot = objectMapper.readValue(json.getValue().toString(), AiStreamSnapshot.class);
+        assertThat(snapshot.content()).isEqualTo("01234");
+        assertThat(snapshot.sequence()).isEqualTo(1);
+        assertThat(snapshot.truncated()).isTrue();
+        assertThat(snapshot.aiType()).isEqualTo("wayneAI");
+    }
+
+    @Test
+    @DisplayName("최대 길이 안의 스트림은 전체 내용을 저장하고 이어 붙일 수 있다고 표시")
+    void onFrame_withinMaxLength_resumable() throws Exception {
+        // given
+        AiStreamSnapshotStore.Writer writer = store(Duration.ZERO, 10).open(session);
+
+        // when
+        writer.onFrame(append("01234"));
+        writer.onFrame(append("56789"));
+
+        // then
+        ArgumentCaptor<Object> json = ArgumentCaptor.forClass(Object.class);
+        verify(hashOperations, times(3)).put(eq(KEY), eq("wayneAI-1"), json.capture());
+        AiStreamSnapshot snapshot = objectMapper.readValue(json.getValue().toString(), AiStreamSnapshot.class);
+        assertThat(snapshot.content()).isEqualTo("0123456789");
+        assertThat(snapshot.sequence()).isEqualTo(2);
+        assertThat(snapshot.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료 시 스냅샷 삭제")
+    void close_removesSnapshot() {
+        // given
+        AiStreamSnapshotStore.Writer writer = store(Duration.ZERO, 100).open(session);
+
+        // when
+        writer.close();
+
+        // then
+        verify(hashOperations).delete(KEY, "wayneAI-1");
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 스냅샷은 조회에서 제외하고 시작 순서대로 반환")
+    void findByRoom_skipsStaleAndSortsByStart() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        entries.put("b", objectMapper.writeValueAsString(new AiStreamSnapshot("b", "wayneAI", "둘", 3, false, 200, now)));
+        entries.put("a", objectMapper.writeValueAsString(new AiStreamSnapshot("a", "consultingAI", "하나", 5, false, 100, now)));
+        entries.put("old", objectMapper.writeValueAsString(
+                new AiStreamSnapshot("old", "wayneAI", "", 0, false, 50, now - Duration.ofMinutes(5).toMillis())));
+        when(hashOperations.entries(KEY)).thenReturn(entries);
+
+        // when
+        List<AiStreamSnapshot> snapshots = store(Duration.ZERO, 100).findByRoom(ROOM_ID);
+
+        // then
+        assertThat(snapshots).extracting(AiStreamSnapshot::messageId).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 빈 목록 반환")
+    void findByRoom_redisFailure_returnsEmpty() {
+        // given
+        when(hashOperations.entries(any())).thenThrow(new IllegalStateException("down"));
+
+        // when & then
+        assertThat(store(Duration.ZERO, 100).findByRoom(ROOM_ID)).isEmpty();
+    }
+}
@@ -0,0 +1,149 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageContent;
+import com.ktb.chatapp.event.AiMessageCompleteEvent;
+import com.ktb.chatapp.event.AiMessageErrorEvent;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * AI 스트리밍 처리량 벤치마크
+ * LocalChatModel을 업스트림으로 AiService → AiStreamHandler → AiStreamBroadcaster 경로를 그대로 돌려
+ * N개의 동시 스트림(M개 방에 분산)의 청크 처리량, 방송 지연 분위수, 청크당 할당량, GC 부하를 측정한다.
+ * 소켓 전송은 스텁으로 대체하므로 네트워크 인코딩 비용은 포함되지 않는다.
+ * 실행: mvn test -Dtest=AiStreamingBenchmarkTest -Dbenchmark=true
+ *      [-Dbenchmark.streams=200 -Dbenchmark.rooms=20 -Dbenchmark.tokens=300 -Dbenchmark.token-delay-ms=5 -Dbenchmark.jitter-ms=5]
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("AI 스트리밍 벤치마크")
+class AiStreamingBenchmarkTest {
+
+    private static final int STREAMS = Integer.getInteger("benchmark.streams", 200);
+    private static final int ROOMS = Integer.getInteger("benchmark.rooms", 20);
+    private static final int TOKENS = Integer.getInteger("benchmark.tokens", 300);
+    private static final Duration TOKEN_DELAY = Duration.ofMillis(Long.getLong("benchmark.token-delay-ms", 5));
+    private static final Duration JITTER = Duration.ofMillis(Long.getLong("benchmark.jitter-ms", 5));
+
+    @Test
+    @DisplayName("N개 동시 스트림의 처리량과 방송 지연 측정")
+    void streamThroughput() throws Exception {
+        // 워밍업 후 측정
+        run(Math.max(1, STREAMS / 10), false);
+        Result result = run(STREAMS, true);
+
+        assertThat(result.failed()).isZero();
+        assertThat(result.framesSent()).isPositive();
+    }
+
+    private Result run(int streams, boolean report) throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch finished = new CountDownLatch(streams);
+        AtomicInteger failed = new AtomicInteger();
+        ApplicationEventPublisher eventPublisher = event -> {
+            if (event instanceof AiMessageCompleteEvent) {
+                finished.countDown();
+            } else if (event instanceof AiMessageErrorEvent) {
+                failed.incrementAndGet();
+                finished.countDown();
+            }
+        };
+
+        SocketIOServer socketIOServer = mock(SocketIOServer.class, withSettings().stubOnly());
+        when(socketIOServer.getRoomOperations(anyString()))
+                .thenReturn(mock(BroadcastOperations.class, withSettings().stubOnly()));
+        AiStreamSnapshotStore snapshotStore = mock(AiStreamSnapshotStore.class, withSettings().stubOnly());
+        when(snapshotStore.open(any())).thenReturn(mock(AiStreamSnapshotStore.Writer.class, withSettings().stubOnly()));
+
+        AiStreamBroadcaster broadcaster = new AiStreamBroadcaster(socketIOServer, meterRegistry);
+        AiService aiService = new AiService(
+                ChatClient.builder(new LocalChatModel(TOKEN_DELAY, JITTER, TOKENS)),
+                eventPublisher,
+                mock(MessageRepository.class),
+                broadcaster,
+                new AiRequestGovernor(streams, streams, streams, streams, streams, 2, 100, meterRegistry),
+                new AiStreamRegistry(mock(RoomRepository.class), meterRegistry),
+                snapshotStore,
+                new AiResponseCache(meterRegistry, Duration.ofMinutes(1), 0, Duration.ZERO, 8),
+                mock(AiContextBuilder.class, withSettings().stubOnly()),
+                50, 64, 20, 8, 32, Duration.ofMinutes(5), TOKENS + 1);
+
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadBean.getTotalThreadAllocatedBytes();
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMillis();
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < streams; i++) {
+                aiService.handleAIMentions("room-" + (i % ROOMS), "user-" + i,
+                        MessageContent.from("@wayneAI 벤치마크 질문 " + i));
+            }
+            assertThat(finished.await(5, TimeUnit.MINUTES)).isTrue();
+        } finally {
+            aiService.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threadBean.getTotalThreadAllocatedBytes() - allocatedBefore;
+        long chunks = (long) streams * TOKENS;
+        long framesSent = (long) meterRegistry.get("ai.stream.frames").tag("result", "sent").counter().count();
+        long framesDropped = (long) meterRegistry.get("ai.stream.frames").tag("result", "dropped").counter().count();
+
+        if (report) {
+            Timer latency = meterRegistry.get("ai.stream.broadcast.latency").timer();
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            log.info("AI streaming benchmark - streams: {}, rooms: {}, tokens/stream: {}, tokenDelay: {}, jitter: {}",
+                    streams, ROOMS, TOKENS, TOKEN_DELAY, JITTER);
+            log.info("  elapsed: {} s, chunks/sec: {}, frames/sec: {}, frames dropped: {}",
+                    String.format("%.2f", seconds),
+                    String.format("%.0f", chunks / seconds),
+                    String.format("%.0f", framesSent / seconds),
+                    framesDropped);
+            for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+                log.info("  broadcast latency p{}: {} ms",
+                        String.format("%.0f", percentile.percentile() * 100),
+                        String.format("%.3f", percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            log.info("  allocation: {} bytes/chunk, GC: {} collections, {} ms",
+                    allocated / chunks, gcCount() - gcCountBefore, gcTimeMillis() - gcTimeBefore);
+        }
+        return new Result(failed.get(), framesSent);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcTimeMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    private record Result(int failed, long framesSent) {
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
@@ -187,4 +188,20 @@ class ChunkDataTest {
         assertThat(chunkData.currentChunk()).isEqualTo(chunk);
         assertThat(chunkData.codeBlock()).isEqualTo(codeBlock);
     }
+
+    @Test
+    @DisplayName("프레임 병합 시 내용은 이어 붙이고 코드 블록 상태는 마지막 청크를 따름")
+    void merge_concatenatesAndKeepsLastCodeBlockState() {
+        // given
+        List<ChunkData> frame = List.of(
+                new ChunkData("안녕", false),
+                new ChunkData("하세요 ```", true));
+
+        // when
+        ChunkData merged = ChunkData.merge(frame);
+
+        // then
+        assertThat(merged.currentChunk()).isEqualTo("안녕하세요 ```");
+        assertThat(merged.codeBlock()).isTrue();
+    }
 }
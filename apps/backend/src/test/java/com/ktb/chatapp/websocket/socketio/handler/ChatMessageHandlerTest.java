@@ -3,17 +3,17 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.dto.ChatMessageRequest;
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.AsyncMessagingService;
 import com.ktb.chatapp.service.RateLimitCheckResult;
 import com.ktb.chatapp.service.RateLimitService;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
+import com.ktb.chatapp.service.UserCacheService;
 import com.ktb.chatapp.util.BannedWordChecker;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
@@ -44,7 +44,7 @@ class ChatMessageHandlerTest {
         @Mock
         private RoomRepository roomRepository;
         @Mock
-        private UserRepository userRepository;
+        private UserCacheService userCacheService;
         @Mock
         private FileRepository fileRepository;
         @Mock
@@ -67,7 +67,7 @@ class ChatMessageHandlerTest {
                                 socketIOServer,
                                 messageRepository,
                                 roomRepository,
-                                userRepository,
+                                userCacheService,
                                 fileRepository,
                                 aiService,
                                 sessionService,
@@ -92,9 +92,7 @@ class ChatMessageHandlerTest {
                 when(rateLimitService.checkRateLimit(eq(socketUser.id()), anyInt(), any()))
                                 .thenReturn(allowedResult);
 
-                User user = new User();
-                user.setId("user-1");
-                when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
+                when(userCacheService.getUser("user-1")).thenReturn(new UserSummary("user-1", "tester", null, null));
 
                 Room room = new Room();
                 room.setId("room-1");
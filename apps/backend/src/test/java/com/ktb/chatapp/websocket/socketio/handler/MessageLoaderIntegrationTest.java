@@ -3,6 +3,7 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.ktb.chatapp.config.MongoTestContainer;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.User;
@@ -79,8 +80,9 @@ class MessageLoaderIntegrationTest {
         userRepository.save(testUser);
 
         // UserCacheService Mock 동작 설정
-        when(userCacheService.getUsers(anySet())).thenReturn(Map.of(userId, testUser));
-        when(userCacheService.getUser(userId)).thenReturn(testUser);
+        UserSummary summary = UserSummary.from(testUser);
+        when(userCacheService.getUsers(anySet())).thenReturn(Map.of(userId, summary));
+        when(userCacheService.getUser(userId)).thenReturn(summary);
 
         // MessageLoader 인스턴스 생성
         messageLoader = new MessageLoader(
@@ -2,8 +2,8 @@ package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.UserSummary;
 import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
@@ -66,11 +66,7 @@ class MessageLoaderTest {
                 new MessageResponseMapper(fileRepository),
                 messageReadStatusService);
 
-        var testUser = User.builder()
-                .id(userId)
-                .name(faker.name().fullName())
-                .email(faker.internet().emailAddress())
-                .build();
+        var testUser = new UserSummary(userId, faker.name().fullName(), faker.internet().emailAddress(), null);
 
         // 테스트 메시지 50개 생성 (오름차순: 오래된 것 → 최신 것)
         // i=0: 50시간 전, i=1: 49시간 전, ... i=49: 1시간 전
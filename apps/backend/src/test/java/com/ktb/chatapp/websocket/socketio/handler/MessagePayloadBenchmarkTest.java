@@ -0,0 +1,127 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserSummary;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.FileRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 메시지 페이지 직렬화 크기 벤치마크
+ * 1,000명 방에서 모든 참여자가 읽고 일부가 리액션한 30개 메시지 페이지를
+ * 이전 형식(readers 목록, 리액션 사용자 ID 전체)과 현재 형식(readCount/readByMe, 리액션 요약)으로 직렬화해 비교한다.
+ * 실행: mvn test -Dtest=MessagePayloadBenchmarkTest -Dbenchmark=true
+ *      [-Dbenchmark.members=1000 -Dbenchmark.page-size=30 -Dbenchmark.iterations=200]
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("메시지 페이로드 벤치마크")
+class MessagePayloadBenchmarkTest {
+
+    private static final int MEMBERS = Integer.getInteger("benchmark.members", 1000);
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 30);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final MessageResponseMapper mapper = new MessageResponseMapper(mock(FileRepository.class));
+
+    @Test
+    @DisplayName("대형 방 메시지 페이지의 직렬화 크기와 시간 측정")
+    void pagePayload() throws Exception {
+        // given
+        List<String> memberIds = IntStream.range(0, MEMBERS).mapToObj(i -> "66f0c0ffee" + String.format("%014d", i)).toList();
+        UserSummary sender = new UserSummary(memberIds.getFirst(), "보낸 사람", "sender@example.com", null);
+        List<Message> page = IntStream.range(0, PAGE_SIZE).mapToObj(i -> fixture(i, memberIds)).toList();
+        String viewerId = memberIds.getLast();
+
+        // when
+        long legacyBytes = 0;
+        long currentBytes = 0;
+        for (Message message : page) {
+            legacyBytes += objectMapper.writeValueAsBytes(legacy(message, sender)).length;
+            currentBytes += objectMapper.writeValueAsBytes(mapper.mapToMessageResponse(message, sender, viewerId)).length;
+        }
+        long legacyNanos = time(() -> page.forEach(message -> write(legacy(message, sender))));
+        long currentNanos = time(() -> page.forEach(message -> write(mapper.mapToMessageResponse(message, sender, viewerId))));
+
+        // then
+        log.info("Message payload benchmark - members: {}, page size: {}", MEMBERS, PAGE_SIZE);
+        log.info("  legacy : {} bytes/page, {} ms/page", legacyBytes, String.format("%.3f", legacyNanos / 1_000_000.0));
+        log.info("  current: {} bytes/page, {} ms/page", currentBytes, String.format("%.3f", currentNanos / 1_000_000.0));
+        log.info("  reduction: {}x", String.format("%.0f", (double) legacyBytes / currentBytes));
+        assertThat(currentBytes * 100).isLessThan(legacyBytes);
+    }
+
+    private Message fixture(int index, List<String> memberIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Message.MessageReader> readers = new ArrayList<>(memberIds.size());
+        memberIds.forEach(id -> readers.add(new Message.MessageReader(id, now)));
+        Map<String, Set<String>> reactions = new HashMap<>();
+        Map<String, Integer> reactionCounts = new HashMap<>();
+        List.of("👍", "❤️", "😂").forEach(emoji -> {
+            Set<String> users = new LinkedHashSet<>(memberIds.subList(0, memberIds.size() / 3));
+            reactions.put(emoji, users);
+            reactionCounts.put(emoji, users.size());
+        });
+        return Message.builder()
+                .id("msg-" + index)
+                .roomId("room-1")
+                .senderId(memberIds.getFirst())
+                .content("대형 방 벤치마크 메시지 " + index)
+                .type(MessageType.text)
+                .timestamp(now)
+                .readers(readers)
+                .readCount(readers.size())
+                .reactions(reactions)
+                .reactionCounts(reactionCounts)
+                .build();
+    }
+
+    /**
+     * 이전 형식: 현재 응답에 readers 목록과 리액션 사용자 ID 전체를 그대로 실은 형태
+     */
+    private ObjectNode legacy(Message message, UserSummary sender) {
+        ObjectNode node = objectMapper.valueToTree(mapper.mapToMessageResponse(message, sender));
+        node.remove(List.of("readCount", "readByMe"));
+        node.set("readers", objectMapper.valueToTree(message.getReaders()));
+        node.set("reactions", objectMapper.valueToTree(message.getReactions()));
+        return node;
+    }
+
+    private void write(Object value) {
+        try {
+            objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long time(Runnable pageWork) {
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            pageWork.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            pageWork.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.FileRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageResponseMapper 테스트")
+class MessageResponseMapperTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private MessageResponseMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new MessageResponseMapper(fileRepository);
+    }
+
+    private Message message(Integer readCount, List<Message.MessageReader> readers) {
+        return Message.builder()
+                .id("m1")
+                .roomId("room-1")
+                .senderId("sender")
+                .content("안녕하세요")
+                .type(MessageType.text)
+                .timestamp(LocalDateTime.now())
+                .readCount(readCount)
+                .readers(readers)
+                .build();
+    }
+
+    @Test
+    @DisplayName("읽은 사용자 목록 대신 저장된 읽음 수와 본인 읽음 여부를 보냄")
+    void map_usesReadCountAndViewerFlag() {
+        // given
+        Message message = message(1000, new ArrayList<>(List.of(new Message.MessageReader("u1", LocalDateTime.now()))));
+
+        // when
+        MessageResponse forReader = mapper.mapToMessageResponse(message, null, "u1");
+        MessageResponse forOther = mapper.mapToMessageResponse(message, null, "u2");
+        MessageResponse forSender = mapper.mapToMessageResponse(message, null, "sender");
+
+        // then
+        assertThat(forReader.getReadCount()).isEqualTo(1000);
+        assertThat(forReader.isReadByMe()).isTrue();
+        assertThat(forOther.isReadByMe()).isFalse();
+        assertThat(forSender.isReadByMe()).isTrue();
+    }
+
+    @Test
+    @DisplayName("읽음 수가 없는 이전 문서는 readers 크기로 대신함")
+    void map_legacyDocument_fallsBackToReadersSize() {
+        // given
+        Message message = message(null, new ArrayList<>(List.of(
+                new Message.MessageReader("u1", LocalDateTime.now()),
+                new Message.MessageReader("u2", LocalDateTime.now()))));
+
+        // when
+        MessageResponse response = mapper.mapToMessageResponse(message, null);
+
+        // then
+        assertThat(response.getReadCount()).isEqualTo(2);
+        assertThat(response.isReadByMe()).isFalse();
+    }
+}
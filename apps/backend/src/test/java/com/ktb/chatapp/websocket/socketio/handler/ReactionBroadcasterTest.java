@@ -0,0 +1,152 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageReactionResponse;
+import com.ktb.chatapp.dto.ReactionSummary;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE_REACTION_UPDATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactionBroadcaster 테스트")
+class ReactionBroadcasterTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final String MESSAGE_ID = "message-1";
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private BroadcastOperations roomOperations;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private ReactionBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(socketIOServer.getRoomOperations(ROOM_ID)).thenReturn(roomOperations);
+        // 자동 전송이 테스트 중에 끼어들지 않도록 창을 길게 두고 flush를 직접 호출한다
+        broadcaster = new ReactionBroadcaster(
+                socketIOServer, messageRepository, new SimpleMeterRegistry(), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    private Message updated(Map<String, Set<String>> reactions) {
+        Map<String, Integer> counts = new HashMap<>();
+        reactions.forEach((reaction, users) -> counts.put(reaction, users.size()));
+        return Message.builder().id(MESSAGE_ID).roomId(ROOM_ID).reactions(reactions).reactionCounts(counts).build();
+    }
+
+    private MessageReactionResponse sentResponse() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(roomOperations).sendEvent(eq(MESSAGE_REACTION_UPDATE), captor.capture());
+        return (MessageReactionResponse) captor.getValue();
+    }
+
+    @Test
+    @DisplayName("창 안의 변경이 한 번이면 갱신 결과를 다시 읽지 않고 전송")
+    void flush_singleUpdate_sendsReturnedState() {
+        // given
+        broadcaster.submit(updated(Map.of("👍", Set.of("u1"))));
+
+        // when
+        broadcaster.flush(MESSAGE_ID);
+
+        // then
+        ReactionSummary summary = sentResponse().getReactions().get("👍");
+        assertThat(summary.getCount()).isEqualTo(1);
+        assertThat(summary.getUsers()).containsExactly("u1");
+        assertThat(summary.getReacted()).isNull();
+        verifyNoInteractions(messageRepository);
+        assertThat(broadcaster.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("창 안의 여러 변경은 최종 상태를 한 번만 전송")
+    void flush_coalescedUpdates_sendsOnceWithLatestState() {
+        // given
+        broadcaster.submit(updated(Map.of("👍", Set.of("u1"))));
+        broadcaster.submit(updated(Map.of("👍", Set.of("u1", "u2"))));
+        broadcaster.submit(updated(Map.of("👍", Set.of("u2"))));
+        when(messageRepository.findReactionsById(MESSAGE_ID))
+                .thenReturn(Optional.of(updated(Map.of("👍", Set.of("u2"), "🎉", Set.of("u3")))));
+
+        // when
+        broadcaster.flush(MESSAGE_ID);
+        broadcaster.flush(MESSAGE_ID);
+
+        // then
+        Map<String, ReactionSummary> reactions = sentResponse().getReactions();
+        assertThat(reactions).containsOnlyKeys("👍", "🎉");
+        assertThat(reactions.get("👍").getUsers()).containsExactly("u2");
+    }
+
+    @Test
+    @DisplayName("창이 0이면 즉시 전송")
+    void submit_zeroWindow_sendsImmediately() {
+        // given
+        broadcaster.shutdown();
+        broadcaster = new ReactionBroadcaster(
+                socketIOServer, messageRepository, new SimpleMeterRegistry(), Duration.ZERO);
+
+        // when
+        broadcaster.submit(updated(Map.of()));
+
+        // then
+        verify(roomOperations).sendEvent(eq(MESSAGE_REACTION_UPDATE), any(MessageReactionResponse.class));
+        assertThat(broadcaster.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("창이 지나면 자동으로 전송")
+    void submit_windowElapses_flushesAutomatically() {
+        // given
+        broadcaster.shutdown();
+        broadcaster = new ReactionBroadcaster(
+                socketIOServer, messageRepository, new SimpleMeterRegistry(), Duration.ofMillis(20));
+
+        // when
+        broadcaster.submit(updated(Map.of("👍", Set.of("u1"))));
+
+        // then
+        verify(roomOperations, timeout(2000))
+                .sendEvent(eq(MESSAGE_REACTION_UPDATE), any(MessageReactionResponse.class));
+    }
+
+    @Test
+    @DisplayName("필드 경로로 해석될 수 있는 리액션은 거부")
+    void isValidReaction() {
+        assertThat(MessageReactionHandler.isValidReaction("👍")).isTrue();
+        assertThat(MessageReactionHandler.isValidReaction("a.b")).isFalse();
+        assertThat(MessageReactionHandler.isValidReaction("$set")).isFalse();
+        assertThat(MessageReactionHandler.isValidReaction(" ")).isFalse();
+        assertThat(MessageReactionHandler.isValidReaction(null)).isFalse();
+    }
+}
@@ -0,0 +1,243 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.RoomListDelta;
+import com.ktb.chatapp.dto.RoomListSubscription;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.ROOM_LIST_DELTA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomListFeed 테스트")
+class RoomListFeedTest {
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private BroadcastOperations listOperations;
+
+    @Mock
+    private BroadcastOperations searchOperations;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private SocketIOClient client;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomListFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(socketIOServer.getRoomOperations(RoomListFeed.CHANNEL)).thenReturn(listOperations);
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        // 자동 전송이 테스트 중에 끼어들지 않도록 창을 길게 두고 flush를 직접 호출한다
+        feed = new RoomListFeed(socketIOServer, stringRedisTemplate, new ObjectMapper(), meterRegistry,
+                Duration.ofMinutes(1), 3, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    private static RoomResponse room(String id, String name) {
+        return RoomResponse.builder()
+                .id(id)
+                .name(name)
+                .isCreator(true)
+                .createdAtDateTime(LocalDateTime.of(2025, 11, 18, 12, 0))
+                .build();
+    }
+
+    private List<RoomListDelta> sentFrames(BroadcastOperations operations, int times) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(operations, times(times)).sendEvent(eq(ROOM_LIST_DELTA), captor.capture());
+        return captor.getAllValues().stream().map(RoomListDelta.class::cast).toList();
+    }
+
+    @Test
+    @DisplayName("창 안의 생성/변경을 한 프레임으로 모아 최신순으로 보내고 version을 잇는다")
+    void flush_coalescesIntoOneFrame() {
+        // given
+        feed.submit(room("room-1", "첫 방"), true);
+        feed.submit(room("room-2", "둘째 방"), true);
+        feed.submit(room("room-1", "첫 방 (수정)"), false);
+        feed.submit(room("room-9", "오래된 방"), false);
+
+        // when
+        feed.flush();
+        feed.submit(room("room-3", "셋째 방"), true);
+        feed.flush();
+
+        // then
+        List<RoomListDelta> frames = sentFrames(listOperations, 2);
+        RoomListDelta first = frames.get(0);
+        assertThat(first.created()).extracting(RoomResponse::getId).containsExactly("room-2", "room-1");
+        assertThat(first.created().get(1).getName()).isEqualTo("첫 방 (수정)");
+        assertThat(first.created()).extracting("isCreator").containsOnly(false);
+        assertThat(first.updated()).extracting(RoomResponse::getId).containsExactly("room-9");
+        assertThat(first.previousVersion()).isNull();
+        assertThat(frames.get(1).previousVersion()).isEqualTo(first.version());
+        assertThat(frames.get(1).node()).isEqualTo(first.node());
+    }
+
+    @Test
+    @DisplayName("보낼 변경이 없으면 프레임을 보내지 않음")
+    void flush_nothingPending_noFrame() {
+        // when
+        feed.flush();
+
+        // then
+        verifyNoInteractions(socketIOServer);
+    }
+
+    @Test
+    @DisplayName("생성 방이 프레임 한도를 넘으면 최신 방만 남기고 truncated 표시")
+    void flush_overflow_truncates() {
+        // given: 한도 3
+        for (int i = 1; i <= 5; i++) {
+            feed.submit(room("room-" + i, "방 " + i), true);
+        }
+
+        // when
+        feed.flush();
+
+        // then
+        RoomListDelta frame = sentFrames(listOperations, 1).getFirst();
+        assertThat(frame.truncated()).isTrue();
+        assertThat(frame.resync()).isFalse();
+        assertThat(frame.created()).extracting(RoomResponse::getId).containsExactly("room-5", "room-4", "room-3");
+    }
+
+    @Test
+    @DisplayName("변경 방이 프레임 한도를 넘으면 resync로 표시해 목록을 다시 읽게 함")
+    void flush_updatedOverflow_requestsResync() {
+        // given: 한도 3
+        for (int i = 1; i <= 4; i++) {
+            feed.submit(room("room-" + i, "방 " + i), false);
+        }
+
+        // when
+        feed.flush();
+
+        // then
+        RoomListDelta frame = sentFrames(listOperations, 1).getFirst();
+        assertThat(frame.resync()).isTrue();
+        assertThat(frame.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("빠진 방이 검색어에 맞을 때만 검색 채널에 resync를 보내고 truncated는 보내지 않음")
+    void flush_overflow_resyncsOnlyMatchingSearchChannels() {
+        // given: 한도 3, 가장 오래된 '자바 스터디'만 빠짐
+        when(zSetOperations.rangeByScore(eq(RoomListFeed.QUERIES_KEY), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("스터디", "잡담"));
+        BroadcastOperations chatOperations = mock(BroadcastOperations.class);
+        when(socketIOServer.getRoomOperations(RoomListFeed.SEARCH_CHANNEL_PREFIX + "스터디")).thenReturn(searchOperations);
+        when(socketIOServer.getRoomOperations(RoomListFeed.SEARCH_CHANNEL_PREFIX + "잡담")).thenReturn(chatOperations);
+        feed.submit(room("room-1", "자바 스터디"), true);
+        for (int i = 2; i <= 4; i++) {
+            feed.submit(room("room-" + i, "잡담 " + i), true);
+        }
+
+        // when
+        feed.flush();
+
+        // then
+        RoomListDelta studyFrame = sentFrames(searchOperations, 1).getFirst();
+        assertThat(studyFrame.resync()).isTrue();
+        assertThat(studyFrame.truncated()).isFalse();
+        RoomListDelta chatFrame = sentFrames(chatOperations, 1).getFirst();
+        assertThat(chatFrame.resync()).isFalse();
+        assertThat(chatFrame.truncated()).isFalse();
+        assertThat(chatFrame.created()).extracting(RoomResponse::getId).containsExactly("room-4", "room-3", "room-2");
+    }
+
+    @Test
+    @DisplayName("검색 채널에는 이름이 검색어에 맞는 방만 보내고 전송 바이트를 수신자 수만큼 집계")
+    void flush_searchChannel_receivesMatchesOnly() {
+        // given: 다른 노드에서 '스터디'를 구독 중
+        when(zSetOperations.rangeByScore(eq(RoomListFeed.QUERIES_KEY), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("스터디", "ㅇㄱ"));
+        when(socketIOServer.getRoomOperations(RoomListFeed.SEARCH_CHANNEL_PREFIX + "스터디")).thenReturn(searchOperations);
+        when(listOperations.getClients()).thenReturn(List.of(client, client));
+        feed.submit(room("room-1", "자바 스터디"), true);
+        feed.submit(room("room-2", "잡담방"), true);
+
+        // when
+        feed.flush();
+
+        // then: 'ㅇㄱ'(초성)에 맞는 방은 없으므로 그 채널은 건너뜀
+        RoomListDelta searchFrame = sentFrames(searchOperations, 1).getFirst();
+        assertThat(searchFrame.created()).extracting(RoomResponse::getId).containsExactly("room-1");
+        verify(socketIOServer, never()).getRoomOperations(RoomListFeed.SEARCH_CHANNEL_PREFIX + "ㅇㄱ");
+        assertThat(meterRegistry.get("socketio.room-list.fanout.bytes").counter().count()).isGreaterThan(0);
+        assertThat(meterRegistry.get("socketio.room-list.frames").tag("channel", "search").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독 범위를 바꾸면 이전 채널에서 나가고 검색어를 등록")
+    void joinRoomList_switchesChannel() {
+        // given
+        when(client.get("user")).thenReturn(new SocketUser("user-1", "사용자", "session", "socket"));
+        when(client.get("roomListChannel")).thenReturn(RoomListFeed.CHANNEL);
+
+        // when
+        feed.handleJoinRoomList(client, new RoomListSubscription("  Java Study "));
+
+        // then
+        verify(client).leaveRoom(RoomListFeed.CHANNEL);
+        verify(client).joinRoom(RoomListFeed.SEARCH_CHANNEL_PREFIX + "javastudy");
+        verify(client).set("roomListChannel", RoomListFeed.SEARCH_CHANNEL_PREFIX + "javastudy");
+        verify(zSetOperations).add(eq(RoomListFeed.QUERIES_KEY), anySet());
+    }
+
+    @Test
+    @DisplayName("검색어 없이 구독하면 첫 페이지 채널만 구독")
+    void joinRoomList_withoutQuery_joinsListChannel() {
+        // given
+        when(client.get("user")).thenReturn(new SocketUser("user-1", "사용자", "session", "socket"));
+
+        // when
+        feed.handleJoinRoomList(client, null);
+
+        // then
+        verify(client).joinRoom(RoomListFeed.CHANNEL);
+        verify(client, never()).leaveRoom(anyString());
+        verify(zSetOperations, never()).add(anyString(), any(Set.class));
+    }
+}
@@ -56,7 +56,7 @@ const MessageActions = ({
   const handleReactionSelect = useCallback((emoji) => {
     try {
       const emojiChar = emoji.native || emoji;
-      const hasReacted = reactions?.[emojiChar]?.includes(currentUserId);
+      const hasReacted = reactions?.[emojiChar]?.reacted;
 
       if (hasReacted) {
         onReactionRemove?.(messageId, emojiChar);
@@ -76,7 +76,9 @@ const MessageActions = ({
     }));
   }, []);
 
-  const getReactionTooltip = useCallback((emoji, userIds) => {
+  // 리액션 요약에는 앞쪽 일부 사용자만 포함되므로 나머지는 인원수로 표시
+  const getReactionTooltip = useCallback((emoji, summary) => {
+    const userIds = summary?.users;
     if (!userIds || !room?.participants) {
       return '';
     }
@@ -115,7 +117,10 @@ const MessageActions = ({
       return a.localeCompare(b);
     });
 
-    return uniqueUsers.join(', ');
+    const others = (summary.count || 0) - userIds.length;
+    return others > 0
+      ? `${uniqueUsers.join(', ')} 외 ${others}명`
+      : uniqueUsers.join(', ');
   }, [currentUserId, room]);
 
   const renderReactions = useCallback(() => {
@@ -125,14 +130,14 @@ const MessageActions = ({
 
     return (
       <HStack gap="$050">
-        {Object.entries(reactions).map(([emoji, users]) => {
+        {Object.entries(reactions).map(([emoji, summary]) => {
           const reactionId = `reaction-${messageId}-${emoji}`;
 
           if (!reactionRefs.current[emoji]) {
             reactionRefs.current[emoji] = React.createRef();
           }
 
-          const tooltipContent = getReactionTooltip(emoji, users);
+          const tooltipContent = getReactionTooltip(emoji, summary);
 
           return (
             <Button
@@ -152,7 +157,7 @@ const MessageActions = ({
               data-testid={`message-reaction-${emoji}`}
             >
               <span className="text-base">{emoji}</span>
-              <span className="text-xs font-medium">{users.length}</span>
+              <span className="text-xs font-medium">{summary.count}</span>
             </Button>
           );
         })}
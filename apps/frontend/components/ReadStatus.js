@@ -5,7 +5,8 @@ import { Text, HStack } from '@vapor-ui/core';
 const ReadStatus = ({ 
   messageType = 'text',
   participants = [],
-  readers = [],
+  readCount = 0,
+  readByMe = false,
   className = '',
   socketRef = null,
   messageId = null,
@@ -16,25 +17,13 @@ const ReadStatus = ({
   const statusRef = useRef(null);
   const observerRef = useRef(null);
 
-  // 읽지 않은 참여자 명단 생성 
-  const unreadParticipants = useMemo(() => {
-    if (messageType === 'system') return [];
-    
-    return participants.filter(participant => 
-      !readers.some(reader => 
-        reader.userId === participant._id || 
-        reader.userId === participant.id
-      )
-    );
-  }, [participants, readers, messageType]);
-
-  // 읽지 않은 참여자 수 계산
+  // 읽지 않은 참여자 수 계산 (서버는 읽은 사용자 명단 대신 읽은 수만 보냄)
   const unreadCount = useMemo(() => {
     if (messageType === 'system') {
       return 0;
     }
-    return unreadParticipants.length;
-  }, [unreadParticipants.length, messageType]);
+    return Math.max(0, participants.length - readCount);
+  }, [participants.length, readCount, messageType]);
 
   // 메시지를 읽음으로 표시하는 함수
   const markMessageAsRead = useCallback(async () => {
@@ -63,11 +52,7 @@ const ReadStatus = ({
     }
 
     // 이미 읽은 메시지인지 확인
-    const isAlreadyRead = readers.some(reader => 
-      reader.userId === currentUserId
-    );
-
-    if (isAlreadyRead) {
+    if (readByMe) {
       setHasMarkedAsRead(true);
       return;
     }
@@ -94,7 +79,7 @@ const ReadStatus = ({
         observerRef.current.disconnect();
       }
     };
-  }, [messageRef, currentUserId, hasMarkedAsRead, messageType, readers, markMessageAsRead]);
+  }, [messageRef, currentUserId, hasMarkedAsRead, messageType, readByMe, markMessageAsRead]);
 
   // 시스템 메시지는 읽음 상태 표시 안 함
   if (messageType === 'system') {
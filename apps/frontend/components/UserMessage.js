@@ -82,7 +82,8 @@ const UserMessage = ({
             <ReadStatus
               messageType={msg.type}
               participants={room?.participants || []}
-              readers={msg.readers || []}
+              readCount={msg.readCount || 0}
+              readByMe={msg.readByMe || false}
               messageId={msg._id}
               messageRef={messageDomRef}
               currentUserId={currentUser?._id || currentUser?.id}
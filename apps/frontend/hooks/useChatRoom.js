@@ -219,27 +219,18 @@ export const useChatRoom = () => {
       }));
     });
 
-    // 읽음 상태 업데이트 이벤트 (메시지 목록의 readers 배열 업데이트)
-    socketRef.current.on('messagesRead', ({ userId, messageIds, timestamp }) => {
+    // 읽음 상태 업데이트 이벤트 (새로 읽음 처리된 메시지만 오므로 읽은 수를 1씩 올림)
+    socketRef.current.on('messagesRead', ({ userId, messageIds }) => {
       if (!mountedRef.current) return;
 
+      const myId = currentUser?._id || currentUser?.id;
       setMessages(prev => prev.map(msg => {
-        // 해당 메시지가 읽음 처리된 메시지인지 확인
         if (messageIds.includes(msg._id)) {
-          // 이미 읽은 사용자인지 확인
-          const alreadyRead = msg.readers?.some(reader => 
-            reader.userId === userId || reader._id === userId
-          );
-          
-          if (!alreadyRead) {
-            return {
-              ...msg,
-              readers: [
-                ...(msg.readers || []),
-                { userId, readAt: timestamp || new Date() }
-              ]
-            };
-          }
+          return {
+            ...msg,
+            readCount: (msg.readCount || 0) + 1,
+            readByMe: msg.readByMe || userId === myId
+          };
         }
         return msg;
       }));
@@ -321,7 +312,7 @@ export const useChatRoom = () => {
       setError(error.message || '채팅 연결에 문제가 발생했습니다.');
     });
 
-  }, [processMessages, setHasMoreMessages, cleanup, handleReactionUpdate, setLoadingMessages, setError, logout]);
+  }, [processMessages, setHasMoreMessages, cleanup, handleReactionUpdate, setLoadingMessages, setError, logout, currentUser]);
 
   // Room handling hook initialization
   const {
@@ -17,15 +17,15 @@ export const useReactionHandling = (socketRef, currentUser, messages, setMessage
         prevMessages.map(msg => {
           if (msg._id === messageId) {
             const currentReactions = msg.reactions || {};
-            const currentUsers = currentReactions[reaction] || [];
+            const current = currentReactions[reaction] || { count: 0, users: [] };
             
             // 중복 추가 방지
-            if (!currentUsers.includes(currentUser.id)) {
+            if (!current.reacted) {
               return {
                 ...msg,
                 reactions: {
                   ...currentReactions,
-                  [reaction]: [...currentUsers, currentUser.id]
+                  [reaction]: { ...current, count: current.count + 1, reacted: true }
                 }
               };
             }
@@ -66,13 +66,18 @@ export const useReactionHandling = (socketRef, currentUser, messages, setMessage
         prevMessages.map(msg => {
           if (msg._id === messageId) {
             const currentReactions = msg.reactions || {};
-            const currentUsers = currentReactions[reaction] || [];
+            const current = currentReactions[reaction];
+            if (!current?.reacted) {
+              return msg;
+            }
+            const rest = { ...currentReactions };
+            delete rest[reaction];
+            const count = current.count - 1;
             return {
               ...msg,
-              reactions: {
-                ...currentReactions,
-                [reaction]: currentUsers.filter(id => id !== currentUser.id)
-              }
+              reactions: count > 0
+                ? { ...rest, [reaction]: { ...current, count, reacted: false, users: (current.users || []).filter(id => id !== currentUser.id) } }
+                : rest
             };
           }
           return msg;
@@ -100,13 +105,27 @@ export const useReactionHandling = (socketRef, currentUser, messages, setMessage
     }
   }, [socketRef, currentUser, messages, setMessages]);
 
+  // 방 전체 방송에는 reacted가 없으므로 (null) 내 리액션 여부는 기존 값을 유지한다
   const handleReactionUpdate = useCallback(({ messageId, reactions }) => {
     setMessages(prevMessages => 
-      prevMessages.map(msg => 
-        msg._id === messageId ? { ...msg, reactions } : msg
-      )
+      prevMessages.map(msg => {
+        if (msg._id !== messageId) {
+          return msg;
+        }
+        const previous = msg.reactions || {};
+        const merged = Object.fromEntries(
+          Object.entries(reactions || {}).map(([emoji, summary]) => [
+            emoji,
+            {
+              ...summary,
+              reacted: summary.reacted ?? (summary.users?.includes(currentUser?.id) || previous[emoji]?.reacted || false)
+            }
+          ])
+        );
+        return { ...msg, reactions: merged };
+      })
     );
-  }, [setMessages]);
+  }, [setMessages, currentUser]);
 
   return {
     handleReactionAdd,
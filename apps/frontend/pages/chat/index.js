@@ -167,6 +167,11 @@ function ChatRoomsComponent() {
   const isLoadingRef = useRef(false);
   const previousRoomsRef = useRef([]);
   const lastLoadedPageRef = useRef(0);
+  // 서버가 내려준 다음 페이지 커서 (검색/활동량 정렬처럼 커서가 없으면 page로 요청)
+  const nextCursorRef = useRef(null);
+  // roomListDelta 프레임의 노드별 마지막 version (어긋나면 놓친 프레임이 있으므로 목록을 다시 읽음)
+  const deltaVersionsRef = useRef({});
+  const fetchRoomsRef = useRef(null);
 
   const getRetryDelay = useCallback((retryCount) => {
     const delay = RETRY_CONFIG.baseDelay *
@@ -325,6 +330,9 @@ function ChatRoomsComponent() {
         return data;
       });
 
+      if (!isLoadingMore) {
+        nextCursorRef.current = metadata.nextCursor ?? null;
+      }
       setHasMore(data.length === pageSize && metadata.hasMore);
 
       if (isInitialLoad) {
@@ -367,7 +375,8 @@ function ChatRoomsComponent() {
           page: nextPage,
           pageSize,
           sortField: sorting[0]?.id,
-          sortOrder: sorting[0]?.desc ? 'desc' : 'asc'
+          sortOrder: sorting[0]?.desc ? 'desc' : 'asc',
+          cursor: nextCursorRef.current ?? undefined
         }
       });
 
@@ -380,6 +389,7 @@ function ChatRoomsComponent() {
           return [...prev, ...uniqueNewRooms];
         });
 
+        nextCursorRef.current = metadata.nextCursor ?? null;
         setHasMore(newRooms.length === pageSize && metadata.hasMore);
       }
     } catch (error) {
@@ -391,6 +401,10 @@ function ChatRoomsComponent() {
     }
   }, [loadingMore, hasMore, rooms.length, pageSize, sorting, handleFetchError]);
 
+  useEffect(() => {
+    fetchRoomsRef.current = fetchRooms;
+  }, [fetchRooms]);
+
   // 페이지 인덱스 변경 시 데이터 로드
   useEffect(() => {
     if (pageIndex > 0) {
@@ -480,6 +494,7 @@ function ChatRoomsComponent() {
         const handlers = {
           connect: () => {
             setConnectionStatus(CONNECTION_STATUS.CONNECTED);
+            deltaVersionsRef.current = {};
             socket.emit('joinRoomList');
           },
           disconnect: (reason) => {
@@ -488,12 +503,40 @@ function ChatRoomsComponent() {
           error: (error) => {
             setConnectionStatus(CONNECTION_STATUS.ERROR);
           },
-          roomCreated: (newRoom) => {
+          roomListDelta: (frame) => {
+            const lastVersion = deltaVersionsRef.current[frame.node];
+            deltaVersionsRef.current[frame.node] = frame.version;
+            if (frame.resync || (lastVersion !== undefined && frame.previousVersion !== lastVersion)) {
+              fetchRoomsRef.current?.(false);
+              return;
+            }
+
+            const currentUserId = currentUser?._id || currentUser?.id;
+            const created = frame.created.map(room => ({
+              ...room,
+              isCreator: room.creator?._id === currentUserId
+            }));
+            const updates = new Map(frame.updated.map(room => [room._id, room]));
+
             setRooms(prev => {
-              const updatedRooms = [newRoom, ...prev];
-              previousRoomsRef.current = updatedRooms;
-              return updatedRooms;
+              let nextRooms;
+              if (frame.truncated) {
+                // 새 방이 한 프레임보다 많이 생겨 이어지지 않으므로 앞부분만 새 방으로 채우고 이후는 page로 읽음
+                nextCursorRef.current = null;
+                nextRooms = created;
+              } else {
+                const createdIds = new Set(created.map(room => room._id));
+                nextRooms = [...created, ...prev.filter(room => !createdIds.has(room._id))];
+              }
+              nextRooms = nextRooms.map(room => updates.has(room._id)
+                ? { ...room, ...updates.get(room._id), isCreator: room.isCreator }
+                : room);
+              previousRoomsRef.current = nextRooms;
+              return nextRooms;
             });
+            if (frame.truncated) {
+              setHasMore(true);
+            }
           },
           roomDeleted: (roomId) => {
             setRooms(prev => {
@@ -626,7 +669,7 @@ function ChatRoomsComponent() {
                 >
                   <GroupIcon />
                   <Text typography="body2">
-                    {room.participants?.length || 0}
+                    {room.participantsCount ?? room.participants?.length ?? 0}
                   </Text>
                 </HStack>
               </Table.Cell>
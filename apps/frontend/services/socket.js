@@ -89,6 +89,16 @@ class SocketService {
         reject(error);
         return;
       }
+      // 서버 과부하로 핸드셰이크가 거절된 경우 서버가 제시한 시간 이후 재시도
+      if (error.data?.code === 'HANDSHAKE_THROTTLED') {
+        const retryAfter = error.data.retryAfter || this.retryDelay;
+        setTimeout(() => {
+          if (this.socket && !this.socket.connected) {
+            this.socket.connect();
+          }
+        }, retryAfter);
+        return;
+      }
       if (error.message === 'websocket error') {
         this.reconnectAttempts++;
       }